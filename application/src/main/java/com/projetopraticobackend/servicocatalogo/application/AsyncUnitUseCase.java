@@ -0,0 +1,10 @@
+package com.projetopraticobackend.servicocatalogo.application;
+
+import java.util.concurrent.CompletionStage;
+
+/* Essa é a versão assíncrona do "UnitUseCase". O "CompletionStage" não tem nenhum valor, ele apenas avisa quando o caso
+* de uso terminou, ou se ele falhou. */
+public abstract class AsyncUnitUseCase<IN> {
+
+    public abstract CompletionStage<Void> execute(IN in);
+}
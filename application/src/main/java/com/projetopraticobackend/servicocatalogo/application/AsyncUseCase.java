@@ -0,0 +1,10 @@
+package com.projetopraticobackend.servicocatalogo.application;
+
+import java.util.concurrent.CompletionStage;
+
+/* Essa é a versão assíncrona do "UseCase". Ao invés do resultado, ela devolve um "CompletionStage", que será completado
+* quando o caso de uso terminar. Assim, quem chama o caso de uso não precisa ficar bloqueado esperando por ele. */
+public abstract class AsyncUseCase<IN, OUT> {
+
+    public abstract CompletionStage<OUT> execute(IN in);
+}
@@ -0,0 +1,9 @@
+package com.projetopraticobackend.servicocatalogo.application.category.create;
+
+import com.projetopraticobackend.servicocatalogo.application.AsyncUseCase;
+import com.projetopraticobackend.servicocatalogo.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+/* É a versão assíncrona do "CreateCategoryUseCase". O resultado é o mesmo, porém, entregue em um "CompletionStage". */
+public abstract class AsyncCreateCategoryUseCase extends AsyncUseCase<CreateCategoryCommand, Either<Notification, CreateCategoryOutput>> {
+}
@@ -0,0 +1,11 @@
+package com.projetopraticobackend.servicocatalogo.application.category.create;
+
+import java.util.List;
+
+/* É o "command" da criação em lote. Cada item é o mesmo "command" utilizado na criação de uma única categoria. */
+public record CreateCategoriesCommand(List<CreateCategoryCommand> items) {
+
+    public static CreateCategoriesCommand with(final List<CreateCategoryCommand> items) {
+        return new CreateCategoriesCommand(items);
+    }
+}
@@ -0,0 +1,25 @@
+package com.projetopraticobackend.servicocatalogo.application.category.create;
+
+import com.projetopraticobackend.servicocatalogo.domain.validation.Error;
+
+import java.util.List;
+
+/* O output terá um item para cada item do "command", na mesma ordem. Se o item foi criado, ele terá o ID da categoria.
+* Caso contrário, ele terá os erros de validação. */
+public record CreateCategoriesOutput(List<Item> items) {
+
+    public record Item(int index, String id, List<Error> errors) {
+
+        public static Item created(final int index, final String id) {
+            return new Item(index, id, List.of());
+        }
+
+        public static Item failed(final int index, final List<Error> errors) {
+            return new Item(index, null, List.copyOf(errors));
+        }
+    }
+
+    public boolean hasErrors() {
+        return this.items.stream().anyMatch(item -> !item.errors().isEmpty());
+    }
+}
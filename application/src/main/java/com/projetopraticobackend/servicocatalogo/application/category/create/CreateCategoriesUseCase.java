@@ -0,0 +1,13 @@
+package com.projetopraticobackend.servicocatalogo.application.category.create;
+
+import com.projetopraticobackend.servicocatalogo.application.UseCase;
+import com.projetopraticobackend.servicocatalogo.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+/* Esse é o caso de uso da criação de várias categorias de uma só vez.
+*
+* Os erros de validação não impedem a criação dos outros itens, eles são retornados no "CreateCategoriesOutput", item a
+* item. O "Notification" apenas será retornado se a persistência falhar, e, nesse caso, nenhuma categoria terá sido criada. */
+public abstract class CreateCategoriesUseCase extends UseCase<CreateCategoriesCommand, Either<Notification, CreateCategoriesOutput>> {
+
+}
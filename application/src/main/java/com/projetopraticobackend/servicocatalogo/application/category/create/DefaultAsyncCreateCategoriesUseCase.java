@@ -0,0 +1,26 @@
+package com.projetopraticobackend.servicocatalogo.application.category.create;
+
+import com.projetopraticobackend.servicocatalogo.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+public class DefaultAsyncCreateCategoriesUseCase extends AsyncCreateCategoriesUseCase {
+
+    private final CreateCategoriesUseCase createCategoriesUseCase;
+
+    private final Executor executor;
+
+    public DefaultAsyncCreateCategoriesUseCase(final CreateCategoriesUseCase createCategoriesUseCase, final Executor executor) {
+        this.createCategoriesUseCase = Objects.requireNonNull(createCategoriesUseCase);
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    @Override
+    public CompletionStage<Either<Notification, CreateCategoriesOutput>> execute(final CreateCategoriesCommand command) {
+        return CompletableFuture.supplyAsync(() -> this.createCategoriesUseCase.execute(command), this.executor);
+    }
+}
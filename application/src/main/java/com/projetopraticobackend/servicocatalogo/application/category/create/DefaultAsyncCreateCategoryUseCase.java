@@ -0,0 +1,29 @@
+package com.projetopraticobackend.servicocatalogo.application.category.create;
+
+import com.projetopraticobackend.servicocatalogo.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+/* A regra de negócio continua no "CreateCategoryUseCase". Aqui, apenas o executamos no "executor" recebido, que é
+* limitado, e devolvemos o "CompletionStage" imediatamente. Se o caso de uso lançar uma exceção, o "CompletionStage"
+* será completado com ela. */
+public class DefaultAsyncCreateCategoryUseCase extends AsyncCreateCategoryUseCase {
+
+    private final CreateCategoryUseCase createCategoryUseCase;
+
+    private final Executor executor;
+
+    public DefaultAsyncCreateCategoryUseCase(final CreateCategoryUseCase createCategoryUseCase, final Executor executor) {
+        this.createCategoryUseCase = Objects.requireNonNull(createCategoryUseCase);
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    @Override
+    public CompletionStage<Either<Notification, CreateCategoryOutput>> execute(final CreateCategoryCommand command) {
+        return CompletableFuture.supplyAsync(() -> this.createCategoryUseCase.execute(command), this.executor);
+    }
+}
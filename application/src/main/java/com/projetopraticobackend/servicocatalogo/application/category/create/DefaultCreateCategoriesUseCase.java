@@ -0,0 +1,62 @@
+package com.projetopraticobackend.servicocatalogo.application.category.create;
+
+import com.projetopraticobackend.servicocatalogo.domain.category.Category;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryGateway;
+import com.projetopraticobackend.servicocatalogo.domain.validation.handler.Notification;
+import io.vavr.API;
+import io.vavr.control.Either;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+public class DefaultCreateCategoriesUseCase extends CreateCategoriesUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultCreateCategoriesUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public Either<Notification, CreateCategoriesOutput> execute(final CreateCategoriesCommand createCategoriesCommand) {
+
+        final var commands = createCategoriesCommand.items();
+
+        final var items = new CreateCategoriesOutput.Item[commands.size()];
+        final var validCategories = new ArrayList<Category>();
+        final var validIndexes = new ArrayList<Integer>();
+
+        //Cada categoria é validada com o seu próprio "Notification", para sabermos a quais itens os erros pertencem.
+        for (int i = 0; i < commands.size(); i++) {
+            final var command = commands.get(i);
+            final var notification = Notification.create();
+
+            final var category = Category.newCategory(command.name(), command.description(), command.isActive());
+            category.validate(notification);
+
+            if (notification.hasError()) {
+                items[i] = CreateCategoriesOutput.Item.failed(i, notification.getErrors());
+            } else {
+                validCategories.add(category);
+                validIndexes.add(i);
+            }
+        }
+
+        if (validCategories.isEmpty()) { //Se nenhum item for válido, não precisamos ir até o banco de dados.
+            return API.Right(new CreateCategoriesOutput(List.of(items)));
+        }
+
+        //As categorias válidas são enviadas para o gateway de uma só vez, para que ele as insira em lotes.
+        return API.Try(() -> this.categoryGateway.createAll(validCategories))
+                .toEither()
+                .bimap(Notification::create, createdCategories -> {
+                    for (int i = 0; i < createdCategories.size(); i++) {
+                        final var index = validIndexes.get(i);
+                        items[index] = CreateCategoriesOutput.Item.created(index, createdCategories.get(i).getId().getValue());
+                    }
+
+                    return new CreateCategoriesOutput(List.of(items));
+                });
+    }
+}
@@ -0,0 +1,6 @@
+package com.projetopraticobackend.servicocatalogo.application.category.delete;
+
+import com.projetopraticobackend.servicocatalogo.application.AsyncUnitUseCase;
+
+public abstract class AsyncDeleteCategoriesUseCase extends AsyncUnitUseCase<DeleteCategoriesCommand> {
+}
@@ -0,0 +1,23 @@
+package com.projetopraticobackend.servicocatalogo.application.category.delete;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+public class DefaultAsyncDeleteCategoriesUseCase extends AsyncDeleteCategoriesUseCase {
+
+    private final DeleteCategoriesUseCase deleteCategoriesUseCase;
+
+    private final Executor executor;
+
+    public DefaultAsyncDeleteCategoriesUseCase(final DeleteCategoriesUseCase deleteCategoriesUseCase, final Executor executor) {
+        this.deleteCategoriesUseCase = Objects.requireNonNull(deleteCategoriesUseCase);
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    @Override
+    public CompletionStage<Void> execute(final DeleteCategoriesCommand command) {
+        return CompletableFuture.runAsync(() -> this.deleteCategoriesUseCase.execute(command), this.executor);
+    }
+}
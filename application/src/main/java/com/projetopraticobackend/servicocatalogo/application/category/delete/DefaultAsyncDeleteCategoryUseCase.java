@@ -0,0 +1,23 @@
+package com.projetopraticobackend.servicocatalogo.application.category.delete;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+public class DefaultAsyncDeleteCategoryUseCase extends AsyncDeleteCategoryUseCase {
+
+    private final DeleteCategoryUseCase deleteCategoryUseCase;
+
+    private final Executor executor;
+
+    public DefaultAsyncDeleteCategoryUseCase(final DeleteCategoryUseCase deleteCategoryUseCase, final Executor executor) {
+        this.deleteCategoryUseCase = Objects.requireNonNull(deleteCategoryUseCase);
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    @Override
+    public CompletionStage<Void> execute(final String id) {
+        return CompletableFuture.runAsync(() -> this.deleteCategoryUseCase.execute(id), this.executor);
+    }
+}
@@ -0,0 +1,32 @@
+package com.projetopraticobackend.servicocatalogo.application.category.delete;
+
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryGateway;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryID;
+
+import java.util.Objects;
+
+public class DefaultDeleteCategoriesUseCase extends DeleteCategoriesUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultDeleteCategoriesUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    /* Assim como na exclusão de uma única categoria, os IDs que não existem são ignorados. Todos os IDs são enviados
+    * para o gateway de uma só vez, ao invés de uma exclusão por categoria. */
+    @Override
+    public void execute(final DeleteCategoriesCommand command) {
+        final var ids = command.ids().stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .map(CategoryID::from)
+                .toList();
+
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        this.categoryGateway.deleteAllById(ids);
+    }
+}
@@ -0,0 +1,11 @@
+package com.projetopraticobackend.servicocatalogo.application.category.delete;
+
+import java.util.List;
+
+/* É o "command" da exclusão em lote, com os IDs de todas as categorias que serão excluídas. */
+public record DeleteCategoriesCommand(List<String> ids) {
+
+    public static DeleteCategoriesCommand with(final List<String> ids) {
+        return new DeleteCategoriesCommand(ids);
+    }
+}
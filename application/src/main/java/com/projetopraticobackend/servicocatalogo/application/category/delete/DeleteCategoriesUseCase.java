@@ -0,0 +1,7 @@
+package com.projetopraticobackend.servicocatalogo.application.category.delete;
+
+import com.projetopraticobackend.servicocatalogo.application.UnitUseCase;
+
+public abstract class DeleteCategoriesUseCase extends UnitUseCase<DeleteCategoriesCommand> {
+
+}
@@ -0,0 +1,24 @@
+package com.projetopraticobackend.servicocatalogo.application.category.retrieve.export;
+
+import com.projetopraticobackend.servicocatalogo.application.category.retrieve.list.CategoryListOutput;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryExportQuery;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryGateway;
+
+import java.util.Objects;
+
+public class DefaultExportCategoriesUseCase extends ExportCategoriesUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultExportCategoriesUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public void execute(final ExportCategoriesCommand command) {
+        final var consumer = Objects.requireNonNull(command.consumer());
+        final var query = new CategoryExportQuery(command.active(), command.updatedSince());
+
+        this.categoryGateway.exportAll(query, preview -> consumer.accept(CategoryListOutput.from(preview)));
+    }
+}
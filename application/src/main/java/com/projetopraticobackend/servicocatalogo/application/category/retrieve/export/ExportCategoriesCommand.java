@@ -0,0 +1,18 @@
+package com.projetopraticobackend.servicocatalogo.application.category.retrieve.export;
+
+import com.projetopraticobackend.servicocatalogo.application.category.retrieve.list.CategoryListOutput;
+
+import java.time.Instant;
+import java.util.function.Consumer;
+
+/* Além dos filtros, o "command" recebe quem consumirá cada categoria exportada, como a resposta HTTP. */
+public record ExportCategoriesCommand(Boolean active,
+                                      Instant updatedSince,
+                                      Consumer<CategoryListOutput> consumer) {
+
+    public static ExportCategoriesCommand with(final Boolean active,
+                                               final Instant updatedSince,
+                                               final Consumer<CategoryListOutput> consumer) {
+        return new ExportCategoriesCommand(active, updatedSince, consumer);
+    }
+}
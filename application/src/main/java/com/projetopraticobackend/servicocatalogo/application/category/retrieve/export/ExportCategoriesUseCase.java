@@ -0,0 +1,8 @@
+package com.projetopraticobackend.servicocatalogo.application.category.retrieve.export;
+
+import com.projetopraticobackend.servicocatalogo.application.UnitUseCase;
+
+/* Esse caso de uso não tem retorno, pois as categorias são entregues, uma a uma, para o "consumer" do "command". */
+public abstract class ExportCategoriesUseCase extends UnitUseCase<ExportCategoriesCommand> {
+
+}
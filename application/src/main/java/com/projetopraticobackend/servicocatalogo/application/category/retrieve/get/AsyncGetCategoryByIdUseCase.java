@@ -0,0 +1,6 @@
+package com.projetopraticobackend.servicocatalogo.application.category.retrieve.get;
+
+import com.projetopraticobackend.servicocatalogo.application.AsyncUseCase;
+
+public abstract class AsyncGetCategoryByIdUseCase extends AsyncUseCase<String, CategoryOutput> {
+}
@@ -11,7 +11,8 @@ public record CategoryOutput(CategoryID id,
                              boolean isActive,
                              Instant createdAt,
                              Instant updatedAt,
-                             Instant deletedAt) {
+                             Instant deletedAt,
+                             long version) {
 
     public static CategoryOutput from(Category category) {
         return new CategoryOutput(
@@ -21,7 +22,8 @@ public record CategoryOutput(CategoryID id,
                 category.isActive(),
                 category.getCreatedAt(),
                 category.getUpdatedAt(),
-                category.getDeletedAt()
+                category.getDeletedAt(),
+                category.getVersion()
         );
     }
 }
@@ -0,0 +1,23 @@
+package com.projetopraticobackend.servicocatalogo.application.category.retrieve.get;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+public class DefaultAsyncGetCategoryByIdUseCase extends AsyncGetCategoryByIdUseCase {
+
+    private final GetCategoryByIdUseCase getCategoryByIdUseCase;
+
+    private final Executor executor;
+
+    public DefaultAsyncGetCategoryByIdUseCase(final GetCategoryByIdUseCase getCategoryByIdUseCase, final Executor executor) {
+        this.getCategoryByIdUseCase = Objects.requireNonNull(getCategoryByIdUseCase);
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    @Override
+    public CompletionStage<CategoryOutput> execute(final String id) {
+        return CompletableFuture.supplyAsync(() -> this.getCategoryByIdUseCase.execute(id), this.executor);
+    }
+}
@@ -0,0 +1,8 @@
+package com.projetopraticobackend.servicocatalogo.application.category.retrieve.list;
+
+import com.projetopraticobackend.servicocatalogo.application.AsyncUseCase;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryCursorQuery;
+import com.projetopraticobackend.servicocatalogo.domain.pagination.CursorPagination;
+
+public abstract class AsyncListCategoriesByCursorUseCase extends AsyncUseCase<CategoryCursorQuery, CursorPagination<CategoryListOutput>> {
+}
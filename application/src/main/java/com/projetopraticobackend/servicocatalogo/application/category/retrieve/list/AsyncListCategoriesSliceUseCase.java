@@ -0,0 +1,8 @@
+package com.projetopraticobackend.servicocatalogo.application.category.retrieve.list;
+
+import com.projetopraticobackend.servicocatalogo.application.AsyncUseCase;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategorySearchQuery;
+import com.projetopraticobackend.servicocatalogo.domain.pagination.SlicePagination;
+
+public abstract class AsyncListCategoriesSliceUseCase extends AsyncUseCase<CategorySearchQuery, SlicePagination<CategoryListOutput>> {
+}
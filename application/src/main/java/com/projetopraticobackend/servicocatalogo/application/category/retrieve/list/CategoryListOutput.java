@@ -2,6 +2,7 @@ package com.projetopraticobackend.servicocatalogo.application.category.retrieve.
 
 import com.projetopraticobackend.servicocatalogo.domain.category.Category;
 import com.projetopraticobackend.servicocatalogo.domain.category.CategoryID;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryPreview;
 
 import java.time.Instant;
 
@@ -11,7 +12,8 @@ public record CategoryListOutput(CategoryID id,
                                  boolean isActive,
                                  Instant createdAt,
                                  Instant updatedAt,
-                                 Instant deletedAt) {
+                                 Instant deletedAt,
+                                 long version) {
 
     public static CategoryListOutput from(final Category category) {
         return new CategoryListOutput(
@@ -21,7 +23,21 @@ public record CategoryListOutput(CategoryID id,
                 category.isActive(),
                 category.getCreatedAt(),
                 category.getUpdatedAt(),
-                category.getDeletedAt()
+                category.getDeletedAt(),
+                category.getVersion()
+        );
+    }
+
+    public static CategoryListOutput from(final CategoryPreview preview) {
+        return new CategoryListOutput(
+                preview.id(),
+                preview.name(),
+                preview.description(),
+                preview.isActive(),
+                preview.createdAt(),
+                preview.updatedAt(),
+                preview.deletedAt(),
+                preview.version()
         );
     }
 }
@@ -0,0 +1,26 @@
+package com.projetopraticobackend.servicocatalogo.application.category.retrieve.list;
+
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryCursorQuery;
+import com.projetopraticobackend.servicocatalogo.domain.pagination.CursorPagination;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+public class DefaultAsyncListCategoriesByCursorUseCase extends AsyncListCategoriesByCursorUseCase {
+
+    private final ListCategoriesByCursorUseCase listCategoriesByCursorUseCase;
+
+    private final Executor executor;
+
+    public DefaultAsyncListCategoriesByCursorUseCase(final ListCategoriesByCursorUseCase listCategoriesByCursorUseCase, final Executor executor) {
+        this.listCategoriesByCursorUseCase = Objects.requireNonNull(listCategoriesByCursorUseCase);
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    @Override
+    public CompletionStage<CursorPagination<CategoryListOutput>> execute(final CategoryCursorQuery query) {
+        return CompletableFuture.supplyAsync(() -> this.listCategoriesByCursorUseCase.execute(query), this.executor);
+    }
+}
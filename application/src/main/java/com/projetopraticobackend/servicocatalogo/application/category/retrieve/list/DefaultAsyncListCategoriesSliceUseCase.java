@@ -0,0 +1,26 @@
+package com.projetopraticobackend.servicocatalogo.application.category.retrieve.list;
+
+import com.projetopraticobackend.servicocatalogo.domain.category.CategorySearchQuery;
+import com.projetopraticobackend.servicocatalogo.domain.pagination.SlicePagination;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+public class DefaultAsyncListCategoriesSliceUseCase extends AsyncListCategoriesSliceUseCase {
+
+    private final ListCategoriesSliceUseCase listCategoriesSliceUseCase;
+
+    private final Executor executor;
+
+    public DefaultAsyncListCategoriesSliceUseCase(final ListCategoriesSliceUseCase listCategoriesSliceUseCase, final Executor executor) {
+        this.listCategoriesSliceUseCase = Objects.requireNonNull(listCategoriesSliceUseCase);
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    @Override
+    public CompletionStage<SlicePagination<CategoryListOutput>> execute(final CategorySearchQuery query) {
+        return CompletableFuture.supplyAsync(() -> this.listCategoriesSliceUseCase.execute(query), this.executor);
+    }
+}
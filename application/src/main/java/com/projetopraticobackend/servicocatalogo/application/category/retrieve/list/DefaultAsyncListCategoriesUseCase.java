@@ -0,0 +1,26 @@
+package com.projetopraticobackend.servicocatalogo.application.category.retrieve.list;
+
+import com.projetopraticobackend.servicocatalogo.domain.category.CategorySearchQuery;
+import com.projetopraticobackend.servicocatalogo.domain.pagination.Pagination;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+public class DefaultAsyncListCategoriesUseCase extends AsyncListCategoriesUseCase {
+
+    private final ListCategoriesUseCase listCategoriesUseCase;
+
+    private final Executor executor;
+
+    public DefaultAsyncListCategoriesUseCase(final ListCategoriesUseCase listCategoriesUseCase, final Executor executor) {
+        this.listCategoriesUseCase = Objects.requireNonNull(listCategoriesUseCase);
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    @Override
+    public CompletionStage<Pagination<CategoryListOutput>> execute(final CategorySearchQuery query) {
+        return CompletableFuture.supplyAsync(() -> this.listCategoriesUseCase.execute(query), this.executor);
+    }
+}
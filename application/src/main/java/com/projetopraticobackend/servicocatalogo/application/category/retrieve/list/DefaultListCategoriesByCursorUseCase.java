@@ -0,0 +1,20 @@
+package com.projetopraticobackend.servicocatalogo.application.category.retrieve.list;
+
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryCursorQuery;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryGateway;
+import com.projetopraticobackend.servicocatalogo.domain.pagination.CursorPagination;
+
+public class DefaultListCategoriesByCursorUseCase extends ListCategoriesByCursorUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultListCategoriesByCursorUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = categoryGateway;
+    }
+
+    @Override
+    public CursorPagination<CategoryListOutput> execute(final CategoryCursorQuery categoryCursorQuery) {
+        return this.categoryGateway.findAllByCursor(categoryCursorQuery)
+                .map(CategoryListOutput::from);
+    }
+}
@@ -0,0 +1,20 @@
+package com.projetopraticobackend.servicocatalogo.application.category.retrieve.list;
+
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryGateway;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategorySearchQuery;
+import com.projetopraticobackend.servicocatalogo.domain.pagination.SlicePagination;
+
+public class DefaultListCategoriesSliceUseCase extends ListCategoriesSliceUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultListCategoriesSliceUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = categoryGateway;
+    }
+
+    @Override
+    public SlicePagination<CategoryListOutput> execute(final CategorySearchQuery categorySearchQuery) {
+        return this.categoryGateway.findSlice(categorySearchQuery)
+                .map(CategoryListOutput::from);
+    }
+}
@@ -0,0 +1,10 @@
+package com.projetopraticobackend.servicocatalogo.application.category.retrieve.list;
+
+import com.projetopraticobackend.servicocatalogo.application.UseCase;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryCursorQuery;
+import com.projetopraticobackend.servicocatalogo.domain.pagination.CursorPagination;
+
+/* Esse caso de uso lista as categorias utilizando a paginação por cursor. A paginação por "offset" continua
+* disponível através do "ListCategoriesUseCase". */
+public abstract class ListCategoriesByCursorUseCase extends UseCase<CategoryCursorQuery, CursorPagination<CategoryListOutput>> {
+}
@@ -0,0 +1,9 @@
+package com.projetopraticobackend.servicocatalogo.application.category.retrieve.list;
+
+import com.projetopraticobackend.servicocatalogo.application.UseCase;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategorySearchQuery;
+import com.projetopraticobackend.servicocatalogo.domain.pagination.SlicePagination;
+
+/* Esse caso de uso lista as categorias sem a contagem total, informando apenas se existe uma próxima página. */
+public abstract class ListCategoriesSliceUseCase extends UseCase<CategorySearchQuery, SlicePagination<CategoryListOutput>> {
+}
@@ -0,0 +1,25 @@
+package com.projetopraticobackend.servicocatalogo.application.category.retrieve.list;
+
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryGateway;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategorySearchQuery;
+import com.projetopraticobackend.servicocatalogo.domain.pagination.Pagination;
+
+/* Essa é uma outra implementação da listagem, com o mesmo resultado do "DefaultListCategoriesUseCase".
+*
+* Ao invés de buscar os agregados ("Category"), que são montados a partir das entidades do JPA, buscamos apenas o
+* modelo de leitura ("CategoryPreview"), que o gateway monta diretamente a partir do resultado da consulta. Assim,
+* cada linha gera menos objetos e nenhuma entidade fica sendo acompanhada pelo Hibernate. */
+public class ProjectedListCategoriesUseCase extends ListCategoriesUseCase {
+
+    private final CategoryGateway categoryGateway;
+
+    public ProjectedListCategoriesUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = categoryGateway;
+    }
+
+    @Override
+    public Pagination<CategoryListOutput> execute(final CategorySearchQuery categorySearchQuery) {
+        return this.categoryGateway.findAllPreviews(categorySearchQuery)
+                .map(CategoryListOutput::from);
+    }
+}
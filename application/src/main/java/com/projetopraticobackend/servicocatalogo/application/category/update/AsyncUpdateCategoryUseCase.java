@@ -0,0 +1,8 @@
+package com.projetopraticobackend.servicocatalogo.application.category.update;
+
+import com.projetopraticobackend.servicocatalogo.application.AsyncUseCase;
+import com.projetopraticobackend.servicocatalogo.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+public abstract class AsyncUpdateCategoryUseCase extends AsyncUseCase<UpdateCategoryCommand, Either<Notification, UpdateCategoryOutput>> {
+}
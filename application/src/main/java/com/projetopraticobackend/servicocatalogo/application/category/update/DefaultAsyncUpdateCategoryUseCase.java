@@ -0,0 +1,26 @@
+package com.projetopraticobackend.servicocatalogo.application.category.update;
+
+import com.projetopraticobackend.servicocatalogo.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+
+public class DefaultAsyncUpdateCategoryUseCase extends AsyncUpdateCategoryUseCase {
+
+    private final UpdateCategoryUseCase updateCategoryUseCase;
+
+    private final Executor executor;
+
+    public DefaultAsyncUpdateCategoryUseCase(final UpdateCategoryUseCase updateCategoryUseCase, final Executor executor) {
+        this.updateCategoryUseCase = Objects.requireNonNull(updateCategoryUseCase);
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    @Override
+    public CompletionStage<Either<Notification, UpdateCategoryOutput>> execute(final UpdateCategoryCommand command) {
+        return CompletableFuture.supplyAsync(() -> this.updateCategoryUseCase.execute(command), this.executor);
+    }
+}
@@ -3,12 +3,14 @@ package com.projetopraticobackend.servicocatalogo.application.category.update;
 import com.projetopraticobackend.servicocatalogo.domain.category.Category;
 import com.projetopraticobackend.servicocatalogo.domain.category.CategoryGateway;
 import com.projetopraticobackend.servicocatalogo.domain.category.CategoryID;
+import com.projetopraticobackend.servicocatalogo.domain.exceptions.ConflictException;
 import com.projetopraticobackend.servicocatalogo.domain.exceptions.DomainException;
 import com.projetopraticobackend.servicocatalogo.domain.validation.Error;
 import com.projetopraticobackend.servicocatalogo.domain.validation.handler.Notification;
 import io.vavr.control.Either;
 
 import java.util.Objects;
+import java.util.Optional;
 
 import static io.vavr.API.Try;
 
@@ -30,7 +32,12 @@ public class DefaultUpdateCategoryUseCase extends UpdateCategoryUseCase {
         boolean isActive = command.isActive();
 
         final var category =
-                this.categoryGateway.findById(id).orElseThrow(() -> DomainException.with(new Error("Category with ID %s was not found".formatted(id.getValue()))));
+                this.categoryGateway.findById(id).orElseThrow(() -> notFound(id));
+
+        //O cliente alterou uma versão da categoria que não é mais a atual, então a atualização sobrescreveria a de outra requisição.
+        if (command.expectedVersions() != null && !command.expectedVersions().contains(category.getVersion())) {
+            throw conflict(id);
+        }
 
         /* Estamos criando um "container" para armazenar os possíveis erros que podem surgir do método "update()", seguindo o
         * "NotificationPattern". */
@@ -43,10 +50,28 @@ public class DefaultUpdateCategoryUseCase extends UpdateCategoryUseCase {
         return notification.hasError() ? Either.left(notification) : update(category);
     }
 
-    //Se um erro ocorrer, ele será adicionado ao "Notification" e retornado. Caso contrário, retornará um "UpdateCategoryOutput".
+    /* Se um erro ocorrer, ele será adicionado ao "Notification" e retornado. Caso contrário, retornará um "UpdateCategoryOutput".
+    *
+    * A categoria já foi buscada e alterada acima, ou seja, já temos o seu estado completo. Por isso, utilizamos o
+    * "updateById()", que envia apenas o "UPDATE", sem buscá-la novamente no banco de dados.
+    *
+    * O "UPDATE" apenas altera a categoria se ela ainda estiver na versão que foi lida. Se nenhuma linha for alterada, outra
+    * requisição alterou (ou excluiu) a categoria depois da busca. O conflito não é um erro de validação, por isso ele é
+    * lançado fora do "Try()", ao invés de virar um "Notification". */
     private Either<Notification, UpdateCategoryOutput> update(final Category category) {
-        return Try(() -> this.categoryGateway.update(category))
+        final Either<Notification, Optional<Category>> result = Try(() -> this.categoryGateway.updateById(category))
                 .toEither()
-                .bimap(Notification::create, UpdateCategoryOutput::from);
+                .mapLeft(Notification::create);
+
+        return result.map(updatedCategory -> updatedCategory.orElseThrow(() -> conflict(category.getId())))
+                .map(UpdateCategoryOutput::from);
+    }
+
+    private static DomainException notFound(final CategoryID id) {
+        return DomainException.with(new Error("Category with ID %s was not found".formatted(id.getValue())));
+    }
+
+    private static ConflictException conflict(final CategoryID id) {
+        return ConflictException.with(Category.class, id);
     }
 }
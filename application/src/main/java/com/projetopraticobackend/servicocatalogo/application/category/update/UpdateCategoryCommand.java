@@ -1,9 +1,15 @@
 package com.projetopraticobackend.servicocatalogo.application.category.update;
 
+import java.util.Set;
+
+/* As "expectedVersions" são as versões da categoria que o cliente aceita alterar, ou seja, as que ele leu antes. Na
+* maioria das vezes, é apenas uma. Se elas forem informadas e a categoria estiver em outra versão, a atualização falha
+* com um conflito. Se forem "null", a atualização é feita sobre a versão que for lida pelo caso de uso. */
 public record UpdateCategoryCommand(String id,
                                     String name,
                                     String description,
-                                    boolean isActive) {
+                                    boolean isActive,
+                                    Set<Long> expectedVersions) {
 
     public static UpdateCategoryCommand with(
             final String id,
@@ -11,6 +17,26 @@ public record UpdateCategoryCommand(String id,
             final String description,
             final boolean isActive
     ) {
-        return new UpdateCategoryCommand(id, name, description, isActive);
+        return new UpdateCategoryCommand(id, name, description, isActive, null);
+    }
+
+    public static UpdateCategoryCommand with(
+            final String id,
+            final String name,
+            final String description,
+            final boolean isActive,
+            final Long expectedVersion
+    ) {
+        return new UpdateCategoryCommand(id, name, description, isActive, expectedVersion != null ? Set.of(expectedVersion) : null);
+    }
+
+    public static UpdateCategoryCommand with(
+            final String id,
+            final String name,
+            final String description,
+            final boolean isActive,
+            final Set<Long> expectedVersions
+    ) {
+        return new UpdateCategoryCommand(id, name, description, isActive, expectedVersions);
     }
-}
\ No newline at end of file
+}
@@ -1,15 +1,15 @@
 package com.projetopraticobackend.servicocatalogo.application.category.update;
 
 import com.projetopraticobackend.servicocatalogo.domain.category.Category;
-import com.projetopraticobackend.servicocatalogo.domain.category.CategoryID;
 
-public record UpdateCategoryOutput(String id) {
+//A versão é a nova versão da categoria, que deve ser enviada na próxima atualização.
+public record UpdateCategoryOutput(String id, long version) {
 
     public static UpdateCategoryOutput from(final Category category) {
-        return new UpdateCategoryOutput(category.getId().getValue());
+        return new UpdateCategoryOutput(category.getId().getValue(), category.getVersion());
     }
 
-    public static UpdateCategoryOutput from(final String id) {
-        return new UpdateCategoryOutput(id);
+    public static UpdateCategoryOutput from(final String id, final long version) {
+        return new UpdateCategoryOutput(id, version);
     }
 }
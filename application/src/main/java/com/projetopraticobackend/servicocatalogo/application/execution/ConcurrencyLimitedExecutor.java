@@ -0,0 +1,46 @@
+package com.projetopraticobackend.servicocatalogo.application.execution;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+
+/* Esse "Executor" limita quantas tarefas executam ao mesmo tempo. As demais esperam, na ordem de chegada, por uma
+* vaga.
+*
+* A espera acontece dentro da própria tarefa, e não em quem a envia. Assim, a thread de IO do Undertow nunca fica
+* bloqueada. Isso só é barato com as "virtual threads". Em um "pool" de threads comum, cada tarefa esperando ocuparia
+* uma thread.
+*
+* Assim como o "VirtualThreads", ele não depende do Spring, por isso fica na camada de application, onde também é
+* utilizado pelo módulo de "benchmarks" sem trazer a aplicação inteira. */
+public class ConcurrencyLimitedExecutor implements Executor {
+
+    private final Executor delegate;
+
+    private final Semaphore permits;
+
+    public ConcurrencyLimitedExecutor(final Executor delegate, final int maxConcurrency) {
+        if (maxConcurrency < 1) {
+            throw new IllegalArgumentException("'maxConcurrency' should be greater than zero");
+        }
+
+        this.delegate = delegate;
+        this.permits = new Semaphore(maxConcurrency, true); //Com o "fair", as tarefas recebem as vagas na ordem em que chegaram.
+    }
+
+    @Override
+    public void execute(final Runnable task) {
+        this.delegate.execute(() -> {
+            this.permits.acquireUninterruptibly();
+
+            try {
+                task.run();
+            } finally {
+                this.permits.release();
+            }
+        });
+    }
+
+    public int availablePermits() {
+        return this.permits.availablePermits();
+    }
+}
@@ -0,0 +1,40 @@
+package com.projetopraticobackend.servicocatalogo.application.execution;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+
+/* As "virtual threads" só existem a partir do Java 21, e a aplicação ainda é compilada para o Java 17. Por isso, buscamos
+* o "Thread.ofVirtual()" por reflexão, apenas uma vez, ao subir a aplicação. Em uma JVM mais antiga, ele não será
+* encontrado. */
+public final class VirtualThreads {
+
+    private VirtualThreads() {}
+
+    public static boolean isAvailable() {
+        return virtualThreadFactory("probe-").isPresent();
+    }
+
+    /* Cada tarefa é executada em uma nova "virtual thread". Elas são baratas, então não existe um "pool": ao bloquear
+    * (no JDBC, por exemplo), a "virtual thread" libera a thread da JVM que a executava. */
+    public static Executor newThreadPerTaskExecutor(final String namePrefix) {
+        final var threadFactory = virtualThreadFactory(namePrefix)
+                .orElseThrow(() -> new IllegalStateException("Virtual threads require Java 21 or newer, but the application is running on Java %s".formatted(Runtime.version().feature())));
+
+        return task -> threadFactory.newThread(task).start();
+    }
+
+    //É o mesmo que "Thread.ofVirtual().name(namePrefix, 0).factory()".
+    private static Optional<ThreadFactory> virtualThreadFactory(final String namePrefix) {
+        try {
+            final var builderType = Class.forName("java.lang.Thread$Builder");
+            final var builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            final var namedBuilder = builderType.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 0L);
+
+            return Optional.of((ThreadFactory) builderType.getMethod("factory").invoke(namedBuilder));
+        } catch (final ClassNotFoundException | NoSuchMethodException | IllegalAccessException | InvocationTargetException ex) {
+            return Optional.empty();
+        }
+    }
+}
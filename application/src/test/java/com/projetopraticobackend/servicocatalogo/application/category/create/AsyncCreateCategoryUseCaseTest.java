@@ -0,0 +1,48 @@
+package com.projetopraticobackend.servicocatalogo.application.category.create;
+
+import io.vavr.API;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.RejectedExecutionException;
+
+@ExtendWith(MockitoExtension.class)
+public class AsyncCreateCategoryUseCaseTest {
+
+    @Mock
+    private CreateCategoryUseCase createCategoryUseCase;
+
+    @Test
+    public void givenAValidCommand_whenCallsExecute_shouldCompleteWithTheSameResultOfTheSyncUseCase() {
+
+        final var command = CreateCategoryCommand.with("Filmes", null, true);
+
+        Mockito.when(createCategoryUseCase.execute(command)).thenReturn(API.Right(CreateCategoryOutput.from("123")));
+
+        final var useCase = new DefaultAsyncCreateCategoryUseCase(createCategoryUseCase, Runnable::run);
+
+        final var actualResult = useCase.execute(command).toCompletableFuture().join();
+
+        Assertions.assertTrue(actualResult.isRight());
+        Assertions.assertEquals("123", actualResult.get().id());
+    }
+
+    @Test
+    public void givenAFullExecutor_whenCallsExecute_shouldThrowRejectedExecutionWithoutCallingTheUseCase() {
+
+        final var command = CreateCategoryCommand.with("Filmes", null, true);
+
+        //Esse "executor" simula uma fila cheia, que recusa qualquer nova tarefa.
+        final var useCase = new DefaultAsyncCreateCategoryUseCase(createCategoryUseCase, runnable -> {
+            throw new RejectedExecutionException("queue is full");
+        });
+
+        Assertions.assertThrows(RejectedExecutionException.class, () -> useCase.execute(command));
+
+        Mockito.verify(createCategoryUseCase, Mockito.never()).execute(Mockito.any());
+    }
+}
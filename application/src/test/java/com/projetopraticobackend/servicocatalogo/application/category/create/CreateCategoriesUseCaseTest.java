@@ -0,0 +1,117 @@
+package com.projetopraticobackend.servicocatalogo.application.category.create;
+
+/* Nessa classe, teremos os testes do caso de uso da criação de várias categorias de uma só vez. */
+
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryGateway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.AdditionalAnswers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+public class CreateCategoriesUseCaseTest {
+
+    @InjectMocks
+    private DefaultCreateCategoriesUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Test
+    public void givenValidCommands_whenCallsCreateCategories_shouldCreateAllInASingleGatewayCall() {
+
+        final var command = CreateCategoriesCommand.with(List.of(
+                CreateCategoryCommand.with("Filmes", "A categoria mais assistida", true),
+                CreateCategoryCommand.with("Séries", null, false)
+        ));
+
+        Mockito.when(categoryGateway.createAll(Mockito.any())).thenAnswer(AdditionalAnswers.returnsFirstArg());
+
+        final var output = useCase.execute(command).get();
+
+        Assertions.assertFalse(output.hasErrors());
+        Assertions.assertEquals(2, output.items().size());
+
+        Assertions.assertEquals(0, output.items().get(0).index());
+        Assertions.assertNotNull(output.items().get(0).id());
+        Assertions.assertNotNull(output.items().get(1).id());
+
+        //O gateway é chamado uma única vez, com todas as categorias, e o "create()" de uma categoria não é utilizado.
+        Mockito.verify(categoryGateway, Mockito.times(1)).createAll(Mockito.argThat(categories ->
+                categories.size() == 2
+                        && "Filmes".equals(categories.get(0).getName())
+                        && "Séries".equals(categories.get(1).getName())
+                        && !categories.get(1).isActive()));
+
+        Mockito.verify(categoryGateway, Mockito.never()).create(Mockito.any());
+    }
+
+    @Test
+    public void givenSomeInvalidCommands_whenCallsCreateCategories_shouldCreateTheValidOnesAndReportTheErrorsByItem() {
+
+        final var command = CreateCategoriesCommand.with(List.of(
+                CreateCategoryCommand.with(null, null, true),
+                CreateCategoryCommand.with("Filmes", null, true),
+                CreateCategoryCommand.with("Fi ", null, true)
+        ));
+
+        Mockito.when(categoryGateway.createAll(Mockito.any())).thenAnswer(AdditionalAnswers.returnsFirstArg());
+
+        final var output = useCase.execute(command).get();
+
+        Assertions.assertTrue(output.hasErrors());
+        Assertions.assertEquals(3, output.items().size());
+
+        final var nullName = output.items().get(0);
+        Assertions.assertEquals(0, nullName.index());
+        Assertions.assertNull(nullName.id());
+        Assertions.assertEquals("'name' should not be null", nullName.errors().get(0).message());
+
+        final var created = output.items().get(1);
+        Assertions.assertEquals(1, created.index());
+        Assertions.assertNotNull(created.id());
+        Assertions.assertTrue(created.errors().isEmpty());
+
+        final var shortName = output.items().get(2);
+        Assertions.assertEquals(2, shortName.index());
+        Assertions.assertNull(shortName.id());
+        Assertions.assertEquals("'name' must be between 3 and 255 characters", shortName.errors().get(0).message());
+
+        Mockito.verify(categoryGateway, Mockito.times(1)).createAll(Mockito.argThat(categories ->
+                categories.size() == 1 && "Filmes".equals(categories.get(0).getName())));
+    }
+
+    @Test
+    public void givenOnlyInvalidCommands_whenCallsCreateCategories_shouldNotCallTheGateway() {
+
+        final var command = CreateCategoriesCommand.with(List.of(CreateCategoryCommand.with("", null, true)));
+
+        final var output = useCase.execute(command).get();
+
+        Assertions.assertTrue(output.hasErrors());
+        Assertions.assertEquals("'name' should not be empty", output.items().get(0).errors().get(0).message());
+
+        Mockito.verify(categoryGateway, Mockito.never()).createAll(Mockito.any());
+    }
+
+    @Test
+    public void givenAGatewayError_whenCallsCreateCategories_shouldReturnANotification() {
+
+        final var expectedErrorMessage = "Gateway error";
+
+        final var command = CreateCategoriesCommand.with(List.of(CreateCategoryCommand.with("Filmes", null, true)));
+
+        Mockito.when(categoryGateway.createAll(Mockito.any())).thenThrow(new IllegalStateException(expectedErrorMessage));
+
+        final var notification = useCase.execute(command).getLeft();
+
+        Assertions.assertEquals(1, notification.getErrors().size());
+        Assertions.assertEquals(expectedErrorMessage, notification.firstError().message());
+    }
+}
@@ -0,0 +1,64 @@
+package com.projetopraticobackend.servicocatalogo.application.category.delete;
+
+import com.projetopraticobackend.servicocatalogo.domain.category.Category;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryGateway;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+public class DeleteCategoriesUseCaseTest {
+
+    @InjectMocks
+    private DefaultDeleteCategoriesUseCase deleteCategoriesUseCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @BeforeEach
+    void cleanUp(){
+        Mockito.reset(categoryGateway);
+    }
+
+    @Test
+    public void givenManyIds_whenCallsDeleteCategories_shouldCallTheGatewayOnceWithoutDuplicates(){
+
+        final var filmes = Category.newCategory("Filmes", null, true).getId();
+        final var series = Category.newCategory("Séries", null, true).getId();
+
+        final var command = DeleteCategoriesCommand.with(List.of(filmes.getValue(), series.getValue(), filmes.getValue()));
+
+        Assertions.assertDoesNotThrow(() -> deleteCategoriesUseCase.execute(command));
+
+        //Todas as categorias são excluídas de uma só vez, e não uma por uma.
+        Mockito.verify(categoryGateway, Mockito.times(1)).deleteAllById(Mockito.eq(List.of(filmes, series)));
+        Mockito.verify(categoryGateway, Mockito.never()).deleteById(Mockito.any(CategoryID.class));
+    }
+
+    @Test
+    public void givenAnEmptyList_whenCallsDeleteCategories_shouldNotCallTheGateway(){
+
+        Assertions.assertDoesNotThrow(() -> deleteCategoriesUseCase.execute(DeleteCategoriesCommand.with(List.of())));
+
+        Mockito.verifyNoInteractions(categoryGateway);
+    }
+
+    @Test
+    public void givenManyIds_whenGatewayThrowsException_shouldReturnException(){
+
+        final var expectedId = Category.newCategory("Filmes", null, true).getId();
+
+        Mockito.doThrow(new IllegalStateException("Gateway error")).when(categoryGateway).deleteAllById(Mockito.anyList());
+
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> deleteCategoriesUseCase.execute(DeleteCategoriesCommand.with(List.of(expectedId.getValue()))));
+    }
+}
@@ -0,0 +1,70 @@
+package com.projetopraticobackend.servicocatalogo.application.category.retrieve.export;
+
+import com.projetopraticobackend.servicocatalogo.application.category.retrieve.list.CategoryListOutput;
+import com.projetopraticobackend.servicocatalogo.domain.category.Category;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryExportQuery;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryGateway;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryPreview;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+@ExtendWith(MockitoExtension.class)
+public class ExportCategoriesUseCaseTest {
+
+    @InjectMocks
+    private DefaultExportCategoriesUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Test
+    public void givenFilters_whenCallsExportCategories_shouldSendEachCategoryToTheConsumer() {
+
+        final var categories = List.of(
+                Category.newCategory("Filmes", "A categoria mais assistida", true),
+                Category.newCategory("Séries", null, true)
+        );
+
+        final var expectedActive = true;
+        final var expectedUpdatedSince = Instant.parse("2022-06-01T00:00:00Z");
+
+        Mockito.doAnswer(invocation -> {
+            final Consumer<CategoryPreview> consumer = invocation.getArgument(1);
+            categories.forEach(category -> consumer.accept(CategoryPreview.from(category)));
+            return null;
+        }).when(categoryGateway).exportAll(Mockito.any(), Mockito.any());
+
+        final var exported = new ArrayList<CategoryListOutput>();
+
+        useCase.execute(ExportCategoriesCommand.with(expectedActive, expectedUpdatedSince, exported::add));
+
+        Assertions.assertEquals(categories.stream().map(CategoryListOutput::from).toList(), exported);
+
+        Mockito.verify(categoryGateway, Mockito.times(1))
+                .exportAll(Mockito.eq(new CategoryExportQuery(expectedActive, expectedUpdatedSince)), Mockito.any());
+    }
+
+    @Test
+    public void givenAGatewayError_whenCallsExportCategories_shouldThrowTheError() {
+
+        final var expectedErrorMessage = "Gateway error";
+
+        Mockito.doThrow(new IllegalStateException(expectedErrorMessage))
+                .when(categoryGateway).exportAll(Mockito.any(), Mockito.any());
+
+        final var actualException = Assertions.assertThrows(IllegalStateException.class,
+                () -> useCase.execute(ExportCategoriesCommand.with(null, null, output -> {})));
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+}
@@ -0,0 +1,75 @@
+package com.projetopraticobackend.servicocatalogo.application.category.retrieve.get;
+
+import com.projetopraticobackend.servicocatalogo.domain.category.Category;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryID;
+import com.projetopraticobackend.servicocatalogo.domain.exceptions.NotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/* Aqui, o caso de uso síncrono é um "mock". Queremos apenas garantir que ele é executado no "executor" recebido e que
+* o seu resultado, ou a sua exceção, chega no "CompletionStage". */
+@ExtendWith(MockitoExtension.class)
+public class AsyncGetCategoryByIdUseCaseTest {
+
+    @Mock
+    private GetCategoryByIdUseCase getCategoryByIdUseCase;
+
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "use-case-thread"));
+
+    @AfterEach
+    void cleanUp(){
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void givenAValidId_whenCallsExecute_shouldCompleteWithTheCategoryInTheExecutor() throws Exception {
+
+        final var category = Category.newCategory("Filmes", null, true);
+        final var expectedId = category.getId().getValue();
+
+        final var callerThread = Thread.currentThread().getName();
+        final var executedBy = new String[1];
+
+        Mockito.when(getCategoryByIdUseCase.execute(expectedId)).thenAnswer(invocation -> {
+            executedBy[0] = Thread.currentThread().getName();
+            return CategoryOutput.from(category);
+        });
+
+        final var useCase = new DefaultAsyncGetCategoryByIdUseCase(getCategoryByIdUseCase, executor);
+
+        final var actualOutput = useCase.execute(expectedId).toCompletableFuture().get(5, TimeUnit.SECONDS);
+
+        Assertions.assertEquals(category.getId(), actualOutput.id());
+        Assertions.assertEquals("use-case-thread", executedBy[0]);
+        Assertions.assertNotEquals(callerThread, executedBy[0]);
+    }
+
+    @Test
+    public void givenAnInvalidId_whenCallsExecute_shouldCompleteExceptionallyWithNotFound() {
+
+        final var expectedId = CategoryID.from("123");
+
+        Mockito.when(getCategoryByIdUseCase.execute(expectedId.getValue()))
+                .thenThrow(NotFoundException.with(Category.class, expectedId));
+
+        final var useCase = new DefaultAsyncGetCategoryByIdUseCase(getCategoryByIdUseCase, executor);
+
+        final var future = useCase.execute(expectedId.getValue()).toCompletableFuture();
+
+        //A exceção não é lançada pelo "execute()", ela fica guardada no "CompletionStage".
+        final var actualException = Assertions.assertThrows(ExecutionException.class, () -> future.get(5, TimeUnit.SECONDS));
+
+        Assertions.assertInstanceOf(NotFoundException.class, actualException.getCause());
+        Assertions.assertEquals("Category with ID 123 was not found", actualException.getCause().getMessage());
+    }
+}
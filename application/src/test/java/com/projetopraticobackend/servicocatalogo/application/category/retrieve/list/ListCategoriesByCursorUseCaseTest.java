@@ -0,0 +1,87 @@
+package com.projetopraticobackend.servicocatalogo.application.category.retrieve.list;
+
+import com.projetopraticobackend.servicocatalogo.domain.category.Category;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryCursorQuery;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryGateway;
+import com.projetopraticobackend.servicocatalogo.domain.pagination.CursorPagination;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+public class ListCategoriesByCursorUseCaseTest {
+
+    @InjectMocks
+    private DefaultListCategoriesByCursorUseCase defaultListCategoriesByCursorUseCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @BeforeEach
+    void cleanUp(){
+        Mockito.reset(categoryGateway);
+    }
+
+    @Test
+    public void givenAValidQuery_whenCallsListCategoriesByCursor_thenShouldReturnCategoriesAndNextCursor(){
+
+        final var categories = List.of(
+                Category.newCategory("Filmes", "A categoria mais assistida", true),
+                Category.newCategory("Séries", "A categoria mais assistida", true)
+        );
+
+        final var expectedPerPage = 2;
+        final var expectedNext = "bmFtZQ";
+
+        final var query = new CategoryCursorQuery(null, expectedPerPage, "", "name", "asc");
+
+        final var expectedPagination = new CursorPagination<>(expectedPerPage, expectedNext, categories);
+        final var expectedResult = expectedPagination.map(CategoryListOutput::from);
+
+        Mockito.when(categoryGateway.findAllByCursor(Mockito.eq(query))).thenReturn(expectedPagination);
+
+        final var actualResult = defaultListCategoriesByCursorUseCase.execute(query);
+
+        Assertions.assertEquals(expectedResult, actualResult);
+        Assertions.assertEquals(expectedPerPage, actualResult.perPage());
+        Assertions.assertEquals(expectedNext, actualResult.next());
+        Assertions.assertTrue(actualResult.hasNext());
+    }
+
+    @Test
+    public void givenAValidQuery_whenHasNoResults_thenShouldReturnEmptyListWithoutNextCursor(){
+
+        final var query = new CategoryCursorQuery(null, 10, "", "name", "asc");
+
+        Mockito.when(categoryGateway.findAllByCursor(Mockito.eq(query)))
+                .thenReturn(new CursorPagination<>(10, null, List.of()));
+
+        final var actualResult = defaultListCategoriesByCursorUseCase.execute(query);
+
+        Assertions.assertEquals(0, actualResult.elements().size());
+        Assertions.assertNull(actualResult.next());
+        Assertions.assertFalse(actualResult.hasNext());
+    }
+
+    @Test
+    public void givenAValidQuery_whenGatewayThrowsException_thenShouldReturnException(){
+
+        final var expectedErrorMessage = "Gateway error";
+
+        final var query = new CategoryCursorQuery(null, 10, "", "name", "asc");
+
+        Mockito.when(categoryGateway.findAllByCursor(Mockito.eq(query))).thenThrow(new IllegalStateException(expectedErrorMessage));
+
+        final var actualException = Assertions.assertThrows(IllegalStateException.class,
+                () -> defaultListCategoriesByCursorUseCase.execute(query));
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+}
@@ -0,0 +1,75 @@
+package com.projetopraticobackend.servicocatalogo.application.category.retrieve.list;
+
+import com.projetopraticobackend.servicocatalogo.domain.category.Category;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryGateway;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategorySearchQuery;
+import com.projetopraticobackend.servicocatalogo.domain.pagination.SlicePagination;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+public class ListCategoriesSliceUseCaseTest {
+
+    @InjectMocks
+    private DefaultListCategoriesSliceUseCase defaultListCategoriesSliceUseCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @BeforeEach
+    void cleanUp(){
+        Mockito.reset(categoryGateway);
+    }
+
+    @Test
+    public void givenAValidQuery_whenCallsListCategoriesSlice_thenShouldReturnCategoriesAndHasNext(){
+
+        final var categories = List.of(
+                Category.newCategory("Filmes", "A categoria mais assistida", true),
+                Category.newCategory("Séries", "A categoria mais assistida", true)
+        );
+
+        final var expectedPage = 0;
+        final var expectedPerPage = 2;
+
+        final var query = new CategorySearchQuery(expectedPage, expectedPerPage, "", "createdAt", "asc");
+
+        final var expectedSlice = new SlicePagination<>(expectedPage, expectedPerPage, true, categories);
+        final var expectedResult = expectedSlice.map(CategoryListOutput::from);
+
+        Mockito.when(categoryGateway.findSlice(Mockito.eq(query))).thenReturn(expectedSlice);
+
+        final var actualResult = defaultListCategoriesSliceUseCase.execute(query);
+
+        Assertions.assertEquals(expectedResult, actualResult);
+        Assertions.assertEquals(expectedPage, actualResult.currentPage());
+        Assertions.assertEquals(expectedPerPage, actualResult.perPage());
+        Assertions.assertTrue(actualResult.hasNext());
+
+        //O modo sem contagem nunca deverá usar a busca paginada com o "COUNT(*)".
+        Mockito.verify(categoryGateway, Mockito.never()).findAll(Mockito.any());
+    }
+
+    @Test
+    public void givenAValidQuery_whenGatewayThrowsException_thenShouldReturnException(){
+
+        final var expectedErrorMessage = "Gateway error";
+
+        final var query = new CategorySearchQuery(0, 10, "", "createdAt", "asc");
+
+        Mockito.when(categoryGateway.findSlice(Mockito.eq(query))).thenThrow(new IllegalStateException(expectedErrorMessage));
+
+        final var actualException = Assertions.assertThrows(IllegalStateException.class,
+                () -> defaultListCategoriesSliceUseCase.execute(query));
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+}
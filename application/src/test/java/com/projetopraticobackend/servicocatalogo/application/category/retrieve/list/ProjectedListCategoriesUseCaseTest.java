@@ -0,0 +1,64 @@
+package com.projetopraticobackend.servicocatalogo.application.category.retrieve.list;
+
+import com.projetopraticobackend.servicocatalogo.domain.category.Category;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryGateway;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryPreview;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategorySearchQuery;
+import com.projetopraticobackend.servicocatalogo.domain.pagination.Pagination;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+@ExtendWith(MockitoExtension.class)
+public class ProjectedListCategoriesUseCaseTest {
+
+    @InjectMocks
+    private ProjectedListCategoriesUseCase projectedListCategoriesUseCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Test
+    public void givenAValidQuery_whenCallsListCategories_thenShouldReturnTheSameOutputAsTheAggregatePath(){
+
+        final var categories = List.of(
+                Category.newCategory("Filmes", "A categoria mais assistida", true),
+                Category.newCategory("Séries", null, false)
+        );
+
+        final var query = new CategorySearchQuery(0, 10, "", "createdAt", "asc");
+
+        final var expectedResult = new Pagination<>(0, 10, 2, categories).map(CategoryListOutput::from);
+
+        Mockito.when(categoryGateway.findAllPreviews(Mockito.eq(query)))
+                .thenReturn(new Pagination<>(0, 10, 2, categories.stream().map(CategoryPreview::from).toList()));
+
+        final var actualResult = projectedListCategoriesUseCase.execute(query);
+
+        Assertions.assertEquals(expectedResult, actualResult);
+
+        //Os agregados nunca são buscados nesse caso de uso.
+        Mockito.verify(categoryGateway, Mockito.never()).findAll(Mockito.any());
+    }
+
+    @Test
+    public void givenAValidQuery_whenGatewayThrowsException_thenShouldReturnException(){
+
+        final var expectedErrorMessage = "Gateway error";
+
+        final var query = new CategorySearchQuery(0, 10, "", "createdAt", "asc");
+
+        Mockito.when(categoryGateway.findAllPreviews(Mockito.eq(query))).thenThrow(new IllegalStateException(expectedErrorMessage));
+
+        final var actualException = Assertions.assertThrows(IllegalStateException.class,
+                () -> projectedListCategoriesUseCase.execute(query));
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+}
@@ -3,12 +3,12 @@ package com.projetopraticobackend.servicocatalogo.application.category.update;
 import com.projetopraticobackend.servicocatalogo.domain.category.Category;
 import com.projetopraticobackend.servicocatalogo.domain.category.CategoryGateway;
 import com.projetopraticobackend.servicocatalogo.domain.category.CategoryID;
+import com.projetopraticobackend.servicocatalogo.domain.exceptions.ConflictException;
 import com.projetopraticobackend.servicocatalogo.domain.exceptions.DomainException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.AdditionalAnswers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
@@ -16,6 +16,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
 @ExtendWith(MockitoExtension.class)
 public class UpdateCategoryUseCaseTest {
@@ -54,7 +55,7 @@ public class UpdateCategoryUseCaseTest {
         Mockito.when(categoryGateway.findById(Mockito.eq(expectedId))).thenReturn(Optional.of(Category.clone(initialCategory))); //Estamos retornando um objeto com os mesmos atributos, mas com referências diferentes.
 
         //Esse método retornará o que for recebido como parâmetro do método.
-        Mockito.when(categoryGateway.update(Mockito.any(Category.class))).thenAnswer(AdditionalAnswers.returnsFirstArg());
+        Mockito.when(categoryGateway.updateById(Mockito.any(Category.class))).thenAnswer(invocation -> Optional.of(invocation.getArgument(0)));
 
         //Act
         final var actualOutput = updateCategoryUseCase.execute(command).get();
@@ -67,8 +68,8 @@ public class UpdateCategoryUseCaseTest {
         Mockito.verify(categoryGateway, Mockito.times(1)).findById(Mockito.eq(expectedId));
 
         //Estamos garantindo que o "update()", com o argumento "category", foi chamado uma única vez.
-        Mockito.verify(categoryGateway, Mockito.times(1)).update(Mockito.argThat(
-                updatedCategory -> //Estamos garantindo que o objeto passado para o método "update()" como argumento, que é o "updatedCategory" e, logo, é o objeto retornado por esse método, pois estamos utilizando o "returnsFirstArg()", é igual ao objeto que esperamos que seja retornado, que é o objeto com os valores atualizados.
+        Mockito.verify(categoryGateway, Mockito.times(1)).updateById(Mockito.argThat(
+                updatedCategory -> //Estamos garantindo que o objeto passado para o método "update()" como argumento, que é o "updatedCategory" e, logo, é o objeto retornado por esse método, pois estamos utilizando o "Optional" com o primeiro argumento, é igual ao objeto que esperamos que seja retornado, que é o objeto com os valores atualizados.
                         Objects.equals(expectedId, updatedCategory.getId()) &&
                         Objects.equals(expectedName, updatedCategory.getName()) &&
                         Objects.equals(expectedDescription, updatedCategory.getDescription()) &&
@@ -104,7 +105,7 @@ public class UpdateCategoryUseCaseTest {
         Assertions.assertEquals(expectedErrorMessage, notification.getErrors().get(0).message());
 
         Mockito.verify(categoryGateway, Mockito.times(1)).findById(Mockito.eq(expectedId));
-        Mockito.verify(categoryGateway, Mockito.never()).update(Mockito.any(Category.class));
+        Mockito.verify(categoryGateway, Mockito.never()).updateById(Mockito.any(Category.class));
     }
 
     @Test
@@ -128,7 +129,7 @@ public class UpdateCategoryUseCaseTest {
         Mockito.when(categoryGateway.findById(Mockito.eq(expectedId))).thenReturn(Optional.of(Category.clone(initialCategory))); //Estamos retornando um objeto com os mesmos atributos, mas com referências diferentes.
 
         //Esse método retornará o que for recebido como parâmetro do método.
-        Mockito.when(categoryGateway.update(Mockito.any(Category.class))).thenAnswer(AdditionalAnswers.returnsFirstArg());
+        Mockito.when(categoryGateway.updateById(Mockito.any(Category.class))).thenAnswer(invocation -> Optional.of(invocation.getArgument(0)));
 
         Assertions.assertTrue(initialCategory.isActive());
         Assertions.assertNull(initialCategory.getDeletedAt());
@@ -144,8 +145,8 @@ public class UpdateCategoryUseCaseTest {
         Mockito.verify(categoryGateway, Mockito.times(1)).findById(Mockito.eq(expectedId));
 
         //Estamos garantindo que o "update()", com o argumento "category", foi chamado uma única vez.
-        Mockito.verify(categoryGateway, Mockito.times(1)).update(Mockito.argThat(
-                updatedCategory -> //Estamos garantindo que o objeto passado para o método "update()" como argumento, que é o "updatedCategory" e, logo, é o objeto retornado por esse método, pois estamos utilizando o "returnsFirstArg()", é igual ao objeto que esperamos que seja retornado, que é o objeto com os valores atualizados.
+        Mockito.verify(categoryGateway, Mockito.times(1)).updateById(Mockito.argThat(
+                updatedCategory -> //Estamos garantindo que o objeto passado para o método "update()" como argumento, que é o "updatedCategory" e, logo, é o objeto retornado por esse método, pois estamos utilizando o "Optional" com o primeiro argumento, é igual ao objeto que esperamos que seja retornado, que é o objeto com os valores atualizados.
                         Objects.equals(expectedId, updatedCategory.getId()) &&
                         Objects.equals(expectedName, updatedCategory.getName()) &&
                         Objects.equals(expectedDescription, updatedCategory.getDescription()) &&
@@ -175,7 +176,7 @@ public class UpdateCategoryUseCaseTest {
         Mockito.when(categoryGateway.findById(Mockito.eq(expectedId))).thenReturn(Optional.of(Category.clone(initialCategory)));
 
         //Quando chamarmos o "update()", com o argumento "category", retornaremos um "DomainException".
-        Mockito.when(categoryGateway.update(Mockito.any(Category.class))).thenThrow(new IllegalStateException(expectedErrorMessage));
+        Mockito.when(categoryGateway.updateById(Mockito.any(Category.class))).thenThrow(new IllegalStateException(expectedErrorMessage));
 
         //Act
         final var notification = updateCategoryUseCase.execute(command).getLeft();
@@ -187,8 +188,8 @@ public class UpdateCategoryUseCaseTest {
         Mockito.verify(categoryGateway, Mockito.times(1)).findById(Mockito.eq(expectedId));
 
         //Estamos garantindo que o "update()", com o argumento "category", foi chamado uma única vez.
-        Mockito.verify(categoryGateway, Mockito.times(1)).update(Mockito.argThat(
-                updatedCategory -> //Estamos garantindo que o objeto passado para o método "update()" como argumento, que é o "updatedCategory" e, logo, é o objeto retornado por esse método, pois estamos utilizando o "returnsFirstArg()", é igual ao objeto que esperamos que seja retornado, que é o objeto com os valores atualizados.
+        Mockito.verify(categoryGateway, Mockito.times(1)).updateById(Mockito.argThat(
+                updatedCategory -> //Estamos garantindo que o objeto passado para o método "update()" como argumento, que é o "updatedCategory" e, logo, é o objeto retornado por esse método, pois estamos utilizando o "Optional" com o primeiro argumento, é igual ao objeto que esperamos que seja retornado, que é o objeto com os valores atualizados.
                         Objects.equals(expectedId, updatedCategory.getId()) &&
                         Objects.equals(expectedName, updatedCategory.getName()) &&
                         Objects.equals(expectedDescription, updatedCategory.getDescription()) &&
@@ -223,6 +224,73 @@ public class UpdateCategoryUseCaseTest {
 
         Mockito.verify(categoryGateway, Mockito.times(1)).findById(Mockito.eq(CategoryID.from(expectedId)));
 
-        Mockito.verify(categoryGateway, Mockito.never()).update(Mockito.any(Category.class));
+        Mockito.verify(categoryGateway, Mockito.never()).updateById(Mockito.any(Category.class));
+    }
+
+    @Test
+    public void givenAnOutdatedExpectedVersion_whenCallsUpdateCategory_shouldThrowConflictException() {
+
+        //Arrange
+        final var category = Category.nextVersion(Category.newCategory("Film", null, true)); //A categoria já está na versão 1.
+        final var expectedId = category.getId();
+
+        final var expectedErrorMessage = "Category with ID %s was modified by another request".formatted(expectedId.getValue());
+
+        Mockito.when(categoryGateway.findById(Mockito.eq(expectedId))).thenReturn(Optional.of(Category.clone(category)));
+
+        //O cliente leu a categoria na versão 0.
+        final var command = UpdateCategoryCommand.with(expectedId.getValue(), "Filmes", null, true, 0L);
+
+        //Act
+        final var exception = Assertions.assertThrows(ConflictException.class,
+                () -> updateCategoryUseCase.execute(command));
+
+        //Assert
+        Assertions.assertEquals(expectedErrorMessage, exception.getMessage());
+
+        Mockito.verify(categoryGateway, Mockito.never()).updateById(Mockito.any(Category.class));
+    }
+
+    //Basta que uma das versões enviadas no "If-Match" seja a atual.
+    @Test
+    public void givenExpectedVersionsContainingTheCurrentOne_whenCallsUpdateCategory_shouldUpdateIt() {
+
+        //Arrange
+        final var category = Category.nextVersion(Category.newCategory("Film", null, true)); //A categoria já está na versão 1.
+        final var expectedId = category.getId();
+
+        Mockito.when(categoryGateway.findById(Mockito.eq(expectedId))).thenReturn(Optional.of(Category.clone(category)));
+        Mockito.when(categoryGateway.updateById(Mockito.any(Category.class)))
+                .thenAnswer(invocation -> Optional.of(Category.nextVersion(invocation.getArgument(0))));
+
+        final var command = UpdateCategoryCommand.with(expectedId.getValue(), "Filmes", null, true, Set.of(0L, 1L));
+
+        //Act
+        final var output = updateCategoryUseCase.execute(command).get();
+
+        //Assert
+        Assertions.assertEquals(2, output.version());
+    }
+
+    @Test
+    public void givenACategoryChangedAfterTheRead_whenCallsUpdateCategory_shouldThrowConflictException() {
+
+        //Arrange
+        final var category = Category.newCategory("Film", null, true);
+        final var expectedId = category.getId();
+
+        Mockito.when(categoryGateway.findById(Mockito.eq(expectedId))).thenReturn(Optional.of(Category.clone(category)));
+
+        //Outra requisição alterou a categoria entre a busca e o "UPDATE", então nenhuma linha foi alterada.
+        Mockito.when(categoryGateway.updateById(Mockito.any(Category.class))).thenReturn(Optional.empty());
+
+        final var command = UpdateCategoryCommand.with(expectedId.getValue(), "Filmes", null, true, 0L);
+
+        //Act & Assert
+        Assertions.assertThrows(ConflictException.class, () -> updateCategoryUseCase.execute(command));
+
+        Mockito.verify(categoryGateway, Mockito.times(1)).updateById(Mockito.argThat(
+                updatedCategory -> updatedCategory.getVersion() == 0 && updatedCategory.getName().equals("Filmes")
+        ));
     }
 }
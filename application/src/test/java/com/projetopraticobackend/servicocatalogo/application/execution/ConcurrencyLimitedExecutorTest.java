@@ -0,0 +1,97 @@
+package com.projetopraticobackend.servicocatalogo.application.execution;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ConcurrencyLimitedExecutorTest {
+
+    @Test
+    public void givenMoreTasksThanTheLimit_whenCallsExecute_shouldNeverRunMoreThanTheLimitAtTheSameTime() throws InterruptedException {
+
+        final var expectedMaxConcurrency = 3;
+        final var tasks = 30;
+
+        //Um "pool" sem limite, para que apenas o "ConcurrencyLimitedExecutor" limite as tarefas.
+        final var pool = Executors.newCachedThreadPool();
+        final var executor = new ConcurrencyLimitedExecutor(pool, expectedMaxConcurrency);
+
+        final var running = new AtomicInteger();
+        final var maxRunning = new AtomicInteger();
+        final var done = new CountDownLatch(tasks);
+
+        for (int i = 0; i < tasks; i++) {
+            executor.execute(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+
+                try {
+                    Thread.sleep(5); //Simula a consulta ao banco de dados.
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    running.decrementAndGet();
+                    done.countDown();
+                }
+            });
+        }
+
+        Assertions.assertTrue(done.await(10, TimeUnit.SECONDS));
+
+        //A vaga é devolvida depois que a tarefa termina, ou seja, depois do "countDown()". Esperamos o "pool" terminar para conferirmos as vagas.
+        pool.shutdown();
+        Assertions.assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+
+        Assertions.assertEquals(expectedMaxConcurrency, maxRunning.get());
+        Assertions.assertEquals(expectedMaxConcurrency, executor.availablePermits()); //Todas as vagas foram devolvidas.
+    }
+
+    @Test
+    public void givenATaskThatThrows_whenCallsExecute_shouldReleaseThePermit() {
+
+        final var executor = new ConcurrencyLimitedExecutor(Runnable::run, 1);
+
+        Assertions.assertThrows(IllegalStateException.class, () -> executor.execute(() -> {
+            throw new IllegalStateException();
+        }));
+
+        Assertions.assertEquals(1, executor.availablePermits());
+    }
+
+    @Test
+    public void givenAnInvalidLimit_whenCreatesTheExecutor_shouldThrowIllegalArgumentException() {
+
+        final var expectedErrorMessage = "'maxConcurrency' should be greater than zero";
+
+        final var actualException = Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new ConcurrencyLimitedExecutor(Runnable::run, 0));
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+
+    /* O teste depende da JVM que o executa: a partir do Java 21, a tarefa é executada em uma "virtual thread". */
+    @Test
+    public void givenTheCurrentJvm_whenCreatesAVirtualThreadExecutor_shouldRunOnVirtualThreadsOrFailFast() throws InterruptedException {
+
+        if (Runtime.version().feature() < 21) {
+            Assertions.assertFalse(VirtualThreads.isAvailable());
+            Assertions.assertThrows(IllegalStateException.class, () -> VirtualThreads.newThreadPerTaskExecutor("test-"));
+            return;
+        }
+
+        final var threadName = new String[1];
+        final var done = new CountDownLatch(1);
+
+        VirtualThreads.newThreadPerTaskExecutor("test-").execute(() -> {
+            threadName[0] = Thread.currentThread().getName();
+            done.countDown();
+        });
+
+        Assertions.assertTrue(done.await(5, TimeUnit.SECONDS));
+        Assertions.assertTrue(VirtualThreads.isAvailable());
+        Assertions.assertEquals("test-0", threadName[0]);
+    }
+}
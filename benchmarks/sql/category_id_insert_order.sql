@@ -0,0 +1,57 @@
+-- Compara a inserção de IDs aleatórios (como o "UUID.randomUUID()") com a de IDs ordenados pelo tempo (como o
+-- "CategoryID.unique()") na chave primária "BINARY(16)" da categoria.
+--
+-- Esse script não faz parte das migrações. Ele cria as suas próprias tabelas e as remove no final. Para executá-lo no
+-- MySQL do "docker-compose":
+--   docker exec -i adm_videos_mysql mysql -uroot -proot adm_videos < benchmarks/sql/category_id_insert_order.sql
+--
+-- Para a diferença aparecer, a tabela precisa ser maior do que o "innodb_buffer_pool_size". Com a tabela inteira em
+-- memória, os IDs aleatórios ainda causam mais divisões de páginas, o que aparece no tamanho final da chave primária.
+
+SET @rows = 1000000;
+SET SESSION cte_max_recursion_depth = 1000000;
+SET @base_ms = ROUND(UNIX_TIMESTAMP(NOW(3)) * 1000);
+
+DROP TABLE IF EXISTS bench_category_ids, bench_category_random, bench_category_ordered;
+
+-- Os IDs são gerados antes, para medirmos apenas a inserção. Os ordenados seguem o mesmo formato do gerador: 48 bits de
+-- milissegundos (aqui, 50 IDs por milissegundo), 4 bits da versão, 12 bits do contador e os bits aleatórios.
+CREATE TABLE bench_category_ids (seq INT NOT NULL PRIMARY KEY, random_id BINARY(16) NOT NULL, ordered_id BINARY(16) NOT NULL);
+
+INSERT INTO bench_category_ids (seq, random_id, ordered_id)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < @rows)
+SELECT n,
+       UNHEX(MD5(RAND())),
+       UNHEX(CONCAT(LPAD(HEX(@base_ms + n DIV 50), 12, '0'), '7', LPAD(HEX(n MOD 50), 3, '0'), SUBSTR(MD5(RAND()), 1, 16)))
+FROM seq;
+
+CREATE TABLE bench_category_random (
+    id BINARY(16) NOT NULL PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    created_at DATETIME(6) NOT NULL
+);
+
+CREATE TABLE bench_category_ordered LIKE bench_category_random;
+
+-- As linhas são inseridas na ordem em que os IDs foram gerados, assim como chegariam da aplicação.
+SET @started_at = NOW(6);
+INSERT INTO bench_category_random (id, name, created_at) SELECT random_id, CONCAT('Categoria ', seq), NOW(6) FROM bench_category_ids ORDER BY seq;
+SET @random_insert_seconds = TIMESTAMPDIFF(MICROSECOND, @started_at, NOW(6)) / 1000000;
+
+SET @started_at = NOW(6);
+INSERT INTO bench_category_ordered (id, name, created_at) SELECT ordered_id, CONCAT('Categoria ', seq), NOW(6) FROM bench_category_ids ORDER BY seq;
+SET @ordered_insert_seconds = TIMESTAMPDIFF(MICROSECOND, @started_at, NOW(6)) / 1000000;
+
+ANALYZE TABLE bench_category_random, bench_category_ordered;
+
+SELECT table_name                                          AS strategy,
+       ROUND(data_length / 1024 / 1024, 2)                 AS primary_key_mb,
+       CASE table_name
+           WHEN 'bench_category_random' THEN ROUND(@rows / @random_insert_seconds)
+           ELSE ROUND(@rows / @ordered_insert_seconds)
+       END                                                 AS inserts_per_second
+FROM information_schema.tables
+WHERE table_schema = DATABASE()
+  AND table_name IN ('bench_category_random', 'bench_category_ordered');
+
+DROP TABLE bench_category_ids, bench_category_random, bench_category_ordered;
@@ -0,0 +1,59 @@
+-- Compara o espaço ocupado e o tempo de inserção do ID da categoria como texto ("VARCHAR(36)") e como bytes ("BINARY(16)").
+--
+-- Esse script não faz parte das migrações. Ele cria as suas próprias tabelas e as remove no final. Para executá-lo no
+-- MySQL do "docker-compose":
+--   docker exec -i adm_videos_mysql mysql -uroot -proot adm_videos < benchmarks/sql/category_id_storage.sql
+--
+-- O índice secundário em "name" é o que mais mostra a diferença, pois, no InnoDB, todo índice secundário guarda a chave
+-- primária em cada entrada. O mesmo acontecerá com os índices das futuras chaves estrangeiras.
+
+SET @rows = 200000;
+SET SESSION cte_max_recursion_depth = 200000;
+
+DROP TABLE IF EXISTS bench_category_ids, bench_category_text, bench_category_binary;
+
+-- Os mesmos IDs são inseridos nas duas tabelas. O "UUID()" do MySQL é a versão 1 e, assim como o "UUID.randomUUID()", não
+-- chega ao banco em ordem, então as inserções caem em pontos aleatórios da chave primária.
+CREATE TABLE bench_category_ids (seq INT NOT NULL PRIMARY KEY, id CHAR(36) NOT NULL);
+
+INSERT INTO bench_category_ids (seq, id)
+WITH RECURSIVE seq (n) AS (SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < @rows)
+SELECT n, UUID() FROM seq;
+
+CREATE TABLE bench_category_text (
+    id VARCHAR(36) NOT NULL PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    INDEX idx_bench_category_text_name (name)
+);
+
+CREATE TABLE bench_category_binary (
+    id BINARY(16) NOT NULL PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    INDEX idx_bench_category_binary_name (name)
+);
+
+SET @started_at = NOW(6);
+INSERT INTO bench_category_text (id, name, created_at) SELECT id, CONCAT('Categoria ', seq), NOW(6) FROM bench_category_ids ORDER BY seq;
+SET @text_insert_seconds = TIMESTAMPDIFF(MICROSECOND, @started_at, NOW(6)) / 1000000;
+
+SET @started_at = NOW(6);
+INSERT INTO bench_category_binary (id, name, created_at) SELECT UUID_TO_BIN(id), CONCAT('Categoria ', seq), NOW(6) FROM bench_category_ids ORDER BY seq;
+SET @binary_insert_seconds = TIMESTAMPDIFF(MICROSECOND, @started_at, NOW(6)) / 1000000;
+
+-- Sem o "ANALYZE", o "information_schema" pode mostrar os tamanhos antigos.
+ANALYZE TABLE bench_category_text, bench_category_binary;
+
+SELECT table_name                                          AS storage,
+       ROUND(data_length / 1024 / 1024, 2)                 AS primary_key_mb,  -- No InnoDB, os dados ficam na própria chave primária.
+       ROUND(index_length / 1024 / 1024, 2)                AS secondary_indexes_mb,
+       CASE table_name
+           WHEN 'bench_category_text' THEN ROUND(@rows / @text_insert_seconds)
+           ELSE ROUND(@rows / @binary_insert_seconds)
+       END                                                 AS inserts_per_second
+FROM information_schema.tables
+WHERE table_schema = DATABASE()
+  AND table_name IN ('bench_category_text', 'bench_category_binary');
+
+DROP TABLE bench_category_ids, bench_category_text, bench_category_binary;
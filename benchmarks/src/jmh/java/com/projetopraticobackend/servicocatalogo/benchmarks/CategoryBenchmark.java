@@ -0,0 +1,76 @@
+package com.projetopraticobackend.servicocatalogo.benchmarks;
+
+import com.projetopraticobackend.servicocatalogo.domain.category.Category;
+import com.projetopraticobackend.servicocatalogo.domain.exceptions.DomainException;
+import com.projetopraticobackend.servicocatalogo.domain.validation.handler.Notification;
+import com.projetopraticobackend.servicocatalogo.domain.validation.handler.ThrowsValidationHandler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/* Aqui medimos a criação, a atualização e a validação do agregado "Category".
+*
+* A validação é medida com os dois "handlers": o "Notification", que acumula os erros, e o "ThrowsValidationHandler",
+* que lança uma "DomainException" no primeiro erro. Medimos tanto uma categoria válida quanto uma inválida. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CategoryBenchmark {
+
+    private Category validCategory;
+    private Category invalidCategory;
+
+    @Setup
+    public void setUp() {
+        this.validCategory = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        this.invalidCategory = Category.newCategory("Fi", "A categoria mais assistida", true); //O nome deve ter, no mínimo, 3 caracteres.
+    }
+
+    @Benchmark
+    public Category newCategory() {
+        return Category.newCategory("Filmes", "A categoria mais assistida", true);
+    }
+
+    //O "update()" altera a própria categoria. Alternamos o "isActive" para passarmos tanto pelo "activate()" quanto pelo "deactivate()".
+    @Benchmark
+    public Category update() {
+        return this.validCategory.update("Séries", "A segunda categoria mais assistida", !this.validCategory.isActive());
+    }
+
+    @Benchmark
+    public Notification validateWithNotification() {
+        final var notification = Notification.create();
+        this.validCategory.validate(notification);
+        return notification;
+    }
+
+    @Benchmark
+    public Notification validateInvalidWithNotification() {
+        final var notification = Notification.create();
+        this.invalidCategory.validate(notification);
+        return notification;
+    }
+
+    @Benchmark
+    public Category validateWithThrowsValidationHandler() {
+        this.validCategory.validate(new ThrowsValidationHandler());
+        return this.validCategory;
+    }
+
+    //A "DomainException" não guarda a "stacktrace", então aqui medimos apenas o custo de criá-la e capturá-la.
+    @Benchmark
+    public Object validateInvalidWithThrowsValidationHandler() {
+        try {
+            this.invalidCategory.validate(new ThrowsValidationHandler());
+            return this.invalidCategory;
+        } catch (final DomainException ex) {
+            return ex;
+        }
+    }
+}
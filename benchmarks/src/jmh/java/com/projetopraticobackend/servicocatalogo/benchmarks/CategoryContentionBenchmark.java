@@ -0,0 +1,115 @@
+package com.projetopraticobackend.servicocatalogo.benchmarks;
+
+import com.projetopraticobackend.servicocatalogo.application.category.update.DefaultUpdateCategoryUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.update.UpdateCategoryCommand;
+import com.projetopraticobackend.servicocatalogo.application.category.update.UpdateCategoryUseCase;
+import com.projetopraticobackend.servicocatalogo.domain.category.Category;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryID;
+import com.projetopraticobackend.servicocatalogo.domain.exceptions.ConflictException;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/* Aqui comparamos duas formas de impedir que atualizações simultâneas da mesma categoria se sobrescrevam, com 8 threads
+* alterando as mesmas categorias ao mesmo tempo. Ele deve ser executado em uma máquina com vários núcleos:
+*
+* - "optimistic": é o caso de uso real. O "UPDATE" apenas é feito se a categoria ainda estiver na versão que foi lida, e,
+*   se não estiver, a requisição falha imediatamente com um conflito ("409").
+* - "pessimistic": simula o "SELECT ... FOR UPDATE". Cada requisição espera pelo "lock" da categoria antes de lê-la, e,
+*   por isso, nunca falha, mas as requisições da mesma categoria são executadas uma de cada vez.
+*
+* Depois da leitura, consumimos um pouco de CPU, que é o tempo entre a busca e o "UPDATE" em que outra requisição pode
+* alterar a categoria. Com "hotCategories=1", todas as threads disputam a mesma categoria.
+*
+* Além da vazão total, os contadores "updated" e "conflicts" mostram quantas requisições por milissegundo foram atualizadas e
+* quantas falharam: "./gradlew :benchmarks:jmh -Pbenchmark=CategoryContentionBenchmark". */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(8)
+public class CategoryContentionBenchmark {
+
+    private static final long READ_TOKENS = 2_000; //É o custo da busca, em "tokens" do "Blackhole.consumeCPU()".
+
+    @Param({"optimistic", "pessimistic"})
+    private String mode;
+
+    @Param({"1", "16"}) //É a quantidade de categorias que estão sendo alteradas.
+    private int hotCategories;
+
+    private UpdateCategoryUseCase updateCategoryUseCase;
+    private CategoryID[] ids;
+    private ReentrantLock[] locks;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        final var categoryGateway = new InMemoryCategoryGateway() {
+            @Override
+            public Optional<Category> findById(final CategoryID id) {
+                final var category = super.findById(id);
+                Blackhole.consumeCPU(READ_TOKENS); //A categoria já foi lida, mas o "UPDATE" ainda não foi feito.
+                return category;
+            }
+        };
+
+        this.updateCategoryUseCase = new DefaultUpdateCategoryUseCase(categoryGateway);
+        this.ids = new CategoryID[this.hotCategories];
+        this.locks = new ReentrantLock[this.hotCategories];
+
+        for (int i = 0; i < this.hotCategories; i++) {
+            this.ids[i] = categoryGateway.seed(Category.newCategory("Filmes " + i, null, true)).getId();
+            this.locks[i] = new ReentrantLock();
+        }
+    }
+
+    //São contados por thread, e o JMH mostra a soma de todas elas na mesma unidade da vazão ("ops/ms").
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    public static class Outcomes {
+        public long updated;
+        public long conflicts;
+    }
+
+    @Benchmark
+    public void update(final Outcomes outcomes) {
+        final var index = ThreadLocalRandom.current().nextInt(this.hotCategories);
+        final var command = UpdateCategoryCommand.with(this.ids[index].getValue(), "Séries", null, true);
+
+        if ("pessimistic".equals(this.mode)) {
+            final var lock = this.locks[index];
+
+            lock.lock();
+
+            try {
+                execute(command, outcomes);
+            } finally {
+                lock.unlock();
+            }
+        } else {
+            execute(command, outcomes);
+        }
+    }
+
+    private void execute(final UpdateCategoryCommand command, final Outcomes outcomes) {
+        try {
+            this.updateCategoryUseCase.execute(command);
+            outcomes.updated++;
+        } catch (final ConflictException ex) {
+            outcomes.conflicts++;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.projetopraticobackend.servicocatalogo.benchmarks;
+
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryID;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/* Aqui medimos a geração de um novo ID e a conversão de um ID recebido na requisição.
+*
+* O "randomUUID()" é a estratégia anterior do "CategoryID.unique()", e fica aqui apenas para compararmos. As versões
+* "contended" executam em 4 threads ao mesmo tempo, para medirmos a disputa pelo "AtomicLong" do gerador. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CategoryIDBenchmark {
+
+    private final String id = UUID.randomUUID().toString();
+
+    @Benchmark
+    public CategoryID unique() {
+        return CategoryID.unique();
+    }
+
+    @Benchmark
+    public CategoryID randomUUID() {
+        return CategoryID.from(UUID.randomUUID());
+    }
+
+    @Benchmark
+    @Threads(4)
+    public CategoryID uniqueContended() {
+        return CategoryID.unique();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public CategoryID randomUUIDContended() {
+        return CategoryID.from(UUID.randomUUID());
+    }
+
+    @Benchmark
+    public CategoryID from() {
+        return CategoryID.from(this.id);
+    }
+}
@@ -0,0 +1,63 @@
+package com.projetopraticobackend.servicocatalogo.benchmarks;
+
+import com.projetopraticobackend.servicocatalogo.domain.category.Category;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryID;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryPreview;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/* Aqui comparamos as duas formas de montar uma página de "CategoryPreview" a partir das linhas da consulta: passando pelo
+* agregado, como o "findAll()" faz ("aggregates"), ou montando o "CategoryPreview" direto da linha, como o
+* "findAllPreviews()" faz ("projections"). O "gc.alloc.rate.norm" mostra quantos bytes cada página aloca.
+*
+* Esse módulo não depende do Hibernate, então as linhas são apenas os valores das colunas. O custo das entidades do JPA
+* e do contexto de persistência, que o "findAll()" também tem, não entra aqui. Ele é verificado no
+* "CategoryMySQLGatewayProjectionTest", que garante que a projeção não carrega nenhuma entidade. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CategoryPreviewBenchmark {
+
+    @Param({"10", "100"}) //É o tamanho da página.
+    private int perPage;
+
+    private List<Object[]> rows;
+
+    @Setup
+    public void setUp() {
+        this.rows = new ArrayList<>(this.perPage);
+
+        for (int i = 0; i < this.perPage; i++) {
+            final var now = Instant.now();
+            this.rows.add(new Object[]{CategoryID.unique().getValue(), "Categoria " + i, "Descrição da categoria " + i, i % 2 == 0, now, now, null, 0L});
+        }
+    }
+
+    @Benchmark
+    public List<CategoryPreview> aggregates() {
+        return this.rows.stream()
+                .map(row -> Category.with(CategoryID.from((String) row[0]), (String) row[1], (String) row[2], (boolean) row[3],
+                        (Instant) row[4], (Instant) row[5], (Instant) row[6], (long) row[7]))
+                .map(CategoryPreview::from)
+                .toList();
+    }
+
+    @Benchmark
+    public List<CategoryPreview> projections() {
+        return this.rows.stream()
+                .map(row -> new CategoryPreview((String) row[0], (String) row[1], (String) row[2], (boolean) row[3],
+                        (Instant) row[4], (Instant) row[5], (Instant) row[6], (long) row[7]))
+                .toList();
+    }
+}
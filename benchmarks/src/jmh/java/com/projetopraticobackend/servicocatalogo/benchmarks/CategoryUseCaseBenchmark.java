@@ -0,0 +1,66 @@
+package com.projetopraticobackend.servicocatalogo.benchmarks;
+
+import com.projetopraticobackend.servicocatalogo.application.category.create.CreateCategoryCommand;
+import com.projetopraticobackend.servicocatalogo.application.category.create.CreateCategoryOutput;
+import com.projetopraticobackend.servicocatalogo.application.category.create.CreateCategoryUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.create.DefaultCreateCategoryUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.update.DefaultUpdateCategoryUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.update.UpdateCategoryCommand;
+import com.projetopraticobackend.servicocatalogo.application.category.update.UpdateCategoryOutput;
+import com.projetopraticobackend.servicocatalogo.application.category.update.UpdateCategoryUseCase;
+import com.projetopraticobackend.servicocatalogo.domain.category.Category;
+import com.projetopraticobackend.servicocatalogo.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/* Aqui medimos os casos de uso de criação e de atualização com o "InMemoryCategoryGateway", ou seja, apenas o custo do
+* caso de uso e do domínio, sem o banco de dados. Também medimos o caminho com erro de validação. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class CategoryUseCaseBenchmark {
+
+    private CreateCategoryUseCase createCategoryUseCase;
+    private UpdateCategoryUseCase updateCategoryUseCase;
+
+    private CreateCategoryCommand validCreateCommand;
+    private CreateCategoryCommand invalidCreateCommand;
+    private UpdateCategoryCommand validUpdateCommand;
+
+    @Setup
+    public void setUp() {
+        final var categoryGateway = new InMemoryCategoryGateway();
+
+        this.createCategoryUseCase = new DefaultCreateCategoryUseCase(categoryGateway);
+        this.updateCategoryUseCase = new DefaultUpdateCategoryUseCase(categoryGateway);
+
+        final var category = categoryGateway.seed(Category.newCategory("Filmes", null, true));
+
+        this.validCreateCommand = CreateCategoryCommand.with("Filmes", "A categoria mais assistida", true);
+        this.invalidCreateCommand = CreateCategoryCommand.with(" ", "A categoria mais assistida", true);
+        this.validUpdateCommand = UpdateCategoryCommand.with(category.getId().getValue(), "Séries", "A segunda categoria mais assistida", false);
+    }
+
+    @Benchmark
+    public Either<Notification, CreateCategoryOutput> createCategory() {
+        return this.createCategoryUseCase.execute(this.validCreateCommand);
+    }
+
+    @Benchmark
+    public Either<Notification, CreateCategoryOutput> createInvalidCategory() {
+        return this.createCategoryUseCase.execute(this.invalidCreateCommand);
+    }
+
+    @Benchmark
+    public Either<Notification, UpdateCategoryOutput> updateCategory() {
+        return this.updateCategoryUseCase.execute(this.validUpdateCommand);
+    }
+}
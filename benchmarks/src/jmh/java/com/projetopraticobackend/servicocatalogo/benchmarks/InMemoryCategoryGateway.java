@@ -0,0 +1,145 @@
+package com.projetopraticobackend.servicocatalogo.benchmarks;
+
+import com.projetopraticobackend.servicocatalogo.domain.category.Category;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryCursorQuery;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryExportQuery;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryGateway;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryID;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryPreview;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategorySearchQuery;
+import com.projetopraticobackend.servicocatalogo.domain.pagination.CursorPagination;
+import com.projetopraticobackend.servicocatalogo.domain.pagination.Pagination;
+import com.projetopraticobackend.servicocatalogo.domain.pagination.SlicePagination;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/* Esse é um gateway em memória, utilizado apenas para medirmos os casos de uso sem o banco de dados.
+*
+* As categorias criadas não são guardadas, pois, com milhões de operações por segundo, o mapa cresceria durante a medição
+* e o custo do "GC" passaria a ser dele, e não do caso de uso. Apenas as categorias adicionadas pelo "seed()" são
+* encontradas pelo "findById()" e pelas listagens. */
+public class InMemoryCategoryGateway implements CategoryGateway {
+
+    private final Map<CategoryID, Category> categories = new ConcurrentHashMap<>();
+
+    public Category seed(final Category category) {
+        this.categories.put(category.getId(), category.clone());
+        return category;
+    }
+
+    @Override
+    public Category create(final Category category) {
+        return category;
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> categories) {
+        return categories;
+    }
+
+    @Override
+    public void deleteById(final CategoryID id) {
+        this.categories.remove(id);
+    }
+
+    @Override
+    public void deleteAllById(final List<CategoryID> ids) {
+        ids.forEach(this.categories::remove);
+    }
+
+    //Assim como no banco de dados, cada busca devolve um novo objeto.
+    @Override
+    public Optional<Category> findById(final CategoryID id) {
+        return Optional.ofNullable(this.categories.get(id)).map(Category::with);
+    }
+
+    @Override
+    public Category update(final Category category) {
+        return category;
+    }
+
+    /* Assim como o "UPDATE ... WHERE version = ?", a categoria apenas é substituída se ela ainda estiver na versão que foi
+    * lida. O "compute()" é atômico para cada chave, então duas threads nunca substituem a mesma versão. As categorias que
+    * não foram adicionadas pelo "seed()" são apenas devolvidas, como antes. */
+    @Override
+    public Optional<Category> updateById(final Category category) {
+        if (!this.categories.containsKey(category.getId())) {
+            return Optional.of(category);
+        }
+
+        final var updatedCategory = Category.nextVersion(category);
+
+        final var current = this.categories.computeIfPresent(category.getId(),
+                (id, stored) -> stored.getVersion() == category.getVersion() ? updatedCategory : stored);
+
+        return current == updatedCategory ? Optional.of(updatedCategory.clone()) : Optional.empty();
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery query) {
+        final var matching = matching(query.terms(), query.direction());
+        final var offset = query.page() * query.perPage();
+
+        return new Pagination<>(query.page(), query.perPage(), matching.size(), window(matching, offset, query.perPage()));
+    }
+
+    @Override
+    public Pagination<CategoryPreview> findAllPreviews(final CategorySearchQuery query) {
+        return findAll(query).map(CategoryPreview::from);
+    }
+
+    @Override
+    public SlicePagination<Category> findSlice(final CategorySearchQuery query) {
+        final var matching = matching(query.terms(), query.direction());
+        final var offset = query.page() * query.perPage();
+
+        return new SlicePagination<>(query.page(), query.perPage(), matching.size() > offset + query.perPage(), window(matching, offset, query.perPage()));
+    }
+
+    //Aqui, o cursor é apenas a posição da próxima categoria, pois o mapa não muda durante a medição.
+    @Override
+    public CursorPagination<Category> findAllByCursor(final CategoryCursorQuery query) {
+        final var matching = matching(query.terms(), query.direction());
+        final var offset = query.after() == null ? 0 : Integer.parseInt(query.after());
+        final var end = offset + query.perPage();
+
+        return new CursorPagination<>(query.perPage(), end < matching.size() ? String.valueOf(end) : null, window(matching, offset, query.perPage()));
+    }
+
+    @Override
+    public void exportAll(final CategoryExportQuery query, final Consumer<CategoryPreview> consumer) {
+        this.categories.values().stream()
+                .filter(category -> query.active() == null || category.isActive() == query.active())
+                .filter(category -> query.updatedSince() == null || !category.getUpdatedAt().isBefore(query.updatedSince()))
+                .map(CategoryPreview::from)
+                .forEach(consumer);
+    }
+
+    /* As buscas apenas filtram pelos termos no nome e na descrição e ordenam pelo nome, independente do "sort". Para os
+    * casos de uso, isso é suficiente, pois eles apenas repassam a página que recebem. */
+    private List<Category> matching(final String terms, final String direction) {
+        final var byName = Comparator.comparing(Category::getName).thenComparing(category -> category.getId().getValue());
+
+        return this.categories.values().stream()
+                .filter(category -> terms == null || terms.isBlank() || contains(category.getName(), terms) || contains(category.getDescription(), terms))
+                .sorted("desc".equalsIgnoreCase(direction) ? byName.reversed() : byName)
+                .toList();
+    }
+
+    private static boolean contains(final String value, final String terms) {
+        return value != null && value.toLowerCase(Locale.ROOT).contains(terms.toLowerCase(Locale.ROOT));
+    }
+
+    //Assim como no "findById()", cada categoria da página é um novo objeto.
+    private static List<Category> window(final List<Category> categories, final int offset, final int perPage) {
+        return categories.subList(Math.min(offset, categories.size()), Math.min(offset + perPage, categories.size())).stream()
+                .map(Category::with)
+                .toList();
+    }
+}
@@ -0,0 +1,45 @@
+package com.projetopraticobackend.servicocatalogo.benchmarks;
+
+import com.projetopraticobackend.servicocatalogo.application.category.retrieve.list.CategoryListOutput;
+import com.projetopraticobackend.servicocatalogo.domain.category.Category;
+import com.projetopraticobackend.servicocatalogo.domain.pagination.Pagination;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+/* Aqui medimos o "Pagination.map()", da mesma forma que ele é utilizado na listagem, convertendo cada categoria em um
+* "CategoryListOutput". */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PaginationBenchmark {
+
+    @Param({"10", "100"}) //É o tamanho da página.
+    private int perPage;
+
+    private Pagination<Category> page;
+
+    @Setup
+    public void setUp() {
+        final var categories = new ArrayList<Category>(this.perPage);
+
+        for (int i = 0; i < this.perPage; i++) {
+            categories.add(Category.newCategory("Categoria " + i, "Descrição da categoria " + i, true));
+        }
+
+        this.page = new Pagination<>(0, this.perPage, 1000, categories);
+    }
+
+    @Benchmark
+    public Pagination<CategoryListOutput> map() {
+        return this.page.map(CategoryListOutput::from);
+    }
+}
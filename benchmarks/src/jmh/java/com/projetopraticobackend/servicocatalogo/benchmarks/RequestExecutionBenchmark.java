@@ -0,0 +1,125 @@
+package com.projetopraticobackend.servicocatalogo.benchmarks;
+
+import com.projetopraticobackend.servicocatalogo.application.execution.ConcurrencyLimitedExecutor;
+import com.projetopraticobackend.servicocatalogo.application.execution.VirtualThreads;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/* Aqui comparamos as duas formas de executar as requisições: as 64 threads de "worker" do Undertow ("workers") e as
+* "virtual threads" limitadas ao tamanho do "pool" do Hikari ("virtual-threads").
+*
+* Cada operação é uma rajada de requisições que disputam as 20 conexões do "pool" e esperam 5ms no banco de dados, ou
+* seja, um banco de dados lento. Medimos quantas rajadas são atendidas por segundo.
+*
+* A memória das threads de "worker" não aparece no "gc.alloc.rate.norm", pois a pilha de uma thread comum fica fora do
+* "heap" (por padrão, 1MB reservado por thread). Por isso, também medimos o pico de threads da JVM em cada iteração, que
+* aparece no resultado como a métrica "peakThreads", ao lado do "gc.alloc.rate.norm". As pilhas das "virtual threads" ficam no "heap", então elas aparecem no "gc.alloc.rate.norm".
+*
+* O modo "virtual-threads" exige o Java 21: "./gradlew :benchmarks:jmh -Pbenchmark=RequestExecutionBenchmark", com o
+* Gradle executando em um JDK 21. Em uma JVM mais antiga, apenas o modo "workers" é executado. */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class RequestExecutionBenchmark {
+
+    private static final int WORKER_THREADS = 64; //É o "server.undertow.threads.worker".
+    private static final int POOL_SIZE = 20; //É o "spring.datasource.hikari.maximum-pool-size".
+    private static final long QUERY_MILLIS = 5;
+
+    @Param({"workers", "virtual-threads"})
+    private String mode;
+
+    @Param({"200"}) //É a quantidade de requisições que chegam ao mesmo tempo.
+    private int burst;
+
+    private ExecutorService workers;
+    private Executor executor;
+    private Semaphore connections;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.connections = new Semaphore(POOL_SIZE, true);
+
+        if ("workers".equals(this.mode)) {
+            this.workers = Executors.newFixedThreadPool(WORKER_THREADS);
+            this.executor = this.workers;
+        } else {
+            this.executor = new ConcurrencyLimitedExecutor(VirtualThreads.newThreadPerTaskExecutor("request-"), POOL_SIZE);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (this.workers != null) {
+            this.workers.shutdownNow();
+        }
+    }
+
+    @Benchmark
+    public void burst(final Threads threads) throws InterruptedException {
+        final var done = new CountDownLatch(this.burst);
+
+        for (int i = 0; i < this.burst; i++) {
+            this.executor.execute(() -> {
+                try {
+                    query();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        done.await();
+
+        threads.record();
+    }
+
+    //Simula uma requisição que pega uma conexão do "pool" e espera pela resposta do banco de dados.
+    private void query() {
+        this.connections.acquireUninterruptibly();
+
+        try {
+            Thread.sleep(QUERY_MILLIS);
+        } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } finally {
+            this.connections.release();
+        }
+    }
+
+    /* Os campos públicos de um "@AuxCounters" são publicados pelo JMH como métricas secundárias do benchmark. Com o tipo
+    * "EVENTS", o valor publicado é o que o campo tem no fim da iteração, então guardamos nele o maior pico observado. */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Threads {
+
+        public long peakThreads;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            ManagementFactory.getThreadMXBean().resetPeakThreadCount();
+            this.peakThreads = 0;
+        }
+
+        private void record() {
+            this.peakThreads = Math.max(this.peakThreads, ManagementFactory.getThreadMXBean().getPeakThreadCount());
+        }
+    }
+}
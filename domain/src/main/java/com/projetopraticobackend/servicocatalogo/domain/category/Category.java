@@ -15,13 +15,19 @@ public class Category extends AgregateRoot<CategoryID> implements Cloneable {
     private Instant updatedAt;
     private Instant deletedAt;
 
+    /* É a versão da categoria que foi lida do banco de dados. Ela não é alterada pelo domínio, mas é enviada junto com o
+    * "UPDATE", que apenas altera a linha se ela ainda estiver nessa versão. Assim, se duas requisições alterarem a mesma
+    * categoria ao mesmo tempo, a segunda falha, ao invés de sobrescrever a primeira ("optimistic locking"). */
+    private final long version;
+
     private Category(final CategoryID id,
                      final String name,
                      final String description,
                      final boolean active,
                      final Instant createdAt,
                      final Instant updatedAt,
-                     final Instant deletedAt) {
+                     final Instant deletedAt,
+                     final long version) {
 
         super(id);
         this.name = name;
@@ -30,6 +36,7 @@ public class Category extends AgregateRoot<CategoryID> implements Cloneable {
         this.createdAt = Objects.requireNonNull(createdAt, "'createdAt' should not be null");
         this.updatedAt = Objects.requireNonNull(updatedAt, "'updatedAt' should not be null");
         this.deletedAt = deletedAt;
+        this.version = version;
     }
 
     //Esse método servirá como a "factory" para criar uma nova categoria.
@@ -47,7 +54,8 @@ public class Category extends AgregateRoot<CategoryID> implements Cloneable {
                 active,
                 now,
                 now,
-                deletedAt);
+                deletedAt,
+                0);
     }
 
     public static Category clone(final Category category) {
@@ -62,6 +70,18 @@ public class Category extends AgregateRoot<CategoryID> implements Cloneable {
                                 final Instant updatedAt,
                                 final Instant deletedAt) {
 
+        return with(id, name, description, active, createdAt, updatedAt, deletedAt, 0);
+    }
+
+    public static Category with(final CategoryID id,
+                                final String name,
+                                final String description,
+                                final boolean active,
+                                final Instant createdAt,
+                                final Instant updatedAt,
+                                final Instant deletedAt,
+                                final long version) {
+
         return new Category(
                 id,
                 name,
@@ -69,7 +89,8 @@ public class Category extends AgregateRoot<CategoryID> implements Cloneable {
                 active,
                 createdAt,
                 updatedAt,
-                deletedAt);
+                deletedAt,
+                version);
     }
 
     public static Category with(final Category category) {
@@ -81,7 +102,22 @@ public class Category extends AgregateRoot<CategoryID> implements Cloneable {
                 category.isActive(),
                 category.getCreatedAt(),
                 category.getUpdatedAt(),
-                category.getDeletedAt());
+                category.getDeletedAt(),
+                category.getVersion());
+    }
+
+    //É a mesma categoria, na versão seguinte. Ela é utilizada pelo gateway depois que o "UPDATE" é feito.
+    public static Category nextVersion(final Category category) {
+
+        return new Category(
+                category.getId(),
+                category.getName(),
+                category.getDescription(),
+                category.isActive(),
+                category.getCreatedAt(),
+                category.getUpdatedAt(),
+                category.getDeletedAt(),
+                category.getVersion() + 1);
     }
 
     public Category activate() {
@@ -155,6 +191,10 @@ public class Category extends AgregateRoot<CategoryID> implements Cloneable {
         return deletedAt;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
     /* O "clone()" é um comportamento da JVM que pega os atributos de um objeto, cria um novo objeto e
      * copia esses atributos para o novo objeto gerado, ou seja, criamos uma "cópia" do objeto, mas com referências
      * diferentes. */
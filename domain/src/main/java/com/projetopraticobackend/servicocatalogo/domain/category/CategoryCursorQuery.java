@@ -0,0 +1,12 @@
+package com.projetopraticobackend.servicocatalogo.domain.category;
+
+/* Esses são os parâmetros da busca de categorias por cursor. Ao invés da página, o consumidor envia o cursor
+* ("after") que recebeu na página anterior. Na primeira página, o "after" não deverá ser enviado. */
+public record CategoryCursorQuery(
+        String after, //É o cursor opaco que indica a partir de qual categoria a próxima página começa.
+        int perPage, //A quantidade de elementos por página que a pessoa quer receber.
+        String terms, //Os termos que a pessoa quer buscar, como "Aventura".
+        String sort, //O atributo que a pessoa quer usar para ordenar.
+        String direction //Se a pessoa quer ordenar de forma ascendente ou descendente.
+) {
+}
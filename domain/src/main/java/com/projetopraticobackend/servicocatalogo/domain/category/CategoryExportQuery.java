@@ -0,0 +1,11 @@
+package com.projetopraticobackend.servicocatalogo.domain.category;
+
+import java.time.Instant;
+
+/* Esses são os filtros da exportação das categorias. Os dois são opcionais, ou seja, se forem nulos, todas as
+* categorias serão exportadas. */
+public record CategoryExportQuery(
+        Boolean active, //Se informado, apenas as categorias ativas ("true") ou inativas ("false") serão exportadas.
+        Instant updatedSince //Se informado, apenas as categorias atualizadas a partir desse instante serão exportadas.
+) {
+}
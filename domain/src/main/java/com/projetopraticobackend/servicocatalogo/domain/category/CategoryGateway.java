@@ -1,8 +1,12 @@
 package com.projetopraticobackend.servicocatalogo.domain.category;
 
+import com.projetopraticobackend.servicocatalogo.domain.pagination.CursorPagination;
 import com.projetopraticobackend.servicocatalogo.domain.pagination.Pagination;
+import com.projetopraticobackend.servicocatalogo.domain.pagination.SlicePagination;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 /* Essa interface fará a exposição do "Category" para os outros casos de
 * uso. Assim, os casos de uso apenas poderão manipular essa entidade por
@@ -12,17 +16,45 @@ public interface CategoryGateway {
     /* Esse método criará essa categoria. */
     Category create(Category category);
 
-    /* Esse método excluirá essa categoria. */
+    /* Esse método criará todas essas categorias de uma só vez. Elas já devem ter sido validadas, e, se uma delas
+    * falhar, nenhuma será criada. */
+    List<Category> createAll(List<Category> categories);
+
+    /* Esse método excluirá essa categoria. Se ela não existir, nada acontece. */
     void deleteById(CategoryID id);
 
+    /* Esse método excluirá todas essas categorias de uma só vez. As que não existirem são ignoradas. */
+    void deleteAllById(List<CategoryID> ids);
+
     /* Esse método buscará por essa categoria */
     Optional<Category> findById(CategoryID id);
 
     /* Esse método atualizará essa categoria. */
     Category update(Category category);
 
+    /* Esse método também atualizará essa categoria, porém, com um único "UPDATE", sem buscá-la antes. A categoria recebida
+    * deve ter o estado completo, ou seja, ela já deve ter sido buscada e alterada. Se ela não existir mais, o retorno será
+    * vazio. */
+    Optional<Category> updateById(Category category);
+
     /* Esse método buscará por todas as categorias. Ele receberá um
     * parâmetro que servirá para que o cliente, ou seja, quem está consumindo
     * esse gateway, informe as categorias que ele deseja. */
     Pagination<Category> findAll(CategorySearchQuery query);
+
+    /* Esse método faz a mesma busca do "findAll()", porém, retorna apenas o modelo de leitura ("CategoryPreview"), que é
+    * montado diretamente a partir do resultado da consulta. */
+    Pagination<CategoryPreview> findAllPreviews(CategorySearchQuery query);
+
+    /* Esse método buscará as categorias da mesma forma que o "findAll()", porém, sem contar o total de categorias.
+    * Ele apenas informará se existe uma próxima página. */
+    SlicePagination<Category> findSlice(CategorySearchQuery query);
+
+    /* Esse método também buscará as categorias, porém, utilizando a paginação por cursor. Ao invés de pular as
+    * categorias das páginas anteriores (OFFSET), a busca começará logo após a última categoria retornada. */
+    CursorPagination<Category> findAllByCursor(CategoryCursorQuery query);
+
+    /* Esse método percorrerá todas as categorias que atendem aos filtros, entregando cada uma para o "consumer" assim que
+    * ela for lida, ou seja, sem montar a lista completa em memória. */
+    void exportAll(CategoryExportQuery query, Consumer<CategoryPreview> consumer);
 }
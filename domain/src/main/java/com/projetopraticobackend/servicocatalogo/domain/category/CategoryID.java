@@ -1,6 +1,7 @@
 package com.projetopraticobackend.servicocatalogo.domain.category;
 
 import com.projetopraticobackend.servicocatalogo.domain.valueobjects.Identifier;
+import com.projetopraticobackend.servicocatalogo.domain.valueobjects.TimeOrderedUUIDGenerator;
 
 import java.util.Objects;
 import java.util.UUID;
@@ -16,9 +17,10 @@ public class CategoryID extends Identifier {
         this.value = value;
     }
 
-    /* Esse será o principal construtor para criarmos um "CategoryID". */
+    /* Esse será o principal construtor para criarmos um "CategoryID". Os IDs são gerados em ordem crescente, para que as
+    * inserções aconteçam sempre no final da chave primária. */
     public static CategoryID unique(){
-        return from(UUID.randomUUID());
+        return from(TimeOrderedUUIDGenerator.next());
     }
 
     /* Esse construtor será usado para convertermos uma string em um ID. Por
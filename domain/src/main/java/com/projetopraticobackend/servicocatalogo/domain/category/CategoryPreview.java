@@ -0,0 +1,42 @@
+package com.projetopraticobackend.servicocatalogo.domain.category;
+
+import java.time.Instant;
+
+/* Esse é um modelo apenas de leitura da categoria, utilizado nas listagens.
+*
+* Ele não é um agregado, ou seja, não tem comportamento nem validação, e, por isso, pode ser montado diretamente a partir
+* do resultado da consulta, sem passarmos pela entidade do JPA e pelo "Category". */
+public record CategoryPreview(CategoryID id,
+                              String name,
+                              String description,
+                              boolean isActive,
+                              Instant createdAt,
+                              Instant updatedAt,
+                              Instant deletedAt,
+                              long version) {
+
+    //Esse construtor é utilizado pela consulta, que nos entrega o ID como uma "String".
+    public CategoryPreview(final String id,
+                           final String name,
+                           final String description,
+                           final boolean isActive,
+                           final Instant createdAt,
+                           final Instant updatedAt,
+                           final Instant deletedAt,
+                           final long version) {
+        this(CategoryID.from(id), name, description, isActive, createdAt, updatedAt, deletedAt, version);
+    }
+
+    public static CategoryPreview from(final Category category) {
+        return new CategoryPreview(
+                category.getId(),
+                category.getName(),
+                category.getDescription(),
+                category.isActive(),
+                category.getCreatedAt(),
+                category.getUpdatedAt(),
+                category.getDeletedAt(),
+                category.getVersion()
+        );
+    }
+}
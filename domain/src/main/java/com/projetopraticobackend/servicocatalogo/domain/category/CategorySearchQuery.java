@@ -1,5 +1,11 @@
 package com.projetopraticobackend.servicocatalogo.domain.category;
 
+import com.projetopraticobackend.servicocatalogo.domain.exceptions.DomainException;
+import com.projetopraticobackend.servicocatalogo.domain.validation.Error;
+
+import java.util.Locale;
+import java.util.Set;
+
 /* Esses são os parâmetros que qualquer consumidor poderá utilizar para fazer a busca dos
 * objetos do tipo "Category" que estão no banco de dados. */
 public record CategorySearchQuery(
@@ -9,4 +15,23 @@ public record CategorySearchQuery(
         String sort, //O atributo que a pessoa quer usar para ordenar.
         String direction //Se a pessoa quer ordenar de forma ascendente ou descendente.
 ) {
+
+    /* Apenas os atributos que possuem um índice no banco de dados podem ser usados na ordenação ("V5__Category_sort_indexes.sql").
+    * Os demais, como a descrição, obrigariam o banco de dados a ler e ordenar a tabela inteira a cada página. O
+    * "relevance" não é uma coluna, ele ordena pela relevância dos termos buscados. */
+    public static final Set<String> SORTABLE_FIELDS = Set.of("id", "name", "createdAt", "updatedAt", "relevance");
+
+    private static final Set<String> DIRECTIONS = Set.of("asc", "desc");
+
+    /* Validamos a ordenação aqui, ao criarmos a busca. Sem essa validação, um atributo desconhecido apenas falhava dentro
+    * do Hibernate, já durante a consulta. */
+    public CategorySearchQuery {
+        if (sort == null || !SORTABLE_FIELDS.contains(sort)) {
+            throw DomainException.with(new Error("'%s' is not a supported sort field".formatted(sort)));
+        }
+
+        if (direction == null || !DIRECTIONS.contains(direction.toLowerCase(Locale.ROOT))) {
+            throw DomainException.with(new Error("'%s' is not a supported sort direction".formatted(direction)));
+        }
+    }
 }
@@ -0,0 +1,29 @@
+package com.projetopraticobackend.servicocatalogo.domain.exceptions;
+
+import com.projetopraticobackend.servicocatalogo.domain.AgregateRoot;
+import com.projetopraticobackend.servicocatalogo.domain.validation.Error;
+import com.projetopraticobackend.servicocatalogo.domain.valueobjects.Identifier;
+
+import java.util.Collections;
+import java.util.List;
+
+/* Essa exception será lançada quando um agregado foi alterado por outra requisição depois de ter sido lido, ou seja,
+* quando a versão que temos não é mais a versão que está salva. */
+public class ConflictException extends DomainException {
+
+    protected ConflictException(final String message,
+                                final List<Error> errors) {
+        super(message, errors);
+    }
+
+    public static ConflictException with(
+            final Class<? extends AgregateRoot<?>> aggregate,
+            final Identifier id
+    ){
+
+        final var error = "%s with ID %s was modified by another request".formatted(aggregate.getSimpleName(),
+                id.getValue());
+
+        return new ConflictException(error, Collections.emptyList());
+    }
+}
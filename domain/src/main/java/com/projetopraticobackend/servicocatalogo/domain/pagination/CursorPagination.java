@@ -0,0 +1,26 @@
+package com.projetopraticobackend.servicocatalogo.domain.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+
+/* Essa é a paginação por cursor (também conhecida como "keyset" ou "seek"). Diferente do "Pagination", ela não
+ * tem o número da página nem o total de elementos. O cliente recebe um "token" opaco, o "next", e o envia de volta
+ * para buscar a próxima página. Quando o "next" for nulo, não existem mais elementos. */
+public record CursorPagination<T>(int perPage, //Quantos registros temos por página.
+                                  String next, //É o cursor que deverá ser enviado para buscarmos a próxima página.
+                                  List<T> elements //Os itens que serão retornados na página atual.
+) {
+
+    public boolean hasNext() {
+        return this.next != null;
+    }
+
+    public <R> CursorPagination<R> map(final Function<T, R> mapper) {
+
+        final List<R> newList = this.elements.stream()
+                .map(mapper)
+                .toList();
+
+        return new CursorPagination<>(perPage(), next(), newList);
+    }
+}
@@ -0,0 +1,22 @@
+package com.projetopraticobackend.servicocatalogo.domain.pagination;
+
+import java.util.List;
+import java.util.function.Function;
+
+/* Essa é a paginação sem a contagem total de elementos. Ao invés do "totalElements", que exige um "COUNT(*)" no
+ * banco de dados, ela informa apenas se existe uma próxima página ("hasNext"). */
+public record SlicePagination<T>(int currentPage, //É a página atual em que a paginação pertence.
+                                 int perPage, //Quantos registros temos por página.
+                                 boolean hasNext, //Se existe, ou não, uma próxima página.
+                                 List<T> elements //Os itens que serão retornados na página atual.
+) {
+
+    public <R> SlicePagination<R> map(final Function<T, R> mapper) {
+
+        final List<R> newList = this.elements.stream()
+                .map(mapper)
+                .toList();
+
+        return new SlicePagination<>(currentPage(), perPage(), hasNext(), newList);
+    }
+}
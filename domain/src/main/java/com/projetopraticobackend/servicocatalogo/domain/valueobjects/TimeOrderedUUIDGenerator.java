@@ -0,0 +1,66 @@
+package com.projetopraticobackend.servicocatalogo.domain.valueobjects;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/* Esse gerador cria UUIDs ordenados pelo tempo, no formato da versão 7 (RFC 9562):
+*
+*   48 bits: os milissegundos desde 1970 | 4 bits: a versão (7) | 12 bits: um contador
+*   2 bits: a variante | 62 bits: aleatórios
+*
+* Com o "UUID.randomUUID()", cada novo ID cai em um ponto aleatório da chave primária, e o InnoDB precisa dividir as
+* páginas do índice e manter todas elas no "buffer pool". Com os IDs em ordem, as inserções acontecem sempre no final
+* do índice.
+*
+* O tempo e o contador ficam juntos em um único "AtomicLong", que é atualizado com "compare-and-set", então não
+* precisamos de nenhum "lock". Os IDs gerados por essa JVM são sempre crescentes, mesmo se o relógio voltar no tempo ou
+* se mais de 4096 IDs forem gerados no mesmo milissegundo. Nesses casos, o tempo do ID "adianta" até o relógio alcançá-lo.
+*
+* A unicidade entre instâncias diferentes da aplicação vem dos 62 bits aleatórios. Utilizamos o "ThreadLocalRandom",
+* e não o "SecureRandom" do "UUID.randomUUID()", pois os IDs não são segredos e ele não é disputado entre as threads. */
+public final class TimeOrderedUUIDGenerator {
+
+    private static final TimeOrderedUUIDGenerator INSTANCE = new TimeOrderedUUIDGenerator(System::currentTimeMillis);
+
+    private static final int COUNTER_BITS = 12;
+    private static final long COUNTER_MASK = (1L << COUNTER_BITS) - 1;
+
+    private static final long VERSION = 0x7000L;
+    private static final long VARIANT = 0x8000000000000000L;
+    private static final long RANDOM_MASK = 0x3FFFFFFFFFFFFFFFL;
+
+    private final LongSupplier clock;
+
+    //São os milissegundos seguidos do contador, ou seja, os 60 bits do último ID gerado que vêm antes da variante.
+    private final AtomicLong lastTimestampAndCounter = new AtomicLong();
+
+    //O relógio é recebido apenas para que os testes consigam simulá-lo.
+    TimeOrderedUUIDGenerator(final LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    public static UUID next() {
+        return INSTANCE.generate();
+    }
+
+    UUID generate() {
+        final var timestampAndCounter = nextTimestampAndCounter();
+
+        final var mostSignificantBits = (timestampAndCounter >>> COUNTER_BITS) << 16
+                | VERSION
+                | (timestampAndCounter & COUNTER_MASK);
+
+        final var leastSignificantBits = ThreadLocalRandom.current().nextLong() & RANDOM_MASK | VARIANT;
+
+        return new UUID(mostSignificantBits, leastSignificantBits);
+    }
+
+    /* Em um novo milissegundo, o contador começa do zero. Caso contrário, somamos um ao último valor, e, se o contador
+    * passar de 4095, ele "transborda" para os milissegundos. */
+    private long nextTimestampAndCounter() {
+        final var now = this.clock.getAsLong() << COUNTER_BITS;
+        return this.lastTimestampAndCounter.accumulateAndGet(now, (last, current) -> Math.max(current, last + 1));
+    }
+}
@@ -0,0 +1,54 @@
+package com.projetopraticobackend.servicocatalogo.domain.category;
+
+import com.projetopraticobackend.servicocatalogo.domain.exceptions.DomainException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class CategorySearchQueryTest {
+
+    @Test
+    public void givenAnIndexedSortField_whenCallsNewCategorySearchQuery_thenInstantiateTheQuery(){
+
+        for (final var sort : CategorySearchQuery.SORTABLE_FIELDS) {
+            final var query = new CategorySearchQuery(0, 10, "", sort, "DESC");
+
+            Assertions.assertEquals(sort, query.sort());
+            Assertions.assertEquals("DESC", query.direction());
+        }
+    }
+
+    //A descrição não possui índice, então ela não pode ser usada na ordenação.
+    @Test
+    public void givenANotIndexedSortField_whenCallsNewCategorySearchQuery_thenShouldReceiveError(){
+
+        final var expectedErrorMessage = "'description' is not a supported sort field";
+
+        final var actualException = Assertions.assertThrows(DomainException.class,
+                () -> new CategorySearchQuery(0, 10, "", "description", "asc"));
+
+        Assertions.assertEquals(1, actualException.getErrors().size());
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    }
+
+    @Test
+    public void givenAnUnknownSortField_whenCallsNewCategorySearchQuery_thenShouldReceiveError(){
+
+        final var expectedErrorMessage = "'name; DROP TABLE category' is not a supported sort field";
+
+        final var actualException = Assertions.assertThrows(DomainException.class,
+                () -> new CategorySearchQuery(0, 10, "", "name; DROP TABLE category", "asc"));
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    }
+
+    @Test
+    public void givenAnInvalidDirection_whenCallsNewCategorySearchQuery_thenShouldReceiveError(){
+
+        final var expectedErrorMessage = "'up' is not a supported sort direction";
+
+        final var actualException = Assertions.assertThrows(DomainException.class,
+                () -> new CategorySearchQuery(0, 10, "", "name", "up"));
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    }
+}
@@ -0,0 +1,110 @@
+package com.projetopraticobackend.servicocatalogo.domain.valueobjects;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class TimeOrderedUUIDGeneratorTest {
+
+    @Test
+    public void givenACurrentTime_whenCallsGenerate_shouldReturnAVersion7UuidWithTheTimestamp(){
+
+        final var expectedTimestamp = 1_700_000_000_000L;
+
+        final var actualUuid = new TimeOrderedUUIDGenerator(() -> expectedTimestamp).generate();
+
+        Assertions.assertEquals(7, actualUuid.version());
+        Assertions.assertEquals(2, actualUuid.variant()); //É a variante da RFC.
+        Assertions.assertEquals(expectedTimestamp, actualUuid.getMostSignificantBits() >>> 16);
+
+        //O ID continua sendo um UUID comum para quem o recebe.
+        Assertions.assertEquals(actualUuid, UUID.fromString(actualUuid.toString()));
+    }
+
+    @Test
+    public void givenManyIdsInTheSameMillisecond_whenCallsGenerate_shouldReturnThemInIncreasingOrder(){
+
+        //Geramos mais de 4096 IDs no mesmo milissegundo, para que o contador transborde para o tempo.
+        final var generator = new TimeOrderedUUIDGenerator(() -> 1_700_000_000_000L);
+
+        final var ids = new ArrayList<String>();
+
+        for (int i = 0; i < 10_000; i++) {
+            ids.add(generator.generate().toString());
+        }
+
+        Assertions.assertEquals(ids.stream().sorted().toList(), ids);
+        Assertions.assertEquals(ids.size(), new HashSet<>(ids).size());
+    }
+
+    @Test
+    public void givenAClockThatGoesBackwards_whenCallsGenerate_shouldStillReturnIncreasingIds(){
+
+        final var now = new AtomicLong(1_700_000_000_000L);
+        final var generator = new TimeOrderedUUIDGenerator(now::get);
+
+        final var first = generator.generate().toString();
+
+        now.addAndGet(-5_000); //Por exemplo, o relógio do servidor foi ajustado pelo NTP.
+
+        final var second = generator.generate().toString();
+
+        Assertions.assertTrue(first.compareTo(second) < 0);
+    }
+
+    @Test
+    public void givenConcurrentCallers_whenCallsGenerate_shouldReturnUniqueIdsIncreasingPerThread() throws InterruptedException {
+
+        final var threads = 8;
+        final var idsPerThread = 20_000;
+
+        final var generator = new TimeOrderedUUIDGenerator(System::currentTimeMillis);
+        final var start = new CountDownLatch(1);
+        final var all = new ConcurrentLinkedQueue<String>();
+        final var outOfOrder = new AtomicLong();
+
+        final var executor = Executors.newFixedThreadPool(threads);
+
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                final List<String> ids = new ArrayList<>(idsPerThread);
+
+                try {
+                    start.await();
+                } catch (final InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+
+                for (int i = 0; i < idsPerThread; i++) {
+                    ids.add(generator.generate().toString());
+                }
+
+                //Cada thread deve enxergar os seus próprios IDs em ordem crescente.
+                for (int i = 1; i < ids.size(); i++) {
+                    if (ids.get(i - 1).compareTo(ids.get(i)) >= 0) {
+                        outOfOrder.incrementAndGet();
+                    }
+                }
+
+                all.addAll(ids);
+            });
+        }
+
+        start.countDown();
+        executor.shutdown();
+
+        Assertions.assertTrue(executor.awaitTermination(30, TimeUnit.SECONDS));
+        Assertions.assertEquals(0, outOfOrder.get());
+        Assertions.assertEquals(threads * idsPerThread, new HashSet<>(all).size());
+    }
+}
@@ -3,7 +3,7 @@ package com.projetopraticobackend.servicocatalogo.infrastructure.api;
 /* Aqui teremos a documentação com o Spring Docs e os métodos que a API de "Category" fará a
  * exposição. */
 
-import com.projetopraticobackend.servicocatalogo.domain.pagination.Pagination;
+import com.projetopraticobackend.servicocatalogo.domain.pagination.CursorPagination;
 import com.projetopraticobackend.servicocatalogo.infrastructure.category.models.CategoryApiOutput;
 import com.projetopraticobackend.servicocatalogo.infrastructure.category.models.CreateCategoryApiInput;
 import com.projetopraticobackend.servicocatalogo.infrastructure.category.models.UpdateCategoryApiInput;
@@ -11,43 +11,107 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import javax.validation.Valid;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 /* É recomendado deixarmos a documentação e as definições da API em uma interface e
  * as implementações do controller direto no controller. Isso é feito para não poluirmos muito
  * a classe "Controller" original. */
 
+/* Os endpoints que retornam um "CompletableFuture" são assíncronos: a thread do Undertow é liberada assim que o caso de
+ * uso é enviado para o seu "executor", e o Spring escreve a resposta quando o "CompletableFuture" for completado. */
+
 @RequestMapping("/categories")
 @Tag(name = "Categories") //É o nome do "resource" que estamos expondo.
 public interface CategoryAPI {
 
+    String CATEGORY_EXPORT_MEDIA_TYPE = "application/x-ndjson";
+
     @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE,
             produces = MediaType.APPLICATION_JSON_VALUE)
     @Operation(summary = "Create a new category") //Aqui temos uma descrição do que o endpoint faz.
     @ApiResponses(value = { //Aqui temos as possíveis respostas desse endpoint.
             @ApiResponse(responseCode = "201", description = "Created successfully"),
             @ApiResponse(responseCode = "422", description = "A validation error was thrown"),
+            @ApiResponse(responseCode = "503", description = "Too many requests are waiting for the database"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
     })
     //Estamos retornando um "ResponseEntity<?>" pois podemos retornar desde um "data model" de erro até uma resposta propriamente dita.
-    ResponseEntity<?> createCategory(@RequestBody @Valid CreateCategoryApiInput input); //O "@Valid" serve para validarmos o input já na entrada do controller.
+    CompletableFuture<ResponseEntity<?>> createCategory(@RequestBody @Valid CreateCategoryApiInput input); //O "@Valid" serve para validarmos o input já na entrada do controller.
+
+    /* Aqui, o cliente envia várias categorias em uma única requisição. As categorias válidas são criadas e, para cada
+    * categoria inválida, a resposta terá os seus erros de validação, na mesma posição em que ela foi enviada. */
+    @PostMapping(value = "batch",
+            consumes = MediaType.APPLICATION_JSON_VALUE,
+            produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Create many categories at once")
+    @ApiResponses(value = { //Aqui temos as possíveis respostas desse endpoint.
+            @ApiResponse(responseCode = "201", description = "All categories were created successfully"),
+            @ApiResponse(responseCode = "207", description = "The valid categories were created and the invalid ones have their validation errors"),
+            @ApiResponse(responseCode = "422", description = "The categories could not be persisted"),
+            @ApiResponse(responseCode = "503", description = "Too many requests are waiting for the database"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    CompletableFuture<ResponseEntity<?>> createCategories(@RequestBody List<CreateCategoryApiInput> input);
 
     @GetMapping
     @Operation(summary = "List all categories paginated")
     @ApiResponses(value = { //Aqui temos as possíveis respostas desse endpoint.
             @ApiResponse(responseCode = "200", description = "Listed successfully"),
+            @ApiResponse(responseCode = "304", description = "The page did not change since the \"ETag\" sent in \"If-None-Match\""),
             @ApiResponse(responseCode = "422", description = "An invalid parameter was received"),
+            @ApiResponse(responseCode = "503", description = "Too many requests are waiting for the database"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    //Se o "count" for "false", a resposta não terá o "totalElements", apenas o "hasNext", e o "COUNT(*)" não será executado.
+    CompletableFuture<ResponseEntity<?>> listCategories(@RequestParam(name = "search", required = false, defaultValue = "") final String name,
+                                                        @RequestParam(name = "page", required = false, defaultValue = "0") final Integer page, //Se o usuário não enviar nenhuma página padrão, ela será "0".
+                                                        @RequestParam(name = "perPage", required = false, defaultValue = "10") final Integer perPage, //O Spring fará a conversão do "defaultValue" automaticamente, se necessário.
+                                                        @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
+                                                        @RequestParam(name = "direction", required = false, defaultValue = "asc") final String direction,
+                                                        @RequestParam(name = "count", required = false, defaultValue = "true") final Boolean count);
+
+    /* Nessa listagem, ao invés do número da página, o cliente envia o cursor ("after") que recebeu no campo "next" da
+    * página anterior. Ela é indicada para páginas profundas, já que o tempo de resposta não cresce com o número da página. */
+    @GetMapping(value = "cursor")
+    @Operation(summary = "List all categories paginated by cursor")
+    @ApiResponses(value = { //Aqui temos as possíveis respostas desse endpoint.
+            @ApiResponse(responseCode = "200", description = "Listed successfully"),
+            @ApiResponse(responseCode = "304", description = "The page did not change since the \"ETag\" sent in \"If-None-Match\""),
+            @ApiResponse(responseCode = "422", description = "An invalid parameter or cursor was received"),
+            @ApiResponse(responseCode = "503", description = "Too many requests are waiting for the database"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
     })
-    Pagination<?> listCategories(@RequestParam(name = "search", required = false, defaultValue = "") final String name,
-                                 @RequestParam(name = "page", required = false, defaultValue = "0") final Integer page, //Se o usuário não enviar nenhuma página padrão, ela será "0".
-                                 @RequestParam(name = "perPage", required = false, defaultValue = "10") final Integer perPage, //O Spring fará a conversão do "defaultValue" automaticamente, se necessário.
-                                 @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
-                                 @RequestParam(name = "direction", required = false, defaultValue = "asc") final String direction);
+    CompletableFuture<ResponseEntity<CursorPagination<CategoryApiOutput>>> listCategoriesByCursor(@RequestParam(name = "search", required = false, defaultValue = "") final String name,
+                                                                                                  @RequestParam(name = "after", required = false) final String after, //Na primeira página, o cursor não deverá ser enviado.
+                                                                                                  @RequestParam(name = "perPage", required = false, defaultValue = "10") final Integer perPage,
+                                                                                                  @RequestParam(name = "sort", required = false, defaultValue = "name") final String sort,
+                                                                                                  @RequestParam(name = "direction", required = false, defaultValue = "asc") final String direction);
+
+    /* Aqui, todas as categorias são enviadas em uma única resposta, no formato NDJSON, ou seja, um JSON por linha. A
+    * resposta é escrita enquanto as categorias são lidas do banco, então o cliente pode processá-la linha a linha.
+    *
+    * Sem filtros, as categorias são ordenadas pelo ID. Com o "active" ou o "updatedSince", elas são ordenadas pela data
+    * de atualização e, depois, pelo ID. */
+    @GetMapping(value = "export", produces = CATEGORY_EXPORT_MEDIA_TYPE)
+    @Operation(summary = "Export all categories as newline-delimited JSON")
+    @ApiResponses(value = { //Aqui temos as possíveis respostas desse endpoint.
+            @ApiResponse(responseCode = "200", description = "Exported successfully"),
+            @ApiResponse(responseCode = "400", description = "An invalid filter was received"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    ResponseEntity<StreamingResponseBody> exportCategories(@RequestParam(name = "active", required = false) final Boolean active,
+                                                           @RequestParam(name = "updatedSince", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) final Instant updatedSince); //Por exemplo, "2022-06-01T00:00:00Z".
 
     @GetMapping(value = "{id}", //Receberemos um ID.
             consumes = MediaType.APPLICATION_JSON_VALUE,
@@ -55,10 +119,13 @@ public interface CategoryAPI {
     @Operation(summary = "Get a category by it's identifier")
     @ApiResponses(value = { //Aqui temos as possíveis respostas desse endpoint.
             @ApiResponse(responseCode = "200", description = "Category retrieved successfully"),
+            @ApiResponse(responseCode = "304", description = "Category did not change since the \"If-None-Match\" or \"If-Modified-Since\" sent"),
             @ApiResponse(responseCode = "404", description = "Category was not found"),
+            @ApiResponse(responseCode = "503", description = "Too many requests are waiting for the database"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
     })
-    CategoryApiOutput getById(@PathVariable(name = "id") String id);
+    //A resposta tem o "ETag", que é baseado na versão da categoria, e o "Last-Modified", que é o "updatedAt" dela.
+    CompletableFuture<ResponseEntity<CategoryApiOutput>> getById(@PathVariable(name = "id") String id);
 
     @PutMapping(value = "{id}", //Receberemos um ID.
             consumes = MediaType.APPLICATION_JSON_VALUE,
@@ -67,8 +134,35 @@ public interface CategoryAPI {
     @ApiResponses(value = { //Aqui temos as possíveis respostas desse endpoint.
             @ApiResponse(responseCode = "200", description = "Category updated successfully"),
             @ApiResponse(responseCode = "404", description = "Category was not found"),
+            @ApiResponse(responseCode = "409", description = "Category was modified by another request, or is not in the version sent in the \"If-Match\""),
+            @ApiResponse(responseCode = "503", description = "Too many requests are waiting for the database"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    //O "If-Match" é opcional. Quando enviado, ele deve ser o "ETag" da categoria que foi lida antes da alteração.
+    CompletableFuture<ResponseEntity<?>> updateById(@PathVariable(name = "id") String id,
+                                                    @RequestHeader(name = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                    @RequestBody UpdateCategoryApiInput input);
+
+    @DeleteMapping(value = "{id}")
+    @Operation(summary = "Delete a category by it's identifier")
+    @ApiResponses(value = { //Aqui temos as possíveis respostas desse endpoint.
+            @ApiResponse(responseCode = "204", description = "Category deleted successfully, or it did not exist"),
+            @ApiResponse(responseCode = "503", description = "Too many requests are waiting for the database"),
+            @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    CompletableFuture<Void> deleteById(@PathVariable(name = "id") String id);
+
+    /* Aqui, o cliente envia os IDs de várias categorias, que são excluídas de uma só vez. Os IDs que não existem são
+    * ignorados, assim como na exclusão de uma única categoria. */
+    @DeleteMapping(value = "batch",
+            consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(summary = "Delete many categories at once")
+    @ApiResponses(value = { //Aqui temos as possíveis respostas desse endpoint.
+            @ApiResponse(responseCode = "204", description = "Categories deleted successfully"),
+            @ApiResponse(responseCode = "503", description = "Too many requests are waiting for the database"),
             @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
     })
-    ResponseEntity<?> updateById(@PathVariable(name = "id") String id,
-                                 @RequestBody UpdateCategoryApiInput input);
-}
\ No newline at end of file
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    CompletableFuture<Void> deleteCategories(@RequestBody List<String> ids);
+}
@@ -1,45 +1,94 @@
 package com.projetopraticobackend.servicocatalogo.infrastructure.api.controllers;
 
+import com.projetopraticobackend.servicocatalogo.application.category.create.AsyncCreateCategoriesUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.create.AsyncCreateCategoryUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.create.CreateCategoriesCommand;
+import com.projetopraticobackend.servicocatalogo.application.category.create.CreateCategoriesOutput;
 import com.projetopraticobackend.servicocatalogo.application.category.create.CreateCategoryCommand;
 import com.projetopraticobackend.servicocatalogo.application.category.create.CreateCategoryOutput;
-import com.projetopraticobackend.servicocatalogo.application.category.create.CreateCategoryUseCase;
-import com.projetopraticobackend.servicocatalogo.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.delete.AsyncDeleteCategoriesUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.delete.AsyncDeleteCategoryUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.delete.DeleteCategoriesCommand;
+import com.projetopraticobackend.servicocatalogo.application.category.retrieve.export.ExportCategoriesCommand;
+import com.projetopraticobackend.servicocatalogo.application.category.retrieve.export.ExportCategoriesUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.retrieve.get.AsyncGetCategoryByIdUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.retrieve.list.AsyncListCategoriesByCursorUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.retrieve.list.AsyncListCategoriesSliceUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.retrieve.list.AsyncListCategoriesUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.update.AsyncUpdateCategoryUseCase;
 import com.projetopraticobackend.servicocatalogo.application.category.update.UpdateCategoryCommand;
 import com.projetopraticobackend.servicocatalogo.application.category.update.UpdateCategoryOutput;
-import com.projetopraticobackend.servicocatalogo.application.category.update.UpdateCategoryUseCase;
-import com.projetopraticobackend.servicocatalogo.domain.pagination.Pagination;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryCursorQuery;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategorySearchQuery;
+import com.projetopraticobackend.servicocatalogo.domain.pagination.CursorPagination;
 import com.projetopraticobackend.servicocatalogo.domain.validation.handler.Notification;
 import com.projetopraticobackend.servicocatalogo.infrastructure.api.CategoryAPI;
 import com.projetopraticobackend.servicocatalogo.infrastructure.category.models.CategoryApiOutput;
 import com.projetopraticobackend.servicocatalogo.infrastructure.category.models.CreateCategoryApiInput;
 import com.projetopraticobackend.servicocatalogo.infrastructure.category.models.UpdateCategoryApiInput;
 import com.projetopraticobackend.servicocatalogo.infrastructure.category.presenters.CategoryApiPresenter;
+import com.projetopraticobackend.servicocatalogo.infrastructure.category.presenters.CategoryETags;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.time.Instant;
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 
 @RestController
 public class CategoryController implements CategoryAPI {
 
-    //Injetaremos os casos de uso que serão chamados pelo controller.
-    private final CreateCategoryUseCase createCategoryUseCase;
-    private final GetCategoryByIdUseCase getCategoryByIdUseCase;
-    private final UpdateCategoryUseCase updateCategoryUseCase;
-
-    public CategoryController(final CreateCategoryUseCase createCategoryUseCase,
-                              final GetCategoryByIdUseCase getCategoryByIdUseCase,
-                              final UpdateCategoryUseCase updateCategoryUseCase) {
+    /* Injetaremos os casos de uso que serão chamados pelo controller. Os assíncronos são executados fora da thread do
+    * Undertow. Apenas a exportação é síncrona, pois o "StreamingResponseBody" já é escrito em outra thread. */
+    private final AsyncCreateCategoryUseCase createCategoryUseCase;
+    private final AsyncCreateCategoriesUseCase createCategoriesUseCase;
+    private final AsyncGetCategoryByIdUseCase getCategoryByIdUseCase;
+    private final AsyncUpdateCategoryUseCase updateCategoryUseCase;
+    private final AsyncDeleteCategoryUseCase deleteCategoryUseCase;
+    private final AsyncDeleteCategoriesUseCase deleteCategoriesUseCase;
+    private final AsyncListCategoriesUseCase listCategoriesUseCase;
+    private final AsyncListCategoriesSliceUseCase listCategoriesSliceUseCase;
+    private final AsyncListCategoriesByCursorUseCase listCategoriesByCursorUseCase;
+    private final ExportCategoriesUseCase exportCategoriesUseCase;
+
+    private final ObjectMapper objectMapper; //Na exportação, cada categoria é convertida para JSON manualmente, uma por linha.
+
+    public CategoryController(final AsyncCreateCategoryUseCase createCategoryUseCase,
+                              final AsyncCreateCategoriesUseCase createCategoriesUseCase,
+                              final AsyncGetCategoryByIdUseCase getCategoryByIdUseCase,
+                              final AsyncUpdateCategoryUseCase updateCategoryUseCase,
+                              final AsyncDeleteCategoryUseCase deleteCategoryUseCase,
+                              final AsyncDeleteCategoriesUseCase deleteCategoriesUseCase,
+                              final AsyncListCategoriesUseCase listCategoriesUseCase,
+                              final AsyncListCategoriesSliceUseCase listCategoriesSliceUseCase,
+                              final AsyncListCategoriesByCursorUseCase listCategoriesByCursorUseCase,
+                              final ExportCategoriesUseCase exportCategoriesUseCase,
+                              final ObjectMapper objectMapper) {
 
         this.createCategoryUseCase = Objects.requireNonNull(createCategoryUseCase);
+        this.createCategoriesUseCase = Objects.requireNonNull(createCategoriesUseCase);
         this.getCategoryByIdUseCase = Objects.requireNonNull(getCategoryByIdUseCase);
         this.updateCategoryUseCase = Objects.requireNonNull(updateCategoryUseCase);
+        this.deleteCategoryUseCase = Objects.requireNonNull(deleteCategoryUseCase);
+        this.deleteCategoriesUseCase = Objects.requireNonNull(deleteCategoriesUseCase);
+        this.listCategoriesUseCase = Objects.requireNonNull(listCategoriesUseCase);
+        this.listCategoriesSliceUseCase = Objects.requireNonNull(listCategoriesSliceUseCase);
+        this.listCategoriesByCursorUseCase = Objects.requireNonNull(listCategoriesByCursorUseCase);
+        this.exportCategoriesUseCase = Objects.requireNonNull(exportCategoriesUseCase);
+        this.objectMapper = Objects.requireNonNull(objectMapper);
     }
 
     @Override
-    public ResponseEntity<?> createCategory(final CreateCategoryApiInput createCategoryApiInput) {
+    public CompletableFuture<ResponseEntity<?>> createCategory(final CreateCategoryApiInput createCategoryApiInput) {
 
         final var command = CreateCategoryCommand.with(
                 createCategoryApiInput.name(),
@@ -60,12 +109,43 @@ public class CategoryController implements CategoryAPI {
 
         /* O lado da esquerda será se algo errado acontecer, e o lado da direita será se tudo ocorrer bem. */
         return createCategoryUseCase.execute(command)
-                .fold(onError, onSuccess);
+                .<ResponseEntity<?>>thenApply(result -> result.fold(onError, onSuccess))
+                .toCompletableFuture();
     }
 
     @Override
-    public CategoryApiOutput getById(final String id) {
-        return CategoryApiPresenter.present(getCategoryByIdUseCase.execute(id));
+    public CompletableFuture<ResponseEntity<?>> createCategories(final List<CreateCategoryApiInput> input) {
+
+        final var command = CreateCategoriesCommand.with(input.stream()
+                .map(item -> CreateCategoryCommand.with(item.name(), item.description(), item.active() != null ? item.active() : true))
+                .toList());
+
+        final Function<Notification, ResponseEntity<?>> onError =
+                notification -> ResponseEntity.unprocessableEntity().body(notification);
+
+        /* Se algum item for inválido, as outras categorias já foram criadas, então retornamos o "207 Multi-Status", e o
+        * cliente deverá olhar item a item. */
+        final Function<CreateCategoriesOutput, ResponseEntity<?>> onSuccess =
+                output -> ResponseEntity.status(output.hasErrors() ? HttpStatus.MULTI_STATUS : HttpStatus.CREATED).body(output);
+
+        return createCategoriesUseCase.execute(command)
+                .<ResponseEntity<?>>thenApply(result -> result.fold(onError, onSuccess))
+                .toCompletableFuture();
+    }
+
+    /* A resposta tem o "ETag" e o "Last-Modified". Quando o "ResponseEntity" de um "GET" tem esses cabeçalhos, o próprio
+    * Spring os compara com o "If-None-Match" e o "If-Modified-Since" da requisição e, se a categoria não mudou, responde
+    * "304 Not Modified" sem o corpo. */
+    @Override
+    public CompletableFuture<ResponseEntity<CategoryApiOutput>> getById(final String id) {
+        //Se a categoria não existir, o "CompletableFuture" será completado com a "NotFoundException", que chegará ao "GlobalExceptionHandler".
+        return getCategoryByIdUseCase.execute(id)
+                .thenApply(CategoryApiPresenter::present)
+                .thenApply(output -> ResponseEntity.ok()
+                        .eTag(CategoryETags.of(output))
+                        .lastModified(output.updatedAt())
+                        .body(output))
+                .toCompletableFuture();
 
         //Ou usando o "apply()" para aplicar a função.
         //TODO: Estudar sobre o "apply" e o "compose" do Java.
@@ -73,28 +153,96 @@ public class CategoryController implements CategoryAPI {
     }
 
     @Override
-    public ResponseEntity<?> updateById(final String id,
-                                        final UpdateCategoryApiInput input) {
+    public CompletableFuture<Void> deleteById(final String id) {
+        return deleteCategoryUseCase.execute(id).toCompletableFuture();
+    }
+
+    @Override
+    public CompletableFuture<Void> deleteCategories(final List<String> ids) {
+        return deleteCategoriesUseCase.execute(DeleteCategoriesCommand.with(ids)).toCompletableFuture();
+    }
+
+    @Override
+    public CompletableFuture<ResponseEntity<?>> updateById(final String id,
+                                                           final String ifMatch,
+                                                           final UpdateCategoryApiInput input) {
 
         final var command = UpdateCategoryCommand.with(
                 id,
                 input.name(),
                 input.description(),
-                input.active());
+                input.active(),
+                CategoryETags.expectedVersions(id, ifMatch));
 
         final Function<Notification, ResponseEntity<?>> onError =
                 notification -> ResponseEntity.unprocessableEntity().body(notification);
 
+        //O novo "ETag" é o que deve ser enviado no "If-Match" da próxima atualização.
         final Function<UpdateCategoryOutput, ResponseEntity<?>> onSuccess =
-                ResponseEntity::ok;
+                output -> ResponseEntity.ok().eTag(CategoryETags.of(output.id(), output.version())).body(output);
 
+        //Se a categoria foi alterada por outra requisição, o "CompletableFuture" será completado com a "ConflictException".
         return updateCategoryUseCase.execute(command)
-                .fold(onError, onSuccess);
+                .<ResponseEntity<?>>thenApply(result -> result.fold(onError, onSuccess))
+                .toCompletableFuture();
     }
 
 
     @Override
-    public Pagination<?> listCategories(String name, Integer page, Integer perPage, String sort, String direction) {
-        return null;
+    public CompletableFuture<ResponseEntity<?>> listCategories(final String name,
+                                                               final Integer page,
+                                                               final Integer perPage,
+                                                               final String sort,
+                                                               final String direction,
+                                                               final Boolean count) {
+
+        final var query = new CategorySearchQuery(page, perPage, name, sort, direction);
+
+        //Por padrão, a contagem exata continua sendo feita. Apenas quem pedir explicitamente terá a listagem sem contagem.
+        if (Boolean.FALSE.equals(count)) {
+            return listCategoriesSliceUseCase.execute(query)
+                    .thenApply(slice -> slice.map(CategoryApiPresenter::present))
+                    .<ResponseEntity<?>>thenApply(slice -> ResponseEntity.ok().eTag(CategoryETags.of(slice)).body(slice))
+                    .toCompletableFuture();
+        }
+
+        //A página também tem um "ETag". A busca no banco continua acontecendo, mas, se nada mudou, o corpo não é enviado.
+        return listCategoriesUseCase.execute(query)
+                .thenApply(pagination -> pagination.map(CategoryApiPresenter::present))
+                .<ResponseEntity<?>>thenApply(pagination -> ResponseEntity.ok().eTag(CategoryETags.of(pagination)).body(pagination))
+                .toCompletableFuture();
+    }
+
+    @Override
+    public CompletableFuture<ResponseEntity<CursorPagination<CategoryApiOutput>>> listCategoriesByCursor(final String name,
+                                                                                                         final String after,
+                                                                                                         final Integer perPage,
+                                                                                                         final String sort,
+                                                                                                         final String direction) {
+
+        //Se o cursor for inválido, o "CompletableFuture" será completado com a "DomainException".
+        return listCategoriesByCursorUseCase.execute(new CategoryCursorQuery(after, perPage, name, sort, direction))
+                .thenApply(cursor -> cursor.map(CategoryApiPresenter::present))
+                .thenApply(cursor -> ResponseEntity.ok().eTag(CategoryETags.of(cursor)).body(cursor))
+                .toCompletableFuture();
+    }
+
+    @Override
+    public ResponseEntity<StreamingResponseBody> exportCategories(final Boolean active, final Instant updatedSince) {
+
+        /* O "StreamingResponseBody" é executado depois que o controller retorna, em outra thread, e escreve diretamente
+        * na resposta. Cada categoria é escrita assim que é lida do banco, sem montarmos a lista completa. */
+        final StreamingResponseBody body = outputStream -> exportCategoriesUseCase.execute(ExportCategoriesCommand.with(active, updatedSince, output -> {
+            try {
+                outputStream.write(objectMapper.writeValueAsBytes(CategoryApiPresenter.present(output))); //O "writeValue(outputStream)" fecharia a resposta após a primeira categoria.
+                outputStream.write('\n');
+            } catch (final IOException ex) {
+                throw new UncheckedIOException(ex); //Se o cliente desconectar, a leitura do banco é interrompida.
+            }
+        }));
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(CATEGORY_EXPORT_MEDIA_TYPE))
+                .body(body);
     }
 }
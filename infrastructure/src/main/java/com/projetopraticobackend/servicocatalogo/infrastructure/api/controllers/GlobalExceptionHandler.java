@@ -1,5 +1,6 @@
 package com.projetopraticobackend.servicocatalogo.infrastructure.api.controllers;
 
+import com.projetopraticobackend.servicocatalogo.domain.exceptions.ConflictException;
 import com.projetopraticobackend.servicocatalogo.domain.exceptions.DomainException;
 import com.projetopraticobackend.servicocatalogo.domain.exceptions.NotFoundException;
 import com.projetopraticobackend.servicocatalogo.domain.validation.Error;
@@ -11,6 +12,7 @@ import org.springframework.web.bind.annotation.RestControllerAdvice;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 
 /* Nessa classe, definiremos todos os handlers de exceptions. */
 
@@ -33,6 +35,20 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ApiError.from(ex));
     }
 
+    /* A categoria foi alterada por outra requisição depois de ser lida. Respondemos imediatamente, ao invés de esperarmos
+    * por um "lock", e o cliente decide se busca a versão atual e tenta novamente. */
+    @ExceptionHandler(value = ConflictException.class)
+    public ResponseEntity<?> handleConflictException(final ConflictException ex) {
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(ApiError.from(ex));
+    }
+
+    /* O "executor" dos casos de uso assíncronos tem uma fila limitada. Se ela estiver cheia, recusamos a requisição
+    * imediatamente, ao invés de deixá-la esperando por um banco de dados que já está sobrecarregado. */
+    @ExceptionHandler(value = RejectedExecutionException.class)
+    public ResponseEntity<?> handleRejectedExecutionException(final RejectedExecutionException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(new ApiError("The server is busy, try again later", List.of()));
+    }
+
     record ApiError(String message, List<Error> errors){
 
         static ApiError from(DomainException ex){
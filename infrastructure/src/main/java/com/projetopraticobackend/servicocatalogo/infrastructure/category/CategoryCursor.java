@@ -0,0 +1,97 @@
+package com.projetopraticobackend.servicocatalogo.infrastructure.category;
+
+import com.projetopraticobackend.servicocatalogo.domain.exceptions.DomainException;
+import com.projetopraticobackend.servicocatalogo.domain.validation.Error;
+import com.projetopraticobackend.servicocatalogo.infrastructure.category.persistence.CategoryIdType;
+import com.projetopraticobackend.servicocatalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.projetopraticobackend.servicocatalogo.infrastructure.utils.SpecificationUtils;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+
+/* Esse é o cursor da paginação por "seek". Ele guarda o valor da ordenação e o ID da última categoria retornada.
+ *
+ * Para o cliente, o cursor é apenas um "token" opaco (Base64), ou seja, ele não deve montá-lo nem interpretá-lo. Dentro
+ * do token também guardamos a ordenação e a direção, para rejeitarmos um cursor que foi gerado com outra ordenação. */
+public record CategoryCursor(String sort, Sort.Direction direction, String value, String id) {
+
+    private static final String ID = "id";
+    private static final String SEPARATOR = "\n";
+
+    /* Apenas as propriedades que nunca são nulas podem ser usadas no cursor, pois o "seek" compara os valores com
+     * ">" e "<", e o "NULL" não seria encontrado por essas comparações. */
+    public static Sort sortOf(final String sort, final Sort.Direction direction) {
+        return switch (sort) {
+            case ID -> Sort.by(direction, ID);
+            case "name", "createdAt", "updatedAt" -> Sort.by(direction, sort).and(Sort.by(direction, ID)); //O ID é o desempate, para que a ordem seja sempre a mesma.
+            default -> throw DomainException.with(new Error("'%s' is not supported by cursor pagination".formatted(sort)));
+        };
+    }
+
+    /* Criamos o cursor a partir da última categoria da página. */
+    public static CategoryCursor from(final CategoryJpaEntity category, final String sort, final Sort.Direction direction) {
+        final String value = switch (sort) {
+            case "name" -> category.getName();
+            //O MySQL guarda apenas os microssegundos ("DATETIME(6)"), então o cursor também não pode ter os nanossegundos.
+            case "createdAt" -> category.getCreatedAt().truncatedTo(ChronoUnit.MICROS).toString();
+            case "updatedAt" -> category.getUpdatedAt().truncatedTo(ChronoUnit.MICROS).toString();
+            default -> category.getId();
+        };
+
+        return new CategoryCursor(sort, direction, value, category.getId());
+    }
+
+    /* Fazemos o caminho inverso do "encode()", validando se o cursor pertence à mesma ordenação da busca atual. */
+    public static CategoryCursor decode(final String token, final String sort, final Sort.Direction direction) {
+        final String[] parts;
+
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split(SEPARATOR, 4); //O valor fica por último, então ele pode conter o separador.
+        } catch (final IllegalArgumentException ex) {
+            throw invalidCursor();
+        }
+
+        //O ID é comparado com a coluna "BINARY(16)", então ele precisa ser um UUID.
+        if (parts.length != 4 || !CategoryIdType.isValid(parts[2])) {
+            throw invalidCursor();
+        }
+
+        if (!parts[0].equals(sort) || !parts[1].equals(direction.name())) {
+            throw DomainException.with(new Error("'after' was created for another sort or direction"));
+        }
+
+        return new CategoryCursor(parts[0], direction, parts[3], parts[2]);
+    }
+
+    public String encode() {
+        final var raw = String.join(SEPARATOR, sort, direction.name(), id, value);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /* Esse é o predicado que fará a busca começar logo após a categoria do cursor. */
+    public Specification<CategoryJpaEntity> toSpecification() {
+        final var ascending = direction.isAscending();
+
+        return switch (sort) {
+            case "createdAt", "updatedAt" -> SpecificationUtils.after(sort, parseInstant(value), ID, id, ascending);
+            default -> SpecificationUtils.after(sort, value, ID, id, ascending);
+        };
+    }
+
+    private static Instant parseInstant(final String value) {
+        try {
+            return Instant.parse(value);
+        } catch (final DateTimeParseException ex) {
+            throw invalidCursor();
+        }
+    }
+
+    private static DomainException invalidCursor() {
+        return DomainException.with(new Error("'after' is not a valid cursor"));
+    }
+}
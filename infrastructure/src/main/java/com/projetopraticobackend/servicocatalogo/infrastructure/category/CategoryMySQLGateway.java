@@ -7,55 +7,142 @@ package com.projetopraticobackend.servicocatalogo.infrastructure.category;
 
 import com.projetopraticobackend.servicocatalogo.domain.category.Category;
 import com.projetopraticobackend.servicocatalogo.domain.category.CategoryGateway;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryCursorQuery;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryExportQuery;
 import com.projetopraticobackend.servicocatalogo.domain.category.CategoryID;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryPreview;
 import com.projetopraticobackend.servicocatalogo.domain.category.CategorySearchQuery;
+import com.projetopraticobackend.servicocatalogo.domain.pagination.CursorPagination;
 import com.projetopraticobackend.servicocatalogo.domain.pagination.Pagination;
+import com.projetopraticobackend.servicocatalogo.domain.pagination.SlicePagination;
+import com.projetopraticobackend.servicocatalogo.infrastructure.category.persistence.CategoryExportRepository;
+import com.projetopraticobackend.servicocatalogo.infrastructure.category.persistence.CategoryIdType;
 import com.projetopraticobackend.servicocatalogo.infrastructure.category.persistence.CategoryJpaEntity;
 import com.projetopraticobackend.servicocatalogo.infrastructure.category.persistence.CategoryRepository;
+import com.projetopraticobackend.servicocatalogo.infrastructure.category.search.CategorySearchIndex;
 import com.projetopraticobackend.servicocatalogo.infrastructure.utils.SpecificationUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import javax.persistence.criteria.*;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 //Algumas pessoas usam o "@Service" pois essa é uma classe de serviço da camada de infraestrutura, outras preferem utilizar o "@Component".
 public class CategoryMySQLGateway implements CategoryGateway {
 
+    //Ao ordenar por "relevance", as categorias mais relevantes para os termos buscados virão primeiro.
+    private static final String RELEVANCE = "relevance";
+
     private final CategoryRepository categoryRepository; //Precisamos do "Repository" para nos comunicarmos com o Hibernate e acessarmos a camada de persistência.
 
-    public CategoryMySQLGateway(final CategoryRepository categoryRepository) {
+    private final CategoryExportRepository categoryExportRepository; //É utilizado na exportação, que lê a tabela inteira com um cursor do JDBC.
+
+    private final boolean fulltextSearch; //Se "true", os termos serão buscados pelo índice "FULLTEXT" do MySQL. Caso contrário, pelo "LIKE".
+
+    private final CategorySearchIndex categorySearchIndex; //É o índice do Lucene. Ele será nulo se a propriedade "category.search.lucene.enabled" não for "true".
+
+    public CategoryMySQLGateway(final CategoryRepository categoryRepository,
+                                final CategoryExportRepository categoryExportRepository,
+                                @Value("${category.search.fulltext:false}") final boolean fulltextSearch,
+                                final ObjectProvider<CategorySearchIndex> categorySearchIndex) {
         this.categoryRepository = categoryRepository;
+        this.categoryExportRepository = categoryExportRepository;
+        this.fulltextSearch = fulltextSearch;
+        this.categorySearchIndex = categorySearchIndex.getIfAvailable();
     }
 
     //Criaremos testes para cada um dos métodos abaixo.
 
     @Override
     public Category create(final Category category) {
-        return save(category);
+        //A categoria é nova, então o "save()" faz apenas o "INSERT", sem o "SELECT" do "merge()".
+        final var createdCategory = CategoryJpaEntity.toAggregate(categoryRepository.save(CategoryJpaEntity.newEntity(category)));
+        syncSearchIndex(index -> index.index(createdCategory));
+        return createdCategory;
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> categories) {
+        if (categories.isEmpty()) {
+            return List.of();
+        }
+
+        final var createdCategories = this.categoryRepository.persistAll(categories.stream().map(CategoryJpaEntity::from).toList())
+                .stream()
+                .map(CategoryJpaEntity::toAggregate)
+                .toList();
+
+        syncSearchIndex(index -> index.indexAll(createdCategories));
+        return createdCategories;
     }
 
+    /* O professor utilizou o "existsById()" antes do "deleteById()" para não lidar com exceptions, mas isso eram três
+    * comandos: o "exists", o "SELECT" do "deleteById()" e o "DELETE". Agora, é apenas o "DELETE", que não altera nenhuma
+    * linha se a categoria não existir, ou seja, excluir a mesma categoria duas vezes não é um erro. */
     @Override
     public void deleteById(final CategoryID id) {
+        CategoryIdType.normalize(id.getValue())
+                .filter(normalizedId -> categoryRepository.deleteRowById(normalizedId) > 0)
+                .ifPresent(normalizedId -> syncSearchIndex(index -> index.delete(CategoryID.from(normalizedId))));
+    }
 
-        //O professor utilizou o "exists" antes para não lidar com exceptions.
-        if (categoryRepository.existsById(id.getValue())) {
-            categoryRepository.deleteById(id.getValue());
+    //Os IDs que não são um UUID nunca existiram, então nem são enviados para o banco de dados.
+    @Override
+    public void deleteAllById(final List<CategoryID> ids) {
+        final var validIds = ids.stream()
+                .flatMap(id -> CategoryIdType.normalize(id.getValue()).stream())
+                .distinct()
+                .map(CategoryID::from)
+                .toList();
+
+        if (validIds.isEmpty()) {
+            return;
         }
+
+        categoryRepository.deleteRowsById(validIds.stream().map(CategoryID::getValue).toList());
+        syncSearchIndex(index -> index.deleteAll(validIds));
     }
 
     @Override
     public Optional<Category> findById(final CategoryID id) {
-        return categoryRepository.findById(id.getValue())
+        //Se o ID não for um UUID, ele não pode ser convertido para o "BINARY(16)", e a categoria certamente não existe.
+        return CategoryIdType.normalize(id.getValue())
+                .flatMap(categoryRepository::findById)
                 .map(CategoryJpaEntity::toAggregate);
     }
 
     @Override
     public Category update(final Category category) {
-        return save(category);
+        final var updatedCategory = save(category);
+        syncSearchIndex(index -> index.index(updatedCategory));
+        return updatedCategory;
+    }
+
+    @Override
+    public Optional<Category> updateById(final Category category) {
+        if (!CategoryIdType.isValid(category.getId().getValue())
+                || this.categoryRepository.updateById(CategoryJpaEntity.from(category)) == 0) {
+            return Optional.empty();
+        }
+
+        //O "UPDATE" somou 1 à versão, então a categoria devolvida também está na versão seguinte.
+        final var updatedCategory = Category.nextVersion(category);
+
+        syncSearchIndex(index -> index.index(updatedCategory));
+        return Optional.of(updatedCategory);
     }
 
     @Override
@@ -63,16 +150,226 @@ public class CategoryMySQLGateway implements CategoryGateway {
         //A paginação, no Spring, é feita através do "Specification", que é uma abstração
         //feita em cima da "Criteria API" do JPA.
 
+        if (usesSearchIndex(categorySearchQuery.terms())) { //Com o Lucene habilitado, a busca por termos não passa pelo MySQL, apenas a busca das categorias encontradas.
+            final var offset = (long) categorySearchQuery.page() * categorySearchQuery.perPage();
+            final var hits = this.categorySearchIndex.search(categorySearchQuery.terms(), categorySearchQuery.sort(), categorySearchQuery.direction(), offset, categorySearchQuery.perPage());
+
+            return new Pagination<>(categorySearchQuery.page(), categorySearchQuery.perPage(), hits.total(), findAllInOrder(hits.ids()));
+        }
+
         final var page = PageRequest.of( //Esse objeto define as configurações da paginação que será utilizada.
                 categorySearchQuery.page(),
                 categorySearchQuery.perPage(),
-                Sort.by(Sort.Direction.fromString(categorySearchQuery.direction()), categorySearchQuery.sort()));
+                sortOf(categorySearchQuery));
+
+        final var specifications = searchSpecification(categorySearchQuery);
+
+        final var pageResult = this.categoryRepository.findAll(specifications, page);
+
+        //Estamos convertendo para o nosso objeto "Pagination" e retornando-o com os resultados.
+        return new Pagination<>(
+                pageResult.getNumber(),
+                pageResult.getSize(),
+                pageResult.getTotalElements(),
+                pageResult.map(CategoryJpaEntity::toAggregate).stream().toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true) //A janela e o "COUNT(*)" utilizam a mesma transação e a mesma conexão, assim como no "findAll()" do Spring Data.
+    public Pagination<CategoryPreview> findAllPreviews(final CategorySearchQuery categorySearchQuery) {
+        final var page = categorySearchQuery.page();
+        final var perPage = categorySearchQuery.perPage();
+        final var offset = (long) page * perPage;
+
+        if (usesSearchIndex(categorySearchQuery.terms())) {
+            final var hits = this.categorySearchIndex.search(categorySearchQuery.terms(), categorySearchQuery.sort(), categorySearchQuery.direction(), offset, perPage);
+
+            return new Pagination<>(page, perPage, hits.total(), findAllPreviewsInOrder(hits.ids()));
+        }
 
-        //Busca dinâmica com Specification.
-        //Vamos verificar se existe o parâmetro "terms". Se existir, vamos aplicar a busca.
+        final var previews = this.categoryRepository.findPreviewWindow(searchSpecification(categorySearchQuery), sortOf(categorySearchQuery), offset, perPage);
+
+        //Assim como o Spring Data faz no "Page", se a página veio incompleta, já sabemos o total e não precisamos do "COUNT(*)".
+        final var totalElements = previews.size() < perPage && (offset == 0 || !previews.isEmpty())
+                ? offset + previews.size()
+                : this.categoryRepository.count(termsSpecification(categorySearchQuery.terms()));
+
+        return new Pagination<>(page, perPage, totalElements, previews);
+    }
 
-        final var specifications = Optional.ofNullable(categorySearchQuery.terms())
-                .filter(terms -> !terms.isBlank()) //O "filter" é para apenas passarmos essa "Specification" se algum termo tiver sido enviado.
+    @Override
+    public SlicePagination<Category> findSlice(final CategorySearchQuery categorySearchQuery) {
+        if (usesSearchIndex(categorySearchQuery.terms())) {
+            final var offset = (long) categorySearchQuery.page() * categorySearchQuery.perPage();
+            final var hits = this.categorySearchIndex.search(categorySearchQuery.terms(), categorySearchQuery.sort(), categorySearchQuery.direction(), offset, categorySearchQuery.perPage());
+
+            return new SlicePagination<>(
+                    categorySearchQuery.page(),
+                    categorySearchQuery.perPage(),
+                    hits.total() > offset + hits.ids().size(),
+                    findAllInOrder(hits.ids()));
+        }
+
+        final var sort = sortOf(categorySearchQuery);
+
+        final var specifications = searchSpecification(categorySearchQuery);
+
+        //Buscamos um registro a mais do que o solicitado. Se ele vier, existe uma próxima página, e não precisamos do "COUNT(*)".
+        final var page = categorySearchQuery.page();
+        final var perPage = categorySearchQuery.perPage();
+        final var rows = this.categoryRepository.findWindow(specifications, sort, (long) page * perPage, perPage + 1);
+
+        final var hasNext = rows.size() > perPage;
+        final var pageRows = hasNext ? rows.subList(0, perPage) : rows;
+
+        return new SlicePagination<>(
+                page,
+                perPage,
+                hasNext,
+                pageRows.stream().map(CategoryJpaEntity::toAggregate).toList());
+    }
+
+    @Override
+    public CursorPagination<Category> findAllByCursor(final CategoryCursorQuery categoryCursorQuery) {
+        final var direction = Sort.Direction.fromString(categoryCursorQuery.direction());
+        final var sort = CategoryCursor.sortOf(categoryCursorQuery.sort(), direction); //Se a ordenação não puder ser usada no cursor, uma "DomainException" será lançada.
+
+        //Se o cliente enviou o cursor da página anterior, a busca começará logo após a última categoria dessa página.
+        final var afterCursor = Optional.ofNullable(categoryCursorQuery.after())
+                .filter(after -> !after.isBlank())
+                .map(after -> CategoryCursor.decode(after, categoryCursorQuery.sort(), direction).toSpecification())
+                .orElse(null);
+
+        final var specifications = Specification.where(termsSpecification(categoryCursorQuery.terms()))
+                .and(afterCursor);
+
+        //Buscamos um registro a mais do que o solicitado apenas para sabermos se existe uma próxima página, sem o "COUNT(*)".
+        final var perPage = categoryCursorQuery.perPage();
+        final var rows = this.categoryRepository.findWindow(specifications, sort, 0, perPage + 1);
+
+        final var hasNext = rows.size() > perPage;
+        final var pageRows = hasNext ? rows.subList(0, perPage) : rows;
+
+        final var next = hasNext
+                ? CategoryCursor.from(pageRows.get(pageRows.size() - 1), categoryCursorQuery.sort(), direction).encode()
+                : null;
+
+        return new CursorPagination<>(
+                perPage,
+                next,
+                pageRows.stream().map(CategoryJpaEntity::toAggregate).toList());
+    }
+
+    @Override
+    public void exportAll(final CategoryExportQuery categoryExportQuery, final Consumer<CategoryPreview> consumer) {
+        this.categoryExportRepository.streamAll(categoryExportQuery, consumer);
+    }
+
+    private boolean usesSearchIndex(final String terms) {
+        return this.categorySearchIndex != null && terms != null && !terms.isBlank();
+    }
+
+    /* O índice nos devolve os IDs já ordenados. Buscamos todas as categorias da página de uma só vez ("WHERE id IN (...)")
+    * e as devolvemos na mesma ordem dos IDs. Se uma categoria foi excluída entre a busca e o "IN", ela é ignorada. */
+    private List<Category> findAllInOrder(final List<String> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        return inOrder(ids, this.categoryRepository.findAllById(ids), CategoryJpaEntity::getId).stream()
+                .map(CategoryJpaEntity::toAggregate)
+                .toList();
+    }
+
+    //É o mesmo "WHERE id IN (...)" do "findAllInOrder()", porém, montando diretamente o "CategoryPreview".
+    private List<CategoryPreview> findAllPreviewsInOrder(final List<String> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        final Specification<CategoryJpaEntity> idIn = (root, query, criteriaBuilder) -> root.get("id").in(ids);
+
+        return inOrder(ids, this.categoryRepository.findPreviewWindow(idIn, Sort.unsorted(), 0, ids.size()), preview -> preview.id().getValue());
+    }
+
+    private static <T> List<T> inOrder(final List<String> ids, final List<T> rows, final Function<T, String> idOf) {
+        final var rowsById = rows.stream().collect(Collectors.toMap(idOf, Function.identity()));
+
+        return ids.stream()
+                .map(rowsById::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /* Se existir uma transação em andamento, o índice apenas será atualizado após o "commit", para que ele nunca tenha uma
+    * categoria que não chegou ao banco de dados. Sem transação, o "save()" do repositório já fez o "commit". */
+    private void syncSearchIndex(final Consumer<CategorySearchIndex> action) {
+        if (this.categorySearchIndex == null) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.accept(categorySearchIndex);
+                }
+            });
+        } else {
+            action.accept(this.categorySearchIndex);
+        }
+    }
+
+    /* Na ordenação por relevância, quem ordena é o próprio "Specification" (ORDER BY MATCH ... AGAINST DESC), por isso o
+    * "Sort" fica vazio. Sem a busca "FULLTEXT" não existe relevância, então ordenamos pelo nome.
+    *
+    * As demais ordenações já foram validadas pelo "CategorySearchQuery" e terminam com o ID ("ORDER BY name, id"), que é
+    * a mesma ordem dos índices da tabela. Assim, o banco de dados lê a página direto do índice, sem ordenar a tabela, e
+    * as categorias com o mesmo nome aparecem sempre na mesma ordem entre as páginas. */
+    private Sort sortOf(final CategorySearchQuery categorySearchQuery) {
+        if (RELEVANCE.equals(categorySearchQuery.sort())) {
+            return fulltextTerms(categorySearchQuery.terms()).isPresent()
+                    ? Sort.unsorted()
+                    : Sort.by(Sort.Direction.ASC, "name");
+        }
+
+        return CategoryCursor.sortOf(categorySearchQuery.sort(), Sort.Direction.fromString(categorySearchQuery.direction()));
+    }
+
+    private Specification<CategoryJpaEntity> searchSpecification(final CategorySearchQuery categorySearchQuery) {
+        final var specifications = Specification.where(termsSpecification(categorySearchQuery.terms()));
+
+        if (!RELEVANCE.equals(categorySearchQuery.sort())) {
+            return specifications;
+        }
+
+        return fulltextTerms(categorySearchQuery.terms())
+                .map(terms -> specifications.and(SpecificationUtils.<CategoryJpaEntity>orderByMatch("name", "description", terms, "id")))
+                .orElse(specifications);
+    }
+
+    //Se a busca "FULLTEXT" estiver habilitada, teremos os termos já convertidos para o "BOOLEAN MODE" do MySQL.
+    private Optional<String> fulltextTerms(final String terms) {
+        if (!this.fulltextSearch) {
+            return Optional.empty();
+        }
+
+        return Optional.ofNullable(terms)
+                .map(SpecificationUtils::booleanModeTerms)
+                .filter(booleanModeTerms -> !booleanModeTerms.isBlank());
+    }
+
+    //Busca dinâmica com Specification.
+    //Vamos verificar se existe o parâmetro "terms". Se existir, vamos aplicar a busca.
+    private Specification<CategoryJpaEntity> termsSpecification(final String terms) {
+        final var fulltextTerms = fulltextTerms(terms);
+
+        if (fulltextTerms.isPresent()) { //O "MATCH ... AGAINST" busca nas duas colunas de uma só vez, utilizando o índice "FULLTEXT".
+            return SpecificationUtils.match("name", "description", fulltextTerms.get());
+        }
+
+        return Optional.ofNullable(terms)
+                .filter(term -> !term.isBlank()) //O "filter" é para apenas passarmos essa "Specification" se algum termo tiver sido enviado.
                 .map(term -> {
                     //Abaixo, temos o "like" apenas para o atributo "name" e "description".
 
@@ -87,15 +384,6 @@ public class CategoryMySQLGateway implements CategoryGateway {
                     return nameLike.or(descriptionLike); //Estamos fazendo um "OR" entre os dois "Specifications" (nameLike e descriptionLike
                 })
                 .orElse(null);
-
-        final var pageResult = this.categoryRepository.findAll(Specification.where(specifications), page);
-
-        //Estamos convertendo para o nosso objeto "Pagination" e retornando-o com os resultados.
-        return new Pagination<>(
-                pageResult.getNumber(),
-                pageResult.getSize(),
-                pageResult.getTotalElements(),
-                pageResult.map(CategoryJpaEntity::toAggregate).stream().toList());
     }
 
     //Como tanto o método "create" quanto o "update" fazem a mesma coisa, criamos um método privado para evitar a repetição de código.
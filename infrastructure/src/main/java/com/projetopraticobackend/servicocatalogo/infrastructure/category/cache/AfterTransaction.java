@@ -0,0 +1,48 @@
+package com.projetopraticobackend.servicocatalogo.infrastructure.category.cache;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/* As escritas dos casos de uso podem ser feitas dentro de uma transação ("CategoryUseCaseTransactions"). Se os caches
+* fossem atualizados no meio dela, uma leitura feita entre a escrita e o "commit" ainda veria a linha antiga no banco de
+* dados e a guardaria no cache já atualizado, e essa categoria ou página desatualizada seria devolvida após a escrita.
+*
+* Por isso, assim como o "syncSearchIndex()" do "CategoryMySQLGateway", as ações nos caches apenas são executadas ao fim
+* da transação. Sem transação, o gateway já fez o "commit", então elas são executadas imediatamente. */
+final class AfterTransaction {
+
+    private AfterTransaction() {
+    }
+
+    //É executada ao fim da transação, mesmo que ela seja desfeita, pois não sabemos o que chegou ao banco de dados.
+    static void afterCompletion(final Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(final int status) {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    //O "onCommit" apenas é executado se a transação for confirmada. Caso contrário, é executado o "otherwise".
+    static void afterCommit(final Runnable onCommit, final Runnable otherwise) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(final int status) {
+                    if (status == STATUS_COMMITTED) {
+                        onCommit.run();
+                    } else {
+                        otherwise.run();
+                    }
+                }
+            });
+        } else {
+            onCommit.run();
+        }
+    }
+}
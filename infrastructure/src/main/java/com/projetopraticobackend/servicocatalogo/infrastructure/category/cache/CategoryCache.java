@@ -0,0 +1,93 @@
+package com.projetopraticobackend.servicocatalogo.infrastructure.category.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.projetopraticobackend.servicocatalogo.domain.category.Category;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryID;
+import com.projetopraticobackend.servicocatalogo.infrastructure.category.persistence.CategoryIdType;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+/* Esse é o cache local, em memória, das categorias buscadas pelo ID.
+ *
+ * Utilizamos o Caffeine pois ele já nos entrega um cache limitado por tamanho, com expiração por tempo (TTL) e
+ * com uma política de despejo que leva em conta a frequência de acesso (W-TinyLFU). Assim, as categorias mais
+ * acessadas tendem a permanecer no cache, mesmo quando ele está cheio. */
+public class CategoryCache implements MeterBinder {
+
+    private final Cache<CategoryID, Category> cache;
+
+    public CategoryCache(final long maxSize, final Duration ttl) {
+        this(maxSize, ttl, ForkJoinPool.commonPool());
+    }
+
+    /* O Caffeine faz a manutenção do cache (como os despejos) no "executor" informado. Nos testes, utilizamos a própria
+    * thread ("Runnable::run"), para que o resultado não dependa de outra thread. */
+    CategoryCache(final long maxSize, final Duration ttl, final Executor executor) {
+        this.cache = Caffeine.newBuilder()
+                .executor(executor)
+                .maximumSize(maxSize) //Quantidade máxima de categorias no cache.
+                .expireAfterWrite(Objects.requireNonNull(ttl)) //Mesmo que ninguém altere a categoria, ela será buscada novamente no banco após esse tempo.
+                .recordStats() //Estamos habilitando a contagem de "hits", "misses" e despejos.
+                .build();
+    }
+
+    /* Se a categoria não estiver no cache, o "loader" será chamado. Apenas os resultados encontrados serão
+     * armazenados, ou seja, não fazemos cache de "não encontrado". */
+    public Optional<Category> get(final CategoryID id, final Function<CategoryID, Optional<Category>> loader) {
+        final var category = this.cache.get(key(id), key -> loader.apply(key).map(it -> it.clone()).orElse(null));
+
+        //Sempre devolvemos uma cópia, pois os casos de uso alteram o agregado que recebem (como no "update()").
+        return Optional.ofNullable(category).map(it -> it.clone());
+    }
+
+    public void put(final Category category) {
+        this.cache.put(key(category.getId()), category.clone());
+    }
+
+    public void evict(final CategoryID id) {
+        this.cache.invalidate(key(id));
+    }
+
+    public void evictAll() {
+        this.cache.invalidateAll();
+    }
+
+    /* Aqui temos os contadores de "hits", "misses" e despejos do cache. */
+    public CacheStats stats() {
+        return this.cache.stats();
+    }
+
+    public long size() {
+        return this.cache.estimatedSize();
+    }
+
+    /* O Caffeine realiza os despejos de forma assíncrona. Esse método força a execução das tarefas pendentes. */
+    public void cleanUp() {
+        this.cache.cleanUp();
+    }
+
+    /* O mesmo UUID pode chegar em letras maiúsculas pela API. Com a chave sempre no formato do banco de dados, a exclusão
+    * ou a atualização de uma categoria remove a mesma entrada, independente de como o ID foi escrito na busca. */
+    private static CategoryID key(final CategoryID id) {
+        return CategoryIdType.normalize(id.getValue())
+                .map(CategoryID::from)
+                .orElse(id);
+    }
+
+    //Assim como no "CategoryPageCache", o Spring Boot registra os contadores desse cache no "MeterRegistry".
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        new CaffeineCacheMetrics<>(this.cache, "categoryById", Tags.empty()).bindTo(registry);
+    }
+}
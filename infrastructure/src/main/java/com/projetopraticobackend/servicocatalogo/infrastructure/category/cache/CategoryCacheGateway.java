@@ -0,0 +1,139 @@
+package com.projetopraticobackend.servicocatalogo.infrastructure.category.cache;
+
+import com.projetopraticobackend.servicocatalogo.domain.category.Category;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryCursorQuery;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryExportQuery;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryGateway;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryID;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryPreview;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategorySearchQuery;
+import com.projetopraticobackend.servicocatalogo.domain.pagination.CursorPagination;
+import com.projetopraticobackend.servicocatalogo.domain.pagination.Pagination;
+import com.projetopraticobackend.servicocatalogo.domain.pagination.SlicePagination;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/* Esse gateway é um "decorator" do gateway real (normalmente o "CategoryMySQLGateway").
+ *
+ * O "findById()" passa primeiro pelo cache e, apenas se a categoria não estiver lá, vai até o banco de dados. As
+ * escritas sempre vão para o gateway real e, após o "commit" ("AfterTransaction"), atualizam ou removem a entrada do
+ * cache, para que uma leitura nunca retorne uma categoria que já foi alterada por essa instância.
+ *
+ * O "withUncachedReads()" é utilizado pela atualização: ela compara e envia a versão da categoria no "UPDATE", e uma
+ * versão antiga no cache (alterada por outra instância) resultaria em um conflito falso. Então, o "findById()" vai
+ * direto ao banco de dados, mas as escritas continuam atualizando o cache. */
+public class CategoryCacheGateway implements CategoryGateway {
+
+    private final CategoryGateway categoryGateway;
+    private final CategoryCache categoryCache;
+    private final boolean cachedReads;
+
+    public CategoryCacheGateway(final CategoryGateway categoryGateway, final CategoryCache categoryCache) {
+        this(categoryGateway, categoryCache, true);
+    }
+
+    private CategoryCacheGateway(final CategoryGateway categoryGateway, final CategoryCache categoryCache, final boolean cachedReads) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.categoryCache = Objects.requireNonNull(categoryCache);
+        this.cachedReads = cachedReads;
+    }
+
+    public static CategoryCacheGateway withUncachedReads(final CategoryGateway categoryGateway, final CategoryCache categoryCache) {
+        return new CategoryCacheGateway(categoryGateway, categoryCache, false);
+    }
+
+    @Override
+    public Category create(final Category category) {
+        final var createdCategory = this.categoryGateway.create(category);
+        AfterTransaction.afterCommit(() -> this.categoryCache.put(createdCategory), () -> {});
+        return createdCategory;
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> categories) {
+        final var createdCategories = this.categoryGateway.createAll(categories);
+        AfterTransaction.afterCommit(() -> createdCategories.forEach(this.categoryCache::put), () -> {});
+        return createdCategories;
+    }
+
+    @Override
+    public void deleteById(final CategoryID id) {
+        try {
+            this.categoryGateway.deleteById(id);
+        } finally {
+            AfterTransaction.afterCompletion(() -> this.categoryCache.evict(id)); //Mesmo se a exclusão falhar, não sabemos o estado do banco, então removemos a entrada.
+        }
+    }
+
+    @Override
+    public void deleteAllById(final List<CategoryID> ids) {
+        try {
+            this.categoryGateway.deleteAllById(ids);
+        } finally {
+            AfterTransaction.afterCompletion(() -> ids.forEach(this.categoryCache::evict));
+        }
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID id) {
+        if (!this.cachedReads) {
+            return this.categoryGateway.findById(id);
+        }
+
+        return this.categoryCache.get(id, this.categoryGateway::findById);
+    }
+
+    @Override
+    public Category update(final Category category) {
+        try {
+            final var updatedCategory = this.categoryGateway.update(category);
+            AfterTransaction.afterCommit(() -> this.categoryCache.put(updatedCategory), () -> this.categoryCache.evict(category.getId()));
+            return updatedCategory;
+        } catch (final RuntimeException ex) {
+            AfterTransaction.afterCompletion(() -> this.categoryCache.evict(category.getId()));
+            throw ex;
+        }
+    }
+
+    @Override
+    public Optional<Category> updateById(final Category category) {
+        try {
+            final var updatedCategory = this.categoryGateway.updateById(category);
+            AfterTransaction.afterCommit(
+                    () -> updatedCategory.ifPresentOrElse(this.categoryCache::put, () -> this.categoryCache.evict(category.getId())),
+                    () -> this.categoryCache.evict(category.getId()));
+            return updatedCategory;
+        } catch (final RuntimeException ex) {
+            AfterTransaction.afterCompletion(() -> this.categoryCache.evict(category.getId()));
+            throw ex;
+        }
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery query) {
+        return this.categoryGateway.findAll(query);
+    }
+
+    @Override
+    public Pagination<CategoryPreview> findAllPreviews(final CategorySearchQuery query) {
+        return this.categoryGateway.findAllPreviews(query);
+    }
+
+    @Override
+    public SlicePagination<Category> findSlice(final CategorySearchQuery query) {
+        return this.categoryGateway.findSlice(query);
+    }
+
+    @Override
+    public CursorPagination<Category> findAllByCursor(final CategoryCursorQuery query) {
+        return this.categoryGateway.findAllByCursor(query);
+    }
+
+    @Override
+    public void exportAll(final CategoryExportQuery query, final Consumer<CategoryPreview> consumer) {
+        this.categoryGateway.exportAll(query, consumer);
+    }
+}
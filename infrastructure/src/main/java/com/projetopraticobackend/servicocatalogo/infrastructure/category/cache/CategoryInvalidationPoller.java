@@ -0,0 +1,264 @@
+package com.projetopraticobackend.servicocatalogo.infrastructure.category.cache;
+
+import com.projetopraticobackend.servicocatalogo.domain.category.Category;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryID;
+import com.projetopraticobackend.servicocatalogo.infrastructure.category.persistence.CategoryChangeRepository;
+import com.projetopraticobackend.servicocatalogo.infrastructure.category.persistence.CategoryChangeRepository.CategoryDeletion;
+import com.projetopraticobackend.servicocatalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.projetopraticobackend.servicocatalogo.infrastructure.category.persistence.CategoryWindowRepository;
+import com.projetopraticobackend.servicocatalogo.infrastructure.category.search.CategorySearchIndex;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import javax.persistence.EntityManagerFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/* Os caches de cada instância ("CategoryCache", "CategoryPageCache", o índice do Lucene e o cache de segundo nível do
+* Hibernate) apenas são atualizados pelas escritas feitas na própria instância. Com várias instâncias atrás de um
+* "load balancer", as demais continuariam devolvendo a categoria antiga até o TTL de cada cache.
+*
+* Com esse poller habilitado, cada instância consulta o banco de dados a cada "delay" e busca as categorias alteradas
+* ("updated_at") e excluídas ("category_deletion") desde a última consulta. Essas categorias são despejadas dos caches
+* locais, e o índice do Lucene é atualizado com elas. Não precisamos de nenhum "message broker": o próprio banco de
+* dados é a fila de alterações.
+*
+* O "updated_at" é preenchido pela aplicação antes do "commit", então uma transação mais lenta pode confirmar uma
+* alteração com um horário anterior ao último que já foi lido. Por isso, cada consulta volta o "overlap" no tempo, e as
+* alterações que já foram aplicadas são ignoradas. O "overlap" também cobre a diferença entre os relógios das instâncias. */
+@Component
+@ConditionalOnProperty(prefix = "category.cache.invalidation", name = "enabled", havingValue = "true")
+public class CategoryInvalidationPoller {
+
+    private final CategoryChangeRepository categoryChangeRepository;
+
+    private final CategoryCache categoryCache; //Cada um dos caches abaixo será nulo se estiver desabilitado.
+
+    private final CategoryPageCache categoryPageCache;
+
+    private final CategorySearchIndex categorySearchIndex;
+
+    private final EntityManagerFactory entityManagerFactory; //Com o cache de segundo nível desabilitado, os despejos feitos nele não fazem nada.
+
+    private final Duration delay; //É o intervalo entre o fim de uma consulta e o início da próxima.
+
+    private final Duration overlap;
+
+    private final Duration retention; //É por quanto tempo as exclusões ficam na tabela "category_deletion".
+
+    private final int batchSize; //É a quantidade máxima de linhas lidas por vez. Se houver mais alterações, a próxima página é lida na mesma consulta.
+
+    private final Counter invalidations; //Quantas categorias alteradas ou excluídas foram despejadas dos caches.
+
+    private final Counter failures; //Quantas consultas falharam. A consulta seguinte lê as mesmas alterações novamente.
+
+    private final ChangeStream<Category> updates;
+
+    private final ChangeStream<CategoryDeletion> deletions;
+
+    private long purgeAt = System.nanoTime(); //É o "System.nanoTime()" a partir do qual as exclusões antigas serão removidas novamente.
+
+    private ScheduledExecutorService executor;
+
+    public CategoryInvalidationPoller(final CategoryChangeRepository categoryChangeRepository,
+                                      final ObjectProvider<CategoryCache> categoryCache,
+                                      final ObjectProvider<CategoryPageCache> categoryPageCache,
+                                      final ObjectProvider<CategorySearchIndex> categorySearchIndex,
+                                      final EntityManagerFactory entityManagerFactory,
+                                      final MeterRegistry meterRegistry,
+                                      @Value("${category.cache.invalidation.delay:1s}") final Duration delay,
+                                      @Value("${category.cache.invalidation.overlap:5s}") final Duration overlap,
+                                      @Value("${category.cache.invalidation.retention:1h}") final Duration retention,
+                                      @Value("${category.cache.invalidation.batch-size:500}") final int batchSize) {
+        this.categoryChangeRepository = categoryChangeRepository;
+        this.categoryCache = categoryCache.getIfAvailable();
+        this.categoryPageCache = categoryPageCache.getIfAvailable();
+        this.categorySearchIndex = categorySearchIndex.getIfAvailable();
+        this.entityManagerFactory = entityManagerFactory;
+        this.delay = delay;
+        this.overlap = overlap;
+        this.retention = retention;
+        this.batchSize = batchSize;
+        this.invalidations = meterRegistry.counter("category.cache.invalidations");
+        this.failures = meterRegistry.counter("category.cache.invalidation.failures");
+        this.updates = new ChangeStream<>(categoryChangeRepository::findUpdatedSince, category -> category.getId().getValue(), Category::getUpdatedAt);
+        this.deletions = new ChangeStream<>(categoryChangeRepository::findDeletedSince, deletion -> deletion.id().getValue(), CategoryDeletion::deletedAt);
+    }
+
+    /* As alterações feitas antes da aplicação subir não interessam, pois os caches começam vazios. Então começamos a
+    * partir da última alteração e da última exclusão que já estão no banco de dados. */
+    @PostConstruct
+    public void start() {
+        this.updates.watermark = this.categoryChangeRepository.lastUpdatedAt().orElse(Instant.EPOCH);
+        this.deletions.watermark = this.categoryChangeRepository.lastDeletedAt().orElse(Instant.EPOCH);
+
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            final var thread = new Thread(runnable, "category-invalidation");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        final var delayNanos = this.delay.toNanos();
+        this.executor.scheduleWithFixedDelay(this::pollSafely, delayNanos, delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        this.executor.shutdownNow();
+    }
+
+    /* As duas consultas são feitas antes de qualquer despejo, e o "watermark" apenas avança depois dos despejos. Assim, se
+    * uma das consultas falhar, nenhuma alteração é perdida: a consulta seguinte começa do mesmo ponto. */
+    public synchronized void poll() {
+        final var updatedRows = this.updates.read(this.overlap, this.batchSize);
+        final var deletedRows = this.deletions.read(this.overlap, this.batchSize);
+
+        invalidate(this.updates.unseen(updatedRows), this.deletions.unseen(deletedRows));
+
+        this.updates.advance(updatedRows, this.overlap);
+        this.deletions.advance(deletedRows, this.overlap);
+
+        purgeDeletions();
+    }
+
+    //Uma exceção no "scheduleWithFixedDelay()" cancelaria as próximas execuções, então apenas a contamos.
+    private void pollSafely() {
+        try {
+            poll();
+        } catch (final RuntimeException ex) {
+            this.failures.increment();
+        }
+    }
+
+    /* A categoria é apenas despejada, e não atualizada, nos caches. Assim, uma leitura feita por essa consulta nunca
+    * sobrescreve uma escrita mais recente feita pela própria instância. O Lucene é a exceção, pois ele não busca no banco
+    * de dados o que não encontra. Se ele receber uma versão antiga, a versão mais recente será lida na próxima consulta. */
+    private void invalidate(final List<Category> updated, final List<CategoryDeletion> deleted) {
+        final var ids = Stream.concat(updated.stream().map(Category::getId), deleted.stream().map(CategoryDeletion::id)).toList();
+
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        if (this.categoryCache != null) {
+            ids.forEach(this.categoryCache::evict);
+        }
+
+        //Qualquer alteração pode mudar qualquer página e qualquer total, então todas as páginas são descartadas.
+        if (this.categoryPageCache != null) {
+            this.categoryPageCache.invalidateAll();
+        }
+
+        final var secondLevelCache = this.entityManagerFactory.getCache();
+        ids.forEach(id -> secondLevelCache.evict(CategoryJpaEntity.class, id.getValue()));
+        this.entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegion(CategoryWindowRepository.QUERY_CACHE_REGION);
+
+        if (this.categorySearchIndex != null) {
+            //As exclusões são aplicadas por último, então uma categoria alterada e depois excluída não volta para o índice.
+            if (!updated.isEmpty()) {
+                this.categorySearchIndex.indexAll(updated);
+            }
+
+            if (!deleted.isEmpty()) {
+                this.categorySearchIndex.deleteAll(deleted.stream().map(CategoryDeletion::id).toList());
+            }
+        }
+
+        this.invalidations.increment(ids.size());
+    }
+
+    //Todas as instâncias removem as exclusões antigas, porém, cada uma apenas uma vez a cada "retention".
+    private void purgeDeletions() {
+        final var now = System.nanoTime();
+
+        if (now - this.purgeAt >= 0) {
+            this.categoryChangeRepository.deleteDeletionsBefore(this.deletions.watermark.minus(this.retention));
+            this.purgeAt = now + this.retention.toNanos();
+        }
+    }
+
+    /* É uma das duas filas de alterações: as categorias alteradas ou as excluídas. Ela guarda o horário da alteração mais
+    * recente já lida (o "watermark") e as alterações lidas dentro do "overlap", para que a mesma alteração não seja
+    * despejada novamente a cada consulta. */
+    private static final class ChangeStream<T> {
+
+        private final SeekQuery<T> query;
+
+        private final Function<T, String> idOf;
+
+        private final Function<T, Instant> changedAtOf;
+
+        private final Map<String, Instant> seen = new HashMap<>(); //É o horário da última alteração já aplicada de cada categoria.
+
+        private Instant watermark;
+
+        private ChangeStream(final SeekQuery<T> query, final Function<T, String> idOf, final Function<T, Instant> changedAtOf) {
+            this.query = query;
+            this.idOf = idOf;
+            this.changedAtOf = changedAtOf;
+        }
+
+        private List<T> read(final Duration overlap, final int batchSize) {
+            final var rows = new ArrayList<T>();
+
+            var since = this.watermark.minus(overlap);
+            String afterId = null;
+            List<T> page;
+
+            do {
+                page = this.query.find(since, afterId, batchSize);
+                rows.addAll(page);
+
+                if (!page.isEmpty()) {
+                    final var last = page.get(page.size() - 1);
+                    since = this.changedAtOf.apply(last);
+                    afterId = this.idOf.apply(last);
+                }
+            } while (page.size() == batchSize);
+
+            return rows;
+        }
+
+        private List<T> unseen(final List<T> rows) {
+            return rows.stream()
+                    .filter(row -> !this.changedAtOf.apply(row).equals(this.seen.get(this.idOf.apply(row))))
+                    .toList();
+        }
+
+        private void advance(final List<T> rows, final Duration overlap) {
+            for (final var row : rows) {
+                final var changedAt = this.changedAtOf.apply(row);
+                this.seen.put(this.idOf.apply(row), changedAt);
+
+                if (changedAt.isAfter(this.watermark)) {
+                    this.watermark = changedAt;
+                }
+            }
+
+            //As alterações anteriores ao "overlap" não serão lidas novamente, então não precisamos mais lembrar delas.
+            final var oldest = this.watermark.minus(overlap);
+            this.seen.values().removeIf(changedAt -> changedAt.isBefore(oldest));
+        }
+    }
+
+    @FunctionalInterface
+    private interface SeekQuery<T> {
+        List<T> find(Instant since, String afterId, int limit);
+    }
+}
@@ -0,0 +1,106 @@
+package com.projetopraticobackend.servicocatalogo.infrastructure.category.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategorySearchQuery;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/* Esse é o cache local das páginas da listagem, ou seja, do resultado completo de um "findAll()", incluindo o total.
+ *
+ * Ao invés de sabermos quais páginas uma escrita altera (uma categoria nova pode mudar todas as páginas e todos os
+ * totais), utilizamos uma "geração". Ela faz parte da chave de cada página e é incrementada a cada escrita. Assim,
+ * após uma escrita, nenhuma página antiga é encontrada, e elas são despejadas pelo Caffeine com o tempo.
+ *
+ * A geração apenas é incrementada após o fim da transação da escrita ("AfterTransaction"). Uma busca que começar antes
+ * disso, mesmo que termine depois, guarda o resultado com a geração antiga, ou seja, ele nunca será devolvido para as
+ * buscas feitas após o "commit". Se a geração fosse incrementada antes do "commit", uma busca feita nesse intervalo
+ * ainda leria as linhas antigas no banco de dados e as guardaria com a geração nova.
+ *
+ * A geração é apenas dessa instância. As escritas feitas por outras instâncias apenas serão vistas após o "ttl", ou,
+ * com o "CategoryInvalidationPoller" habilitado, na próxima consulta dele. */
+public class CategoryPageCache implements MeterBinder {
+
+    private final Cache<PageKey, Object> cache;
+
+    private final AtomicLong generation = new AtomicLong();
+
+    public CategoryPageCache(final long maxSize, final Duration ttl) {
+        this(maxSize, ttl, ForkJoinPool.commonPool());
+    }
+
+    CategoryPageCache(final long maxSize, final Duration ttl, final Executor executor) {
+        this.cache = Caffeine.newBuilder()
+                .executor(executor)
+                .maximumSize(maxSize) //Quantidade máxima de páginas no cache.
+                .expireAfterWrite(Objects.requireNonNull(ttl))
+                .recordStats()
+                .build();
+    }
+
+    /* O "kind" diferencia as buscas que recebem a mesma "query", mas devolvem tipos diferentes ("findAll()",
+    * "findSlice()" e etc). O "copy" é aplicado no que entra e no que sai do cache, pois o "Category" é mutável. */
+    @SuppressWarnings("unchecked")
+    public <T> T get(final String kind,
+                     final CategorySearchQuery query,
+                     final Supplier<T> loader,
+                     final UnaryOperator<T> copy) {
+
+        final var key = new PageKey(this.generation.get(), kind, normalize(query));
+        final var page = (T) this.cache.get(key, it -> copy.apply(loader.get()));
+        return copy.apply(page);
+    }
+
+    /* Deve ser chamado após cada escrita, ao fim da sua transação. As páginas da geração anterior deixam de ser
+    * encontradas imediatamente. */
+    public void invalidateAll() {
+        this.generation.incrementAndGet();
+    }
+
+    public long generation() {
+        return this.generation.get();
+    }
+
+    public CacheStats stats() {
+        return this.cache.stats();
+    }
+
+    public long size() {
+        return this.cache.estimatedSize();
+    }
+
+    public void cleanUp() {
+        this.cache.cleanUp();
+    }
+
+    /* Como esse cache é um "Bean", o Spring Boot chama esse método e registra as métricas do Caffeine, como o
+    * "cache_gets_total{cache="categoryPages",result="hit"}", de onde tiramos a taxa de acerto. */
+    @Override
+    public void bindTo(final MeterRegistry registry) {
+        new CaffeineCacheMetrics<>(this.cache, "categoryPages", Tags.empty()).bindTo(registry);
+    }
+
+    /* Os termos são comparados sem diferenciar maiúsculas de minúsculas e sem os espaços das pontas, assim como é feito
+    * na busca. Dessa forma, "Filmes " e "filmes" utilizam a mesma página do cache. */
+    static CategorySearchQuery normalize(final CategorySearchQuery query) {
+        final var terms = query.terms() == null ? "" : query.terms().strip().toLowerCase(Locale.ROOT);
+        final var direction = query.direction() == null ? null : query.direction().toLowerCase(Locale.ROOT);
+
+        return new CategorySearchQuery(query.page(), query.perPage(), terms, query.sort(), direction);
+    }
+
+    record PageKey(long generation, String kind, CategorySearchQuery query) {
+    }
+}
@@ -0,0 +1,122 @@
+package com.projetopraticobackend.servicocatalogo.infrastructure.category.cache;
+
+import com.projetopraticobackend.servicocatalogo.domain.category.Category;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryCursorQuery;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryExportQuery;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryGateway;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryID;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryPreview;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategorySearchQuery;
+import com.projetopraticobackend.servicocatalogo.domain.pagination.CursorPagination;
+import com.projetopraticobackend.servicocatalogo.domain.pagination.Pagination;
+import com.projetopraticobackend.servicocatalogo.domain.pagination.SlicePagination;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.UnaryOperator;
+
+/* Esse gateway é um "decorator", assim como o "CategoryCacheGateway", mas para as páginas da listagem.
+ *
+ * O "findAll()", o "findAllPreviews()" e o "findSlice()" passam pelo "CategoryPageCache". Toda escrita, mesmo que
+ * falhe, incrementa a geração do cache, já que não sabemos o que chegou ao banco de dados. Dentro de uma transação, a
+ * geração apenas é incrementada ao fim dela ("AfterTransaction"), senão uma busca feita antes do "commit" guardaria a
+ * página antiga já na geração nova. A listagem por cursor e a
+ * exportação não são guardadas, pois cada cursor é uma busca diferente e a exportação não cabe em memória. */
+public class CategoryPageCacheGateway implements CategoryGateway {
+
+    private final CategoryGateway categoryGateway;
+    private final CategoryPageCache pageCache;
+
+    public CategoryPageCacheGateway(final CategoryGateway categoryGateway, final CategoryPageCache pageCache) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.pageCache = Objects.requireNonNull(pageCache);
+    }
+
+    @Override
+    public Category create(final Category category) {
+        try {
+            return this.categoryGateway.create(category);
+        } finally {
+            AfterTransaction.afterCompletion(this.pageCache::invalidateAll);
+        }
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> categories) {
+        try {
+            return this.categoryGateway.createAll(categories);
+        } finally {
+            AfterTransaction.afterCompletion(this.pageCache::invalidateAll);
+        }
+    }
+
+    @Override
+    public void deleteById(final CategoryID id) {
+        try {
+            this.categoryGateway.deleteById(id);
+        } finally {
+            AfterTransaction.afterCompletion(this.pageCache::invalidateAll);
+        }
+    }
+
+    @Override
+    public void deleteAllById(final List<CategoryID> ids) {
+        try {
+            this.categoryGateway.deleteAllById(ids);
+        } finally {
+            AfterTransaction.afterCompletion(this.pageCache::invalidateAll);
+        }
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID id) {
+        return this.categoryGateway.findById(id);
+    }
+
+    @Override
+    public Category update(final Category category) {
+        try {
+            return this.categoryGateway.update(category);
+        } finally {
+            AfterTransaction.afterCompletion(this.pageCache::invalidateAll);
+        }
+    }
+
+    @Override
+    public Optional<Category> updateById(final Category category) {
+        try {
+            return this.categoryGateway.updateById(category);
+        } finally {
+            AfterTransaction.afterCompletion(this.pageCache::invalidateAll);
+        }
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery query) {
+        //O "Category" é mutável, então cada página é copiada ao entrar e ao sair do cache.
+        return this.pageCache.get("findAll", query, () -> this.categoryGateway.findAll(query), page -> page.map(it -> it.clone()));
+    }
+
+    @Override
+    public Pagination<CategoryPreview> findAllPreviews(final CategorySearchQuery query) {
+        //O "CategoryPreview" é imutável, então a mesma página pode ser devolvida para todos.
+        return this.pageCache.get("findAllPreviews", query, () -> this.categoryGateway.findAllPreviews(query), UnaryOperator.identity());
+    }
+
+    @Override
+    public SlicePagination<Category> findSlice(final CategorySearchQuery query) {
+        return this.pageCache.get("findSlice", query, () -> this.categoryGateway.findSlice(query), page -> page.map(it -> it.clone()));
+    }
+
+    @Override
+    public CursorPagination<Category> findAllByCursor(final CategoryCursorQuery query) {
+        return this.categoryGateway.findAllByCursor(query);
+    }
+
+    @Override
+    public void exportAll(final CategoryExportQuery query, final Consumer<CategoryPreview> consumer) {
+        this.categoryGateway.exportAll(query, consumer);
+    }
+}
@@ -0,0 +1,103 @@
+package com.projetopraticobackend.servicocatalogo.infrastructure.category.metrics;
+
+import com.projetopraticobackend.servicocatalogo.domain.category.Category;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryCursorQuery;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryExportQuery;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryGateway;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryID;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryPreview;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategorySearchQuery;
+import com.projetopraticobackend.servicocatalogo.domain.pagination.CursorPagination;
+import com.projetopraticobackend.servicocatalogo.domain.pagination.Pagination;
+import com.projetopraticobackend.servicocatalogo.domain.pagination.SlicePagination;
+import com.projetopraticobackend.servicocatalogo.infrastructure.configuration.metrics.ExecutionMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/* Esse gateway é um "decorator" do gateway real (normalmente o "CategoryMySQLGateway"), assim como o
+ * "CategoryCacheGateway". Ele não altera nenhum comportamento, apenas mede o tempo e o resultado de cada método na
+ * métrica "gateway.execution", com as "tags" "gateway" e "method".
+ *
+ * Ele fica "por dentro" do cache, ou seja, mede apenas as chamadas que realmente chegam ao banco de dados. No
+ * "exportAll()", o tempo medido também inclui a escrita de cada categoria no "consumer" (a resposta HTTP). */
+public class CategoryMetricsGateway implements CategoryGateway {
+
+    private static final String GATEWAY = "category";
+
+    private final CategoryGateway categoryGateway;
+    private final ExecutionMetrics metrics;
+
+    public CategoryMetricsGateway(final CategoryGateway categoryGateway, final MeterRegistry meterRegistry) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.metrics = new ExecutionMetrics(meterRegistry, "gateway.execution", "Time spent in each gateway method");
+    }
+
+    @Override
+    public Category create(final Category category) {
+        return this.metrics.record(tags("create"), () -> this.categoryGateway.create(category));
+    }
+
+    @Override
+    public List<Category> createAll(final List<Category> categories) {
+        return this.metrics.record(tags("createAll"), () -> this.categoryGateway.createAll(categories));
+    }
+
+    @Override
+    public void deleteById(final CategoryID id) {
+        this.metrics.record(tags("deleteById"), () -> this.categoryGateway.deleteById(id));
+    }
+
+    @Override
+    public void deleteAllById(final List<CategoryID> ids) {
+        this.metrics.record(tags("deleteAllById"), () -> this.categoryGateway.deleteAllById(ids));
+    }
+
+    @Override
+    public Optional<Category> findById(final CategoryID id) {
+        return this.metrics.record(tags("findById"), () -> this.categoryGateway.findById(id));
+    }
+
+    @Override
+    public Category update(final Category category) {
+        return this.metrics.record(tags("update"), () -> this.categoryGateway.update(category));
+    }
+
+    @Override
+    public Optional<Category> updateById(final Category category) {
+        return this.metrics.record(tags("updateById"), () -> this.categoryGateway.updateById(category));
+    }
+
+    @Override
+    public Pagination<Category> findAll(final CategorySearchQuery query) {
+        return this.metrics.record(tags("findAll"), () -> this.categoryGateway.findAll(query));
+    }
+
+    @Override
+    public Pagination<CategoryPreview> findAllPreviews(final CategorySearchQuery query) {
+        return this.metrics.record(tags("findAllPreviews"), () -> this.categoryGateway.findAllPreviews(query));
+    }
+
+    @Override
+    public SlicePagination<Category> findSlice(final CategorySearchQuery query) {
+        return this.metrics.record(tags("findSlice"), () -> this.categoryGateway.findSlice(query));
+    }
+
+    @Override
+    public CursorPagination<Category> findAllByCursor(final CategoryCursorQuery query) {
+        return this.metrics.record(tags("findAllByCursor"), () -> this.categoryGateway.findAllByCursor(query));
+    }
+
+    @Override
+    public void exportAll(final CategoryExportQuery query, final Consumer<CategoryPreview> consumer) {
+        this.metrics.record(tags("exportAll"), () -> this.categoryGateway.exportAll(query, consumer));
+    }
+
+    private static Tags tags(final String method) {
+        return Tags.of("gateway", GATEWAY, "method", method);
+    }
+}
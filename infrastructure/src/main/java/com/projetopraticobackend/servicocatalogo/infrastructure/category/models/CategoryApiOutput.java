@@ -11,7 +11,8 @@ public record CategoryApiOutput(
         @JsonProperty("is_active") boolean active,
         @JsonProperty("created_at") Instant createdAt,
         @JsonProperty("updated_at") Instant updatedAt,
-        @JsonProperty("deleted_at") Instant deletedAt
+        @JsonProperty("deleted_at") Instant deletedAt,
+        @JsonProperty("version") long version
 ) {
 
 
@@ -0,0 +1,24 @@
+package com.projetopraticobackend.servicocatalogo.infrastructure.category.persistence;
+
+import java.util.Collection;
+import java.util.List;
+
+/* Esse é mais um "fragmento" do "CategoryRepository". O "saveAll()" do Spring Data chama o "save()" para cada entidade,
+* e, como o ID da categoria é gerado por nós, e não pelo banco, o Spring Data entende que a entidade já existe e faz um
+* "merge()", que executa um "SELECT" antes de cada "INSERT". Aqui, as entidades são sempre novas, então utilizamos o
+* "persist()" diretamente, e o Hibernate agrupa os "INSERTs" em lotes ("hibernate.jdbc.batch_size"). */
+public interface CategoryBulkRepository {
+
+    List<CategoryJpaEntity> persistAll(List<CategoryJpaEntity> categories);
+
+    /* Da mesma forma, o "save()" de uma entidade que não está no contexto de persistência faz um "SELECT" antes do
+    * "UPDATE". Aqui, o "UPDATE" é enviado diretamente com o estado completo da categoria. Retorna a quantidade de linhas
+    * alteradas, ou seja, "0" se a categoria não existir ou não estiver mais na versão da entidade. */
+    int updateById(CategoryJpaEntity category);
+
+    /* O "deleteById()" do Spring Data busca a entidade pelo ID e só então a remove, e o "deleteAllById()" faz isso para
+    * cada ID. Aqui, as linhas são removidas diretamente, com um único "DELETE". Retornam a quantidade de linhas removidas. */
+    int deleteRowById(String id);
+
+    int deleteRowsById(Collection<String> ids);
+}
@@ -0,0 +1,199 @@
+package com.projetopraticobackend.servicocatalogo.infrastructure.category.persistence;
+
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.query.NativeQuery;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.LockModeType;
+import javax.persistence.PersistenceContext;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/* Todas as categorias são inseridas na mesma transação, ou seja, ou todas são criadas, ou nenhuma é. */
+public class CategoryBulkRepositoryImpl implements CategoryBulkRepository {
+
+    /* É a quantidade máxima de IDs em cada "IN" da exclusão em lote. Assim, uma lista muito grande não gera um único
+    * "DELETE" enorme, e o banco não precisa analisar milhares de parâmetros de uma só vez. */
+    static final int DELETE_IN_LIMIT = 1000;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /* Com a invalidação entre instâncias habilitada, cada exclusão também é registrada na tabela "category_deletion", para
+    * que as outras instâncias a encontrem ("CategoryInvalidationPoller"). */
+    @Value("${category.cache.invalidation.enabled:false}")
+    private boolean invalidationEnabled;
+
+    @Override
+    @Transactional
+    public List<CategoryJpaEntity> persistAll(final List<CategoryJpaEntity> categories) {
+        final var batchSize = batchSize();
+
+        for (int i = 0; i < categories.size(); i++) {
+            this.entityManager.persist(categories.get(i));
+
+            //A cada lote, enviamos os "INSERTs" e esvaziamos o contexto de persistência, para que ele não cresça com milhares de entidades.
+            if ((i + 1) % batchSize == 0) {
+                this.entityManager.flush();
+                this.entityManager.clear();
+            }
+        }
+
+        this.entityManager.flush();
+        this.entityManager.clear();
+
+        return categories;
+    }
+
+    /* O "created_at" nunca muda, por isso ele não está no "SET". Se existir uma transação em andamento, o "UPDATE"
+    * participa dela.
+    *
+    * O "UPDATE" em JPQL não passa pelo "@Version", então fazemos o mesmo que o Hibernate faria: somamos 1 à versão e
+    * apenas alteramos a linha se ela ainda estiver na versão que foi lida. */
+    @Override
+    @Transactional
+    public int updateById(final CategoryJpaEntity category) {
+        if (secondLevelCacheEnabled()) {
+            return updateManaged(category);
+        }
+
+        return this.entityManager.createQuery("""
+                        UPDATE CategoryJpaEntity c
+                        SET c.name = :name,
+                            c.description = :description,
+                            c.active = :active,
+                            c.updatedAt = :updatedAt,
+                            c.deletedAt = :deletedAt,
+                            c.version = c.version + 1
+                        WHERE c.id = :id
+                          AND c.version = :version
+                        """)
+                .setParameter("name", category.getName())
+                .setParameter("description", category.getDescription())
+                .setParameter("active", category.isActive())
+                .setParameter("updatedAt", category.getUpdatedAt())
+                .setParameter("deletedAt", category.getDeletedAt())
+                .setParameter("id", category.getId())
+                .setParameter("version", category.getVersion())
+                .executeUpdate();
+    }
+
+    @Override
+    @Transactional
+    public int deleteRowById(final String id) {
+        recordDeletions(List.of(id));
+
+        if (secondLevelCacheEnabled()) {
+            return deleteManaged(List.of(id));
+        }
+
+        return this.entityManager.createQuery("DELETE FROM CategoryJpaEntity c WHERE c.id = :id")
+                .setParameter("id", id)
+                .executeUpdate();
+    }
+
+    //Todos os "DELETEs" são feitos na mesma transação, ou seja, ou todas as categorias são removidas, ou nenhuma é.
+    @Override
+    @Transactional
+    public int deleteRowsById(final Collection<String> ids) {
+        final var query = this.entityManager.createQuery("DELETE FROM CategoryJpaEntity c WHERE c.id IN :ids");
+        final var idList = new ArrayList<>(ids);
+
+        var deleted = 0;
+
+        for (int from = 0; from < idList.size(); from += DELETE_IN_LIMIT) {
+            final var chunk = idList.subList(from, Math.min(from + DELETE_IN_LIMIT, idList.size()));
+            recordDeletions(chunk);
+            deleted += secondLevelCacheEnabled() ? deleteManaged(chunk) : query.setParameter("ids", chunk).executeUpdate();
+        }
+
+        return deleted;
+    }
+
+    /* Os "UPDATEs" e "DELETEs" em JPQL (ou nativos, sincronizados com a tabela "category") fazem o Hibernate esvaziar a
+    * região "category" inteira do cache de segundo nível, já que ele não sabe quais linhas foram alteradas. Com o cache
+    * habilitado, cada escrita descartaria todas as categorias guardadas.
+    *
+    * Por isso, com o cache, a escrita é feita pela entidade gerenciada: o Hibernate atualiza ou remove apenas a entrada
+    * dessa categoria após o "commit", e invalida as buscas guardadas da tabela. A linha é lida com "SELECT ... FOR
+    * UPDATE", ou seja, direto do banco de dados e bloqueada até o fim da transação. Assim, a versão comparada é a atual, e
+    * o "AND version = ?" do "UPDATE" nunca falha depois da comparação. É um comando a mais, mas apenas nesse modo. */
+    private int updateManaged(final CategoryJpaEntity category) {
+        detachAll();
+
+        final var managed = this.entityManager.find(CategoryJpaEntity.class, category.getId(), LockModeType.PESSIMISTIC_WRITE);
+
+        if (managed == null || managed.getVersion() != category.getVersion()) {
+            return 0;
+        }
+
+        managed.setName(category.getName());
+        managed.setDescription(category.getDescription());
+        managed.setActive(category.isActive());
+        managed.setUpdatedAt(category.getUpdatedAt());
+        managed.setDeletedAt(category.getDeletedAt());
+
+        this.entityManager.flush(); //O "@Version" soma 1 à versão, assim como o "UPDATE" em JPQL.
+        return 1;
+    }
+
+    private int deleteManaged(final List<String> ids) {
+        detachAll();
+
+        final var managed = this.entityManager.createQuery("SELECT c FROM CategoryJpaEntity c WHERE c.id IN :ids", CategoryJpaEntity.class)
+                .setParameter("ids", ids)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .getResultList();
+
+        managed.forEach(this.entityManager::remove);
+
+        this.entityManager.flush();
+        return managed.size();
+    }
+
+    /* O registro é feito antes do "DELETE" e na mesma transação, e apenas as categorias que ainda existem são registradas
+    * ("INSERT ... SELECT"). Assim, ou a categoria é excluída e registrada, ou nenhum dos dois acontece.
+    *
+    * Sem o "addSynchronizedQuerySpace()", o Hibernate não saberia quais tabelas o comando altera e esvaziaria todas as
+    * regiões do cache de segundo nível. */
+    private void recordDeletions(final List<String> ids) {
+        if (!this.invalidationEnabled) {
+            return;
+        }
+
+        this.entityManager.createNativeQuery("INSERT INTO category_deletion (id, deleted_at) SELECT id, :deletedAt FROM category WHERE id IN (:ids)")
+                .unwrap(NativeQuery.class)
+                .addSynchronizedQuerySpace("category_deletion")
+                .setParameter("deletedAt", Instant.now())
+                .setParameterList("ids", ids.stream().map(CategoryIdType::toBinary).toList())
+                .executeUpdate();
+    }
+
+    /* Uma categoria já lida nessa transação (como a busca da atualização) pode ter vindo do cache, com uma versão antiga.
+    * Sem ela no contexto de persistência, a leitura com o bloqueio sempre vai ao banco de dados. */
+    private void detachAll() {
+        this.entityManager.flush();
+        this.entityManager.clear();
+    }
+
+    private boolean secondLevelCacheEnabled() {
+        return this.entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class)
+                .getSessionFactoryOptions()
+                .isSecondLevelCacheEnabled();
+    }
+
+    //Utilizamos o mesmo tamanho de lote configurado no Hibernate ("hibernate.jdbc.batch_size"), assim, cada "flush()" envia um lote completo.
+    private int batchSize() {
+        final var batchSize = this.entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class)
+                .getSessionFactoryOptions()
+                .getJdbcBatchSize();
+
+        return Math.max(batchSize, 1);
+    }
+}
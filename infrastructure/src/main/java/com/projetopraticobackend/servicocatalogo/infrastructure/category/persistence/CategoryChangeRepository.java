@@ -0,0 +1,109 @@
+package com.projetopraticobackend.servicocatalogo.infrastructure.category.persistence;
+
+import com.projetopraticobackend.servicocatalogo.domain.category.Category;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryID;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+/* Esse repositório lê as alterações feitas na tabela "category" por qualquer instância da aplicação: as categorias
+* criadas ou alteradas, pelo "updated_at", e as excluídas, pela tabela "category_deletion". É utilizado pelo
+* "CategoryInvalidationPoller".
+*
+* Assim como na exportação, as consultas são feitas com o JDBC, sem o Hibernate, então nada do que é lido aqui passa
+* pelo contexto de persistência ou pelo cache de segundo nível. Sem uma transação apenas de leitura, as consultas também
+* nunca vão para a réplica ("ReplicaRoutingDataSource"), que poderia estar atrasada.
+*
+* As duas buscas são paginadas por "seek": a primeira página começa no horário informado ("since"), e as próximas, logo
+* após o horário e o ID da última linha da página anterior. Ambas percorrem o índice "(horário, id)" de cada tabela. */
+@Repository
+public class CategoryChangeRepository {
+
+    private static final String SELECT_UPDATED = "SELECT id, name, description, active, created_at, updated_at, deleted_at, version FROM category";
+
+    private static final String SELECT_DELETED = "SELECT id, deleted_at FROM category_deletion";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CategoryChangeRepository(final DataSource dataSource) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    /* É a exclusão de uma categoria, lida da tabela "category_deletion". */
+    public record CategoryDeletion(CategoryID id, Instant deletedAt) {
+    }
+
+    //São os horários da última alteração e da última exclusão, de onde o poller começa a ler ao subir a aplicação.
+    public Optional<Instant> lastUpdatedAt() {
+        return Optional.ofNullable(this.jdbcTemplate.queryForObject("SELECT MAX(updated_at) FROM category", Timestamp.class))
+                .map(Timestamp::toInstant);
+    }
+
+    public Optional<Instant> lastDeletedAt() {
+        return Optional.ofNullable(this.jdbcTemplate.queryForObject("SELECT MAX(deleted_at) FROM category_deletion", Timestamp.class))
+                .map(Timestamp::toInstant);
+    }
+
+    //Se o "afterId" for nulo, é a primeira página, que começa no próprio "since" ("updated_at >= since").
+    public List<Category> findUpdatedSince(final Instant since, final String afterId, final int limit) {
+        return seek(SELECT_UPDATED, "updated_at", since, afterId, limit, CategoryChangeRepository::toCategory);
+    }
+
+    public List<CategoryDeletion> findDeletedSince(final Instant since, final String afterId, final int limit) {
+        return seek(SELECT_DELETED, "deleted_at", since, afterId, limit, (resultSet, rowNum) -> new CategoryDeletion(
+                CategoryID.from(CategoryIdType.fromBinary(resultSet.getBytes("id"))),
+                resultSet.getTimestamp("deleted_at").toInstant()));
+    }
+
+    /* As exclusões mais antigas que o "before" já foram lidas por todas as instâncias, então não precisam mais ficar na
+    * tabela. Retorna a quantidade de exclusões removidas. */
+    @Transactional
+    public int deleteDeletionsBefore(final Instant before) {
+        return this.jdbcTemplate.update("DELETE FROM category_deletion WHERE deleted_at < ?", Timestamp.from(before));
+    }
+
+    private <T> List<T> seek(final String select,
+                             final String column,
+                             final Instant since,
+                             final String afterId,
+                             final int limit,
+                             final RowMapper<T> rowMapper) {
+
+        final var orderBy = " ORDER BY " + column + ", id LIMIT " + limit;
+
+        if (afterId == null) {
+            return this.jdbcTemplate.query(select + " WHERE " + column + " >= ?" + orderBy, rowMapper, Timestamp.from(since));
+        }
+
+        final var sinceTimestamp = Timestamp.from(since);
+
+        return this.jdbcTemplate.query(select + " WHERE " + column + " > ? OR (" + column + " = ? AND id > ?)" + orderBy,
+                rowMapper, sinceTimestamp, sinceTimestamp, CategoryIdType.toBinary(afterId));
+    }
+
+    //Sem o Hibernate, fazemos as mesmas conversões do "CategoryIdType" e do "DATETIME" para o "Instant".
+    private static Category toCategory(final ResultSet resultSet, final int rowNum) throws SQLException {
+        return Category.with(
+                CategoryID.from(CategoryIdType.fromBinary(resultSet.getBytes("id"))),
+                resultSet.getString("name"),
+                resultSet.getString("description"),
+                resultSet.getBoolean("active"),
+                toInstant(resultSet.getTimestamp("created_at")),
+                toInstant(resultSet.getTimestamp("updated_at")),
+                toInstant(resultSet.getTimestamp("deleted_at")),
+                resultSet.getLong("version"));
+    }
+
+    private static Instant toInstant(final Timestamp timestamp) {
+        return timestamp != null ? timestamp.toInstant() : null;
+    }
+}
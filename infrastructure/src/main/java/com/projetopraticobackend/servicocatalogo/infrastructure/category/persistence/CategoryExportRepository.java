@@ -0,0 +1,81 @@
+package com.projetopraticobackend.servicocatalogo.infrastructure.category.persistence;
+
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryExportQuery;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryPreview;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.function.Consumer;
+
+/* Esse repositório percorre a tabela inteira com o JDBC, sem passar pelo Hibernate.
+*
+* O "ResultSet" é apenas de leitura e só anda para frente ("forward-only"), e o "fetch size" define quantas linhas o
+* driver busca no banco por vez. No MySQL, com o "useCursorFetch=true" na URL, o banco abre um cursor e envia as linhas
+* em blocos desse tamanho. Assim, a memória utilizada não depende do tamanho da tabela. */
+@Repository
+public class CategoryExportRepository {
+
+    private static final String SELECT = "SELECT id, name, description, active, created_at, updated_at, deleted_at, version FROM category";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public CategoryExportRepository(final DataSource dataSource,
+                                    @Value("${category.export.fetch-size:1000}") final int fetchSize) {
+        //Criamos o nosso próprio "JdbcTemplate", pois o "fetch size" vale para todas as consultas feitas por ele.
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.jdbcTemplate.setFetchSize(fetchSize);
+    }
+
+    /* A transação garante que a conexão seja a mesma do início ao fim da leitura. */
+    @Transactional(readOnly = true)
+    public void streamAll(final CategoryExportQuery query, final Consumer<CategoryPreview> consumer) {
+        final var sql = new StringBuilder(SELECT).append(" WHERE 1 = 1");
+        final var args = new ArrayList<>();
+
+        if (query.active() != null) {
+            sql.append(" AND active = ?");
+            args.add(query.active());
+        }
+
+        if (query.updatedSince() != null) {
+            sql.append(" AND updated_at >= ?");
+            args.add(Timestamp.from(query.updatedSince()));
+        }
+
+        /* A ordenação sempre segue um índice, para que o banco de dados não precise ordenar as linhas ("filesort") antes de
+        * enviar a primeira. Sem filtros, percorremos a chave primária. Com um dos filtros, o "(active, updated_at, id)" ou o
+        * "(updated_at, id)" já entregam as linhas filtradas na ordem do "updated_at", com o ID como desempate. Nos dois
+        * casos, a exportação sempre terá a mesma ordem. */
+        sql.append(query.active() == null && query.updatedSince() == null ? " ORDER BY id" : " ORDER BY updated_at, id");
+
+        final RowCallbackHandler rowHandler = resultSet -> consumer.accept(toPreview(resultSet));
+
+        this.jdbcTemplate.query(sql.toString(), rowHandler, args.toArray());
+    }
+
+    //O Hibernate lê as colunas "DATETIME" como "Timestamp", então fazemos a mesma conversão para o "Instant".
+    private static CategoryPreview toPreview(final ResultSet resultSet) throws SQLException {
+        return new CategoryPreview(
+                CategoryIdType.fromBinary(resultSet.getBytes("id")), //Sem o Hibernate, fazemos a mesma conversão do "CategoryIdType".
+                resultSet.getString("name"),
+                resultSet.getString("description"),
+                resultSet.getBoolean("active"),
+                toInstant(resultSet.getTimestamp("created_at")),
+                toInstant(resultSet.getTimestamp("updated_at")),
+                toInstant(resultSet.getTimestamp("deleted_at")),
+                resultSet.getLong("version"));
+    }
+
+    private static Instant toInstant(final Timestamp timestamp) {
+        return timestamp != null ? timestamp.toInstant() : null;
+    }
+}
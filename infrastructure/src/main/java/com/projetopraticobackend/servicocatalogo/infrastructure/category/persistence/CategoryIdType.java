@@ -0,0 +1,127 @@
+package com.projetopraticobackend.servicocatalogo.infrastructure.category.persistence;
+
+import org.hibernate.type.AbstractSingleColumnStandardBasicType;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.AbstractTypeDescriptor;
+import org.hibernate.type.descriptor.sql.BinaryTypeDescriptor;
+
+import java.nio.ByteBuffer;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/* Esse tipo do Hibernate guarda o ID da categoria como "BINARY(16)", ou seja, apenas os 16 bytes do UUID, e não os 36
+* caracteres do texto. Assim, a chave primária (e qualquer chave estrangeira que aponte para ela) ocupa menos da metade
+* do espaço.
+*
+* Para o restante da aplicação, o ID continua sendo a "String" do UUID. Não utilizamos um "AttributeConverter" porque
+* a especificação do JPA não aplica os conversores no "@Id", e o Hibernate os ignora.
+*
+* Os bytes ficam na mesma ordem dos caracteres do texto, então a ordenação pelo ID continua a mesma (é o mesmo
+* "UUID_TO_BIN()" do MySQL, sem trocar as partes do UUID). */
+public class CategoryIdType extends AbstractSingleColumnStandardBasicType<String> {
+
+    public static final String NAME = "category-id";
+
+    private static final int UUID_BYTES = 16;
+
+    //É o formato canônico do UUID, com 36 caracteres: "8-4-4-4-12" dígitos hexadecimais, em letras minúsculas ou maiúsculas.
+    private static final Pattern UUID_FORMAT = Pattern.compile("[0-9a-fA-F]{8}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{4}-[0-9a-fA-F]{12}");
+
+    public CategoryIdType() {
+        super(BinaryTypeDescriptor.INSTANCE, CategoryIdDescriptor.INSTANCE);
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    /* Um ID que não é um UUID nunca estará na tabela. O gateway usa esse método para não enviar ao banco um valor que não
+    * pode ser convertido para os 16 bytes. */
+    public static boolean isValid(final String id) {
+        return normalize(id).isPresent();
+    }
+
+    /* Devolve o ID no mesmo formato que o "fromBinary()" devolve, ou seja, em letras minúsculas e com os zeros à esquerda.
+    * Assim, o mesmo UUID escrito em letras maiúsculas encontra a mesma categoria (e a mesma entrada dos caches).
+    *
+    * Verificamos o formato antes de convertê-lo, pois o "UUID.fromString()" também aceita textos que não são UUIDs, como o
+    * "1-1-1-1-1", e os completa com zeros. Qualquer outro formato é tratado como uma categoria que não existe. */
+    public static Optional<String> normalize(final String id) {
+        if (id == null || !UUID_FORMAT.matcher(id).matches()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(UUID.fromString(id).toString());
+    }
+
+    public static byte[] toBinary(final String id) {
+        final var uuid = UUID.fromString(id);
+
+        return ByteBuffer.allocate(UUID_BYTES)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    public static String fromBinary(final byte[] id) {
+        final var buffer = ByteBuffer.wrap(id);
+        return new UUID(buffer.getLong(), buffer.getLong()).toString();
+    }
+
+    /* É aqui que o Hibernate converte a "String" nos bytes, ao enviar o ID para o banco, e os bytes na "String", ao lê-lo. */
+    private static class CategoryIdDescriptor extends AbstractTypeDescriptor<String> {
+
+        private static final CategoryIdDescriptor INSTANCE = new CategoryIdDescriptor();
+
+        private CategoryIdDescriptor() {
+            super(String.class);
+        }
+
+        @Override
+        public String toString(final String value) {
+            return value;
+        }
+
+        @Override
+        public String fromString(final String string) {
+            return string;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <X> X unwrap(final String value, final Class<X> type, final WrapperOptions options) {
+            if (value == null) {
+                return null;
+            }
+
+            if (byte[].class.isAssignableFrom(type)) {
+                return (X) toBinary(value);
+            }
+
+            if (String.class.isAssignableFrom(type)) {
+                return (X) value;
+            }
+
+            throw unknownUnwrap(type);
+        }
+
+        @Override
+        public <X> String wrap(final X value, final WrapperOptions options) {
+            if (value == null) {
+                return null;
+            }
+
+            if (value instanceof byte[] bytes) {
+                return fromBinary(bytes);
+            }
+
+            if (value instanceof String string) {
+                return string;
+            }
+
+            throw unknownWrap(value.getClass());
+        }
+    }
+}
@@ -4,18 +4,43 @@ package com.projetopraticobackend.servicocatalogo.infrastructure.category.persis
 
 import com.projetopraticobackend.servicocatalogo.domain.category.Category;
 import com.projetopraticobackend.servicocatalogo.domain.category.CategoryID;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Type;
+import org.hibernate.annotations.TypeDef;
+import org.springframework.data.domain.Persistable;
 
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Id;
+import javax.persistence.PostLoad;
+import javax.persistence.PostPersist;
 import javax.persistence.Table;
+import javax.persistence.Transient;
+import javax.persistence.Version;
 import java.time.Instant;
 
 @Entity //Essa anotação diz que essa entidade será utilizada para persistência.
 @Table(name = "category")
-public class CategoryJpaEntity {
+@TypeDef(name = CategoryIdType.NAME, typeClass = CategoryIdType.class)
+/* As categorias podem ser guardadas no cache de segundo nível do Hibernate, na região "category". Essas anotações apenas
+* têm efeito se o cache estiver habilitado ("category.cache.second-level.enabled"), veja o "SecondLevelCacheConfig".
+*
+* Com o "READ_WRITE", o Hibernate trava a entrada da categoria durante o "UPDATE" e o "DELETE" e apenas a atualiza após
+* o "commit", então nenhuma outra transação lê do cache uma categoria que ainda não foi confirmada no banco de dados. */
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CategoryJpaEntity.CACHE_REGION)
+/* O ID é gerado por nós, e não pelo banco de dados, então o Spring Data não consegue saber se a entidade é nova apenas
+* olhando para ele. Sem o "Persistable", o "save()" sempre faz o "merge()", que executa um "SELECT" pelo ID antes do
+* "INSERT". Com ele, a entidade criada pelo "newEntity()" é marcada como nova, e o "save()" faz o "persist()" diretamente. */
+public class CategoryJpaEntity implements Persistable<String> {
+
+    public static final String CACHE_REGION = "category";
 
     @Id //Esse atributo será utilizado como o identificador do ID.
+    @Type(type = CategoryIdType.NAME) //No banco de dados, o ID é guardado como os 16 bytes do UUID.
+    @Column(name = "id", nullable = false, columnDefinition = "BINARY(16)")
     private String id;
 
     @Column(name = "name", nullable = false)
@@ -36,6 +61,15 @@ public class CategoryJpaEntity {
     @Column(name = "deleted_at", columnDefinition = "DATETIME(6)")
     private Instant deletedAt;
 
+    /* Com o "@Version", o Hibernate soma 1 à versão em cada "UPDATE" e adiciona o "AND version = ?" ao "WHERE". Se
+    * nenhuma linha for alterada, outra transação alterou a categoria antes, e ele lança uma "OptimisticLockException". */
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    @Transient //Não é uma coluna. Apenas indica para o Spring Data se a entidade ainda não foi salva.
+    private boolean isNew;
+
     public CategoryJpaEntity() {}
 
     /* Receberemos um agregado e converteremos esse agregado para uma entidade JPA. */
@@ -47,7 +81,16 @@ public class CategoryJpaEntity {
                 category.isActive(),
                 category.getCreatedAt(),
                 category.getUpdatedAt(),
-                category.getDeletedAt());
+                category.getDeletedAt(),
+                category.getVersion());
+    }
+
+    /* É a mesma conversão do "from()", porém, para uma categoria que acabou de ser criada e ainda não existe no banco de
+    * dados. */
+    public static CategoryJpaEntity newEntity(final Category category){
+        final var categoryJpaEntity = from(category);
+        categoryJpaEntity.isNew = true;
+        return categoryJpaEntity;
     }
 
     /* Esse é o caminho inverso. Ele serve para convertermos uma entidade em um agregado. */
@@ -59,7 +102,8 @@ public class CategoryJpaEntity {
                 categoryJpaEntity.isActive(),
                 categoryJpaEntity.getCreatedAt(),
                 categoryJpaEntity.getUpdatedAt(),
-                categoryJpaEntity.getDeletedAt());
+                categoryJpaEntity.getDeletedAt(),
+                categoryJpaEntity.getVersion());
     }
 
     private CategoryJpaEntity(final String id,
@@ -68,7 +112,8 @@ public class CategoryJpaEntity {
                               final boolean active,
                               final Instant createdAt,
                               final Instant updatedAt,
-                              final Instant deletedAt) {
+                              final Instant deletedAt,
+                              final long version) {
         this.id = id;
         this.name = name;
         this.description = description;
@@ -76,12 +121,26 @@ public class CategoryJpaEntity {
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
         this.deletedAt = deletedAt;
+        this.version = version;
     }
 
+    @Override
     public String getId() {
         return id;
     }
 
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    //Depois de ser salva, ou quando é lida do banco de dados, a entidade deixa de ser nova.
+    @PostPersist
+    @PostLoad
+    void markNotNew() {
+        this.isNew = false;
+    }
+
     public void setId(String id) {
         this.id = id;
     }
@@ -133,4 +192,12 @@ public class CategoryJpaEntity {
     public void setDeletedAt(Instant deletedAt) {
         this.deletedAt = deletedAt;
     }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
 }
\ No newline at end of file
@@ -1,12 +1,8 @@
 package com.projetopraticobackend.servicocatalogo.infrastructure.category.persistence;
 
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface CategoryRepository extends JpaRepository<CategoryJpaEntity, String> {
-
-    Page<CategoryJpaEntity> findAll(Specification<CategoryJpaEntity> whereClause, //O "Specification" é a parte do "where" da query.
-                                    Pageable pageable); //O "pageable" é a parte da paginação da query.
+/* As buscas com "Specification", como o "findAll(Specification, Pageable)" e o "count(Specification)", estão no
+* "CategoryWindowRepository". */
+public interface CategoryRepository extends JpaRepository<CategoryJpaEntity, String>, CategoryWindowRepository, CategoryBulkRepository {
 }
\ No newline at end of file
@@ -0,0 +1,40 @@
+package com.projetopraticobackend.servicocatalogo.infrastructure.category.persistence;
+
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryPreview;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/* Esse é um "fragmento" do "CategoryRepository". O "findAll(Specification, Pageable)" do Spring Data sempre retorna
+* um "Page", e, para montar esse "Page", ele executa um segundo "SELECT COUNT(*)". Aqui, buscamos apenas uma "janela"
+* de registros (LIMIT/OFFSET), sem a contagem. A implementação está no "CategoryWindowRepositoryImpl", e o Spring
+* a encontra automaticamente pelo sufixo "Impl".
+*
+* Todas as buscas desse fragmento podem ser guardadas no cache de segundo nível do Hibernate, na região abaixo. Com o
+* cache desabilitado ("category.cache.second-level.enabled"), o Hibernate ignora essa configuração. */
+public interface CategoryWindowRepository {
+
+    String QUERY_CACHE_REGION = "category-queries";
+
+    /* É o mesmo "findAll()" do Spring Data ("JpaSpecificationExecutor"), com o "SELECT COUNT(*)" apenas quando
+    * necessário. O do Spring Data não permite guardar esse "COUNT(*)" no cache, por isso ele é implementado aqui. */
+    Page<CategoryJpaEntity> findAll(Specification<CategoryJpaEntity> whereClause, //O "Specification" é a parte do "where" da query.
+                                    Pageable pageable); //O "pageable" é a parte da paginação da query.
+
+    long count(Specification<CategoryJpaEntity> whereClause); //É o "SELECT COUNT(*)" com o mesmo "where" da busca.
+
+    List<CategoryJpaEntity> findWindow(Specification<CategoryJpaEntity> whereClause, //O "Specification" é a parte do "where" da query.
+                                       Sort sort, //É a ordenação da query.
+                                       long offset, //Quantos registros serão pulados.
+                                       int limit); //Quantos registros, no máximo, serão retornados.
+
+    /* É a mesma janela do "findWindow()", porém, cada linha do resultado é convertida diretamente em um "CategoryPreview"
+    * ("SELECT new ..."). Nenhuma entidade é carregada, então o Hibernate não guarda cópias para o "dirty checking". */
+    List<CategoryPreview> findPreviewWindow(Specification<CategoryJpaEntity> whereClause,
+                                            Sort sort,
+                                            long offset,
+                                            int limit);
+}
@@ -0,0 +1,127 @@
+package com.projetopraticobackend.servicocatalogo.infrastructure.category.persistence;
+
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryPreview;
+import org.hibernate.jpa.QueryHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.TypedQuery;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
+import java.util.List;
+import java.util.function.BiFunction;
+
+/* Estamos montando a query com a "Criteria API" do JPA, da mesma forma que o Spring Data faz internamente, porém,
+* sem a query de contagem. Apenas o "findAll()" e o "count()" executam o "SELECT COUNT(*)".
+*
+* Assim como no "SimpleJpaRepository" do Spring Data, as buscas são feitas em uma transação apenas de leitura. */
+@Transactional(readOnly = true)
+public class CategoryWindowRepositoryImpl implements CategoryWindowRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    //Assim como no Spring Data, se a página veio incompleta, o total já é conhecido, e o "COUNT(*)" não é executado.
+    @Override
+    public Page<CategoryJpaEntity> findAll(final Specification<CategoryJpaEntity> whereClause, final Pageable pageable) {
+        final var content = findWindow(whereClause, pageable.getSort(), pageable.getOffset(), pageable.getPageSize());
+
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(whereClause));
+    }
+
+    @Override
+    public long count(final Specification<CategoryJpaEntity> whereClause) {
+        final var criteriaBuilder = this.entityManager.getCriteriaBuilder();
+        final var query = criteriaBuilder.createQuery(Long.class);
+        final var root = query.from(CategoryJpaEntity.class);
+
+        where(query, root, criteriaBuilder, whereClause);
+
+        query.select(query.isDistinct() ? criteriaBuilder.countDistinct(root) : criteriaBuilder.count(root));
+        query.orderBy(List.of()); //O "Specification" da relevância adiciona o "ORDER BY", que não faz sentido na contagem.
+
+        return cacheable(this.entityManager.createQuery(query)).getSingleResult();
+    }
+
+    @Override
+    public List<CategoryJpaEntity> findWindow(final Specification<CategoryJpaEntity> whereClause,
+                                              final Sort sort,
+                                              final long offset,
+                                              final int limit) {
+
+        return window(CategoryJpaEntity.class, (root, criteriaBuilder) -> root, whereClause, sort, offset, limit);
+    }
+
+    @Override
+    public List<CategoryPreview> findPreviewWindow(final Specification<CategoryJpaEntity> whereClause,
+                                                   final Sort sort,
+                                                   final long offset,
+                                                   final int limit) {
+
+        //Os argumentos devem estar na mesma ordem do construtor do "CategoryPreview" que recebe o ID como "String".
+        return window(CategoryPreview.class, (root, criteriaBuilder) -> criteriaBuilder.construct(CategoryPreview.class,
+                root.get("id"),
+                root.get("name"),
+                root.get("description"),
+                root.get("active"),
+                root.get("createdAt"),
+                root.get("updatedAt"),
+                root.get("deletedAt"),
+                root.get("version")), whereClause, sort, offset, limit);
+    }
+
+    private <R> List<R> window(final Class<R> resultClass,
+                               final BiFunction<Root<CategoryJpaEntity>, CriteriaBuilder, Selection<? extends R>> selection, //É o que será retornado em cada linha.
+                               final Specification<CategoryJpaEntity> whereClause,
+                               final Sort sort,
+                               final long offset,
+                               final int limit) {
+
+        final var criteriaBuilder = this.entityManager.getCriteriaBuilder();
+        final var query = criteriaBuilder.createQuery(resultClass);
+        final var root = query.from(CategoryJpaEntity.class);
+
+        query.select(selection.apply(root, criteriaBuilder));
+
+        where(query, root, criteriaBuilder, whereClause);
+
+        if (sort.isSorted()) { //Se não houver ordenação, mantemos a que foi definida pelo "Specification", como a ordenação por relevância.
+            query.orderBy(QueryUtils.toOrders(sort, root, criteriaBuilder));
+        }
+
+        return cacheable(this.entityManager.createQuery(query))
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    private static void where(final CriteriaQuery<?> query,
+                              final Root<CategoryJpaEntity> root,
+                              final CriteriaBuilder criteriaBuilder,
+                              final Specification<CategoryJpaEntity> whereClause) {
+
+        if (whereClause != null) {
+            final var predicate = whereClause.toPredicate(root, query, criteriaBuilder);
+
+            if (predicate != null) { //O "Specification.where(null)" não gera nenhum predicado.
+                query.where(predicate);
+            }
+        }
+    }
+
+    //O "offset" e o "limit" fazem parte da chave do cache, então cada janela é guardada separadamente.
+    private static <R> TypedQuery<R> cacheable(final TypedQuery<R> query) {
+        return query
+                .setHint(QueryHints.HINT_CACHEABLE, true)
+                .setHint(QueryHints.HINT_CACHE_REGION, QUERY_CACHE_REGION);
+    }
+}
@@ -1,6 +1,7 @@
 package com.projetopraticobackend.servicocatalogo.infrastructure.category.presenters;
 
 import com.projetopraticobackend.servicocatalogo.application.category.retrieve.get.CategoryOutput;
+import com.projetopraticobackend.servicocatalogo.application.category.retrieve.list.CategoryListOutput;
 import com.projetopraticobackend.servicocatalogo.infrastructure.category.models.CategoryApiOutput;
 
 import java.util.function.Function;
@@ -23,7 +24,8 @@ public interface CategoryApiPresenter {
                 output.isActive(),
                 output.createdAt(),
                 output.updatedAt(),
-                output.deletedAt()
+                output.deletedAt(),
+                output.version()
         );
 
     static CategoryApiOutput present(final CategoryOutput categoryOutput){
@@ -34,7 +36,21 @@ public interface CategoryApiPresenter {
                 categoryOutput.isActive(),
                 categoryOutput.createdAt(),
                 categoryOutput.updatedAt(),
-                categoryOutput.deletedAt()
+                categoryOutput.deletedAt(),
+                categoryOutput.version()
+        );
+    }
+
+    static CategoryApiOutput present(final CategoryListOutput categoryListOutput){
+        return new CategoryApiOutput(
+                categoryListOutput.id().getValue(),
+                categoryListOutput.name(),
+                categoryListOutput.description(),
+                categoryListOutput.isActive(),
+                categoryListOutput.createdAt(),
+                categoryListOutput.updatedAt(),
+                categoryListOutput.deletedAt(),
+                categoryListOutput.version()
         );
     }
 }
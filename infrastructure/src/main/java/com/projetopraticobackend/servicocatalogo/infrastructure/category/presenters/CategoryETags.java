@@ -0,0 +1,89 @@
+package com.projetopraticobackend.servicocatalogo.infrastructure.category.presenters;
+
+import com.projetopraticobackend.servicocatalogo.domain.pagination.CursorPagination;
+import com.projetopraticobackend.servicocatalogo.domain.pagination.Pagination;
+import com.projetopraticobackend.servicocatalogo.domain.pagination.SlicePagination;
+import com.projetopraticobackend.servicocatalogo.infrastructure.category.models.CategoryApiOutput;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/* Aqui montamos os "ETags" das respostas de "Category". Eles são calculados apenas a partir do ID e da versão, já que
+ * toda alteração de uma categoria soma 1 à versão. Assim, não precisamos serializar a resposta para sabermos se ela
+ * mudou.
+ *
+ * O mesmo "ETag" é enviado no "If-Match" do "PUT", e a versão que está nele é a versão que o cliente espera alterar.
+ *
+ * Esses valores não têm as aspas. O "ResponseEntity.eTag()" as adiciona, gerando um "ETag" forte. */
+public interface CategoryETags {
+
+    static String of(final CategoryApiOutput category) {
+        return of(category.id(), category.version());
+    }
+
+    static String of(final String id, final long version) {
+        return id + "-" + version;
+    }
+
+    /* Devolve as versões que estão no "If-Match" da categoria, ou "null" se ele não foi enviado ou tiver o "*", que aceita
+    * qualquer versão.
+    *
+    * O "If-Match" pode ter uma lista de "ETags" separados por vírgula (RFC 7232, seção 3.1), e a atualização é aceita se
+    * qualquer um deles for o atual. Os "ETags" fracos ("W/") são comparados apenas pelo valor. Os "ETags" que não são
+    * dessa categoria são ignorados, e, se nenhum for, o conjunto fica vazio e a atualização falhará com um conflito. */
+    static Set<Long> expectedVersions(final String id, final String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank()) {
+            return null;
+        }
+
+        final var prefix = id + "-";
+        final var versions = new HashSet<Long>();
+
+        for (final var tag : ifMatch.split(",")) {
+            final var eTag = tag.trim().replaceFirst("^W/", "").replace("\"", "");
+
+            if ("*".equals(eTag)) {
+                return null;
+            }
+
+            if (eTag.startsWith(prefix)) {
+                try {
+                    versions.add(Long.parseLong(eTag.substring(prefix.length())));
+                } catch (final NumberFormatException ex) {
+                    //Não é um "ETag" gerado por nós, então ele nunca será o atual.
+                }
+            }
+        }
+
+        return versions;
+    }
+
+    /* O "ETag" de uma página também depende dos dados da paginação, pois o mesmo conteúdo com outro total, por exemplo,
+    * é uma outra resposta. */
+    static String of(final Pagination<CategoryApiOutput> pagination) {
+        return digest("page:%d:%d:%d".formatted(pagination.currentPage(), pagination.perPage(), pagination.totalElements()), pagination.elements());
+    }
+
+    static String of(final SlicePagination<CategoryApiOutput> slice) {
+        return digest("slice:%d:%d:%b".formatted(slice.currentPage(), slice.perPage(), slice.hasNext()), slice.elements());
+    }
+
+    static String of(final CursorPagination<CategoryApiOutput> cursor) {
+        return digest("cursor:%d:%s".formatted(cursor.perPage(), cursor.next()), cursor.elements());
+    }
+
+    /* Ao invés de um "ETag" com todos os IDs da página, utilizamos o MD5 deles, que tem sempre o mesmo tamanho. Ele não
+    * é utilizado para segurança, apenas para identificar o conteúdo. */
+    private static String digest(final String header, final List<CategoryApiOutput> elements) {
+        final var content = new StringBuilder(header);
+
+        for (final var category : elements) {
+            content.append('\n').append(of(category));
+        }
+
+        return DigestUtils.md5DigestAsHex(content.toString().getBytes(StandardCharsets.UTF_8));
+    }
+}
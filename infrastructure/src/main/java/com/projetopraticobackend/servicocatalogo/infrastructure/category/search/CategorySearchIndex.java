@@ -0,0 +1,345 @@
+package com.projetopraticobackend.servicocatalogo.infrastructure.category.search;
+
+import com.projetopraticobackend.servicocatalogo.domain.category.Category;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryID;
+import com.projetopraticobackend.servicocatalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.projetopraticobackend.servicocatalogo.infrastructure.category.persistence.CategoryRepository;
+import com.projetopraticobackend.servicocatalogo.infrastructure.utils.SpecificationUtils;
+import org.apache.lucene.analysis.Analyzer;
+import org.apache.lucene.analysis.LowerCaseFilter;
+import org.apache.lucene.analysis.TokenStream;
+import org.apache.lucene.analysis.Tokenizer;
+import org.apache.lucene.analysis.miscellaneous.ASCIIFoldingFilter;
+import org.apache.lucene.analysis.standard.StandardTokenizer;
+import org.apache.lucene.analysis.tokenattributes.CharTermAttribute;
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.Field;
+import org.apache.lucene.document.NumericDocValuesField;
+import org.apache.lucene.document.SortedDocValuesField;
+import org.apache.lucene.document.StringField;
+import org.apache.lucene.document.TextField;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.Term;
+import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.FuzzyQuery;
+import org.apache.lucene.search.PrefixQuery;
+import org.apache.lucene.search.Query;
+import org.apache.lucene.search.SearcherManager;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.store.ByteBuffersDirectory;
+import org.apache.lucene.store.Directory;
+import org.apache.lucene.util.BytesRef;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/* Esse é o índice de busca das categorias, feito com o Lucene e mantido em memória, dentro da própria aplicação.
+ *
+ * Ele existe para que a busca por termos não precise ir até o MySQL. O índice é reconstruído a partir da tabela
+ * "category" sempre que a aplicação sobe e, depois disso, é mantido atualizado pelo "CategoryMySQLGateway" a cada
+ * "create", "update" e "deleteById".
+ *
+ * As escritas feitas por outras instâncias apenas chegam a esse índice pelo "CategoryInvalidationPoller". Sem ele, a
+ * busca de cada instância se afastaria da tabela, sem nenhum erro, até a instância ser reiniciada. Por isso, a aplicação
+ * não sobe com o Lucene habilitado e a invalidação desabilitada.
+ *
+ * A busca retorna apenas os IDs, já ordenados, e o gateway busca as categorias no banco de dados com um único "IN". */
+@Component
+@ConditionalOnProperty(prefix = "category.search.lucene", name = "enabled", havingValue = "true")
+public class CategorySearchIndex {
+
+    private static final String ID = "id";
+    private static final String NAME = "name";
+    private static final String DESCRIPTION = "description";
+    private static final String NAME_SORT = "name_sort";
+    private static final String DESCRIPTION_SORT = "description_sort";
+    private static final String ACTIVE = "active";
+    private static final String CREATED_AT = "createdAt";
+    private static final String UPDATED_AT = "updatedAt";
+
+    private static final int REBUILD_BATCH_SIZE = 500;
+
+    private final CategoryRepository categoryRepository;
+    private final Directory directory;
+    private final Analyzer analyzer;
+    private final IndexWriter indexWriter;
+    private final SearcherManager searcherManager; //É ele quem nos entrega um "IndexSearcher" que já enxerga as últimas escritas, sem precisarmos de um "commit".
+
+    public CategorySearchIndex(final CategoryRepository categoryRepository,
+                               @Value("${category.cache.invalidation.enabled:false}") final boolean invalidationEnabled) throws IOException {
+        if (!invalidationEnabled) {
+            throw new IllegalStateException("The Lucene search index (category.search.lucene.enabled) requires category.cache.invalidation.enabled=true, otherwise it misses the writes made by other instances");
+        }
+
+        this.categoryRepository = categoryRepository;
+        this.directory = new ByteBuffersDirectory(); //Como o índice é reconstruído ao subir a aplicação, não precisamos persisti-lo em disco.
+        this.analyzer = new CategoryAnalyzer();
+        this.indexWriter = new IndexWriter(this.directory, new IndexWriterConfig(this.analyzer));
+        this.searcherManager = new SearcherManager(this.indexWriter, null);
+    }
+
+    /* Esse é o resultado da busca: o total de categorias encontradas e os IDs da página solicitada, na ordem da busca. */
+    public record Hits(long total, List<String> ids) {
+    }
+
+    @PostConstruct
+    public void rebuild() {
+        try {
+            this.indexWriter.deleteAll();
+
+            //Lemos a tabela em lotes, ordenados pelo ID, e cada lote começa logo após o último ID do lote anterior (paginação por "seek").
+            String lastId = null;
+            List<CategoryJpaEntity> batch;
+
+            do {
+                batch = this.categoryRepository.findWindow(
+                        lastId == null ? null : SpecificationUtils.after(ID, lastId, ID, lastId, true),
+                        org.springframework.data.domain.Sort.by(ID),
+                        0,
+                        REBUILD_BATCH_SIZE);
+
+                for (final var category : batch) {
+                    this.indexWriter.addDocument(toDocument(CategoryJpaEntity.toAggregate(category)));
+                }
+
+                lastId = batch.isEmpty() ? lastId : batch.get(batch.size() - 1).getId();
+            } while (batch.size() == REBUILD_BATCH_SIZE);
+
+            this.searcherManager.maybeRefreshBlocking();
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public void index(final Category category) {
+        try {
+            //O "updateDocument" remove o documento anterior com o mesmo ID e adiciona o novo, ou seja, serve tanto para o "create" quanto para o "update".
+            this.indexWriter.updateDocument(new Term(ID, category.getId().getValue()), toDocument(category));
+            this.searcherManager.maybeRefreshBlocking();
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /* Na criação em lote, atualizamos o "IndexSearcher" apenas uma vez, após todas as categorias serem indexadas. */
+    public void indexAll(final List<Category> categories) {
+        try {
+            for (final var category : categories) {
+                this.indexWriter.updateDocument(new Term(ID, category.getId().getValue()), toDocument(category));
+            }
+
+            this.searcherManager.maybeRefreshBlocking();
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    public void delete(final CategoryID id) {
+        try {
+            this.indexWriter.deleteDocuments(new Term(ID, id.getValue()));
+            this.searcherManager.maybeRefreshBlocking();
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /* Assim como no "indexAll()", atualizamos o "IndexSearcher" apenas uma vez, após todas as categorias serem removidas. */
+    public void deleteAll(final List<CategoryID> ids) {
+        try {
+            for (final var id : ids) {
+                this.indexWriter.deleteDocuments(new Term(ID, id.getValue()));
+            }
+
+            this.searcherManager.maybeRefreshBlocking();
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    /* Busca as categorias pelos termos, retornando a janela [offset, offset + limit) dos IDs encontrados. */
+    public Hits search(final String terms,
+                       final String sort,
+                       final String direction,
+                       final long offset,
+                       final int limit) {
+
+        final var query = toQuery(terms);
+
+        if (query == null) { //Se nenhum termo sobrou após a análise (ex: apenas pontuação), nenhuma categoria é encontrada.
+            return new Hits(0, List.of());
+        }
+
+        try {
+            final var searcher = this.searcherManager.acquire();
+
+            try {
+                final var total = searcher.count(query);
+                final var windowEnd = Math.toIntExact(Math.min(offset + limit, total));
+
+                if (offset >= windowEnd) {
+                    return new Hits(total, List.of());
+                }
+
+                final var topDocs = searcher.search(query, windowEnd, toSort(sort, direction));
+
+                final var ids = new ArrayList<String>(windowEnd - (int) offset);
+
+                for (int i = (int) offset; i < topDocs.scoreDocs.length; i++) {
+                    ids.add(searcher.doc(topDocs.scoreDocs[i].doc).get(ID));
+                }
+
+                return new Hits(total, ids);
+            } finally {
+                this.searcherManager.release(searcher);
+            }
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        this.searcherManager.close();
+        this.indexWriter.close();
+        this.directory.close();
+    }
+
+    /* Para cada termo, buscamos pelo termo exato, pelo prefixo e por termos parecidos (com erros de digitação). O termo
+     * exato vale mais do que o prefixo, que vale mais do que o termo parecido, e o nome vale mais do que a descrição. Os
+     * termos são combinados com "OR", e as categorias que encontram mais termos ficam mais bem ranqueadas. */
+    private Query toQuery(final String terms) {
+        final var tokens = analyze(terms);
+
+        if (tokens.isEmpty()) {
+            return null;
+        }
+
+        final var query = new BooleanQuery.Builder();
+
+        for (final var token : tokens) {
+            final var tokenQuery = new BooleanQuery.Builder();
+
+            addTokenQueries(tokenQuery, NAME, token, 2f);
+            addTokenQueries(tokenQuery, DESCRIPTION, token, 1f);
+
+            query.add(tokenQuery.build(), BooleanClause.Occur.SHOULD);
+        }
+
+        return query.build();
+    }
+
+    private static void addTokenQueries(final BooleanQuery.Builder builder,
+                                        final String field,
+                                        final String token,
+                                        final float fieldBoost) {
+
+        final var term = new Term(field, token);
+
+        builder.add(new BoostQuery(new TermQuery(term), 4f * fieldBoost), BooleanClause.Occur.SHOULD);
+        builder.add(new BoostQuery(new PrefixQuery(term), 2f * fieldBoost), BooleanClause.Occur.SHOULD);
+
+        //Termos curtos com erros de digitação encontrariam muitas categorias sem relação, então a tolerância aumenta com o tamanho do termo.
+        final var maxEdits = token.length() >= 6 ? 2 : token.length() >= 4 ? 1 : 0;
+
+        if (maxEdits > 0) {
+            //O "prefixLength" igual a "1" considera que a primeira letra está correta, o que deixa a busca bem mais rápida.
+            builder.add(new BoostQuery(new FuzzyQuery(term, maxEdits, 1), fieldBoost), BooleanClause.Occur.SHOULD);
+        }
+    }
+
+    /* A ordenação "relevance" usa a pontuação do Lucene. As demais usam os mesmos atributos da listagem pelo banco de
+     * dados. O ID é sempre o desempate, para que as páginas tenham sempre a mesma ordem. */
+    private static Sort toSort(final String sort, final String direction) {
+        final var reverse = "desc".equalsIgnoreCase(direction);
+        final var byId = new SortField(ID, SortField.Type.STRING, reverse);
+
+        return switch (sort == null ? "relevance" : sort) {
+            case NAME -> new Sort(new SortField(NAME_SORT, SortField.Type.STRING, reverse), byId);
+            case DESCRIPTION -> {
+                final var byDescription = new SortField(DESCRIPTION_SORT, SortField.Type.STRING, reverse);
+                byDescription.setMissingValue(SortField.STRING_FIRST); //Assim como no MySQL, as descrições nulas ficam no início da ordem ascendente.
+                yield new Sort(byDescription, byId);
+            }
+            case ACTIVE, CREATED_AT, UPDATED_AT -> new Sort(new SortField(sort, SortField.Type.LONG, reverse), byId);
+            case ID -> new Sort(byId);
+            default -> new Sort(SortField.FIELD_SCORE, new SortField(ID, SortField.Type.STRING)); //Na relevância, a mais relevante sempre vem primeiro.
+        };
+    }
+
+    private Document toDocument(final Category category) {
+        final var document = new Document();
+        final var id = category.getId().getValue();
+
+        document.add(new StringField(ID, id, Field.Store.YES));
+        document.add(new SortedDocValuesField(ID, new BytesRef(id)));
+
+        document.add(new TextField(NAME, category.getName(), Field.Store.NO));
+        document.add(new SortedDocValuesField(NAME_SORT, this.analyzer.normalize(NAME, category.getName())));
+
+        if (category.getDescription() != null) {
+            document.add(new TextField(DESCRIPTION, category.getDescription(), Field.Store.NO));
+            document.add(new SortedDocValuesField(DESCRIPTION_SORT, this.analyzer.normalize(DESCRIPTION, category.getDescription())));
+        }
+
+        document.add(new NumericDocValuesField(ACTIVE, category.isActive() ? 1 : 0));
+        document.add(new NumericDocValuesField(CREATED_AT, toMicros(category.getCreatedAt())));
+        document.add(new NumericDocValuesField(UPDATED_AT, toMicros(category.getUpdatedAt())));
+
+        return document;
+    }
+
+    private List<String> analyze(final String text) {
+        final var tokens = new ArrayList<String>();
+
+        try (TokenStream tokenStream = this.analyzer.tokenStream(NAME, text)) {
+            final var term = tokenStream.addAttribute(CharTermAttribute.class);
+
+            tokenStream.reset();
+
+            while (tokenStream.incrementToken()) {
+                tokens.add(term.toString());
+            }
+
+            tokenStream.end();
+        } catch (final IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+        return tokens;
+    }
+
+    private static long toMicros(final Instant instant) {
+        return ChronoUnit.MICROS.between(Instant.EPOCH, instant);
+    }
+
+    /* Esse é o "analyzer" usado tanto na indexação quanto na busca. Ele separa as palavras, deixa tudo em minúsculo e
+     * remove os acentos, assim, "Documentários" e "documentarios" são encontrados da mesma forma. */
+    private static final class CategoryAnalyzer extends Analyzer {
+
+        @Override
+        protected TokenStreamComponents createComponents(final String fieldName) {
+            final Tokenizer tokenizer = new StandardTokenizer();
+            final TokenStream tokenStream = new ASCIIFoldingFilter(new LowerCaseFilter(tokenizer));
+            return new TokenStreamComponents(tokenizer, tokenStream);
+        }
+
+        @Override
+        protected TokenStream normalize(final String fieldName, final TokenStream in) {
+            return new ASCIIFoldingFilter(new LowerCaseFilter(in));
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.projetopraticobackend.servicocatalogo.infrastructure.configuration;
+
+import org.hibernate.boot.MetadataBuilder;
+import org.hibernate.boot.spi.MetadataBuilderContributor;
+import org.hibernate.dialect.function.SQLFunctionTemplate;
+import org.hibernate.type.StandardBasicTypes;
+
+/* O JPA não conhece o "MATCH ... AGAINST" do MySQL. Aqui, registramos essa função no Hibernate para que ela possa ser
+* usada pela "Criteria API" através do "criteriaBuilder.function("match_against", ...)".
+*
+* Essa classe é informada ao Hibernate pela propriedade "hibernate.metadata_builder_contributor", no "application.yml". */
+public class MySQLFunctionsContributor implements MetadataBuilderContributor {
+
+    public static final String MATCH_AGAINST = "match_against";
+
+    @Override
+    public void contribute(final MetadataBuilder metadataBuilder) {
+        //Os dois primeiros parâmetros são as colunas do índice "FULLTEXT", e o terceiro é a busca no "BOOLEAN MODE". O retorno é a relevância.
+        metadataBuilder.applySqlFunction(MATCH_AGAINST,
+                new SQLFunctionTemplate(StandardBasicTypes.DOUBLE, "MATCH(?1, ?2) AGAINST (?3 IN BOOLEAN MODE)"));
+    }
+}
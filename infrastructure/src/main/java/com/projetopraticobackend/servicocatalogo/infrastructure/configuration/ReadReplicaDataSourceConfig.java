@@ -0,0 +1,62 @@
+package com.projetopraticobackend.servicocatalogo.infrastructure.configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/* Sem essa configuração, todas as consultas e escritas utilizam o mesmo "pool" ("master"), e a listagem e a busca das
+* categorias disputam as conexões e o banco de dados com as escritas.
+*
+* Com ela habilitada, temos dois "pools" do Hikari: o "master", com as mesmas configurações de antes ("spring.datasource"),
+* e o da réplica de leitura ("spring.datasource.replica"). A busca e a listagem das categorias apenas executam transações
+* de leitura (o "findById()" e o "findAll()" do Spring Data e as janelas do "CategoryWindowRepository"), então elas vão
+* para a réplica. A criação, a atualização e a exclusão, incluindo as buscas feitas dentro delas, ficam no principal.
+*
+* Os dois "pools" são "beans", então o Spring Boot registra as métricas de cada um deles separadamente, como o
+* "hikaricp_connections_active{pool="replica"}". O "DataSource" utilizado pelo JPA e pelo Flyway é o "@Primary". */
+@Configuration
+@ConditionalOnProperty(name = "spring.datasource.replica.enabled", havingValue = "true")
+public class ReadReplicaDataSourceConfig {
+
+    //É o mesmo "pool" que o Spring Boot criaria sem essa configuração.
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(final DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    //O "pool" apenas é iniciado na primeira leitura, então a aplicação sobe mesmo que a réplica esteja fora do ar.
+    @Bean
+    @ConfigurationProperties("spring.datasource.replica")
+    public HikariDataSource replicaDataSource() {
+        return new HikariDataSource();
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") final HikariDataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") final HikariDataSource replicaDataSource,
+                                 @Value("${spring.datasource.replica.retry-interval:5s}") final Duration retryInterval,
+                                 final MeterRegistry meterRegistry) {
+
+        final var fallbacks = Counter.builder("datasource.replica.fallbacks")
+                .description("Reads sent to the primary because the read replica was unavailable")
+                .register(meterRegistry);
+
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primaryDataSource, replicaDataSource, retryInterval, fallbacks));
+    }
+}
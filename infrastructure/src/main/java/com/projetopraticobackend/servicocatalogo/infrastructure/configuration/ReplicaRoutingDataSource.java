@@ -0,0 +1,81 @@
+package com.projetopraticobackend.servicocatalogo.infrastructure.configuration;
+
+import io.micrometer.core.instrument.Counter;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Objects;
+
+/* Esse "DataSource" escolhe, a cada conexão, entre o banco de dados principal e a réplica de leitura. As transações
+* apenas de leitura ("@Transactional(readOnly = true)") vão para a réplica, e todas as outras, para o principal.
+*
+* O Spring apenas marca a transação como "readOnly" depois de pedir a conexão, então esse "DataSource" deve ser
+* utilizado dentro do "LazyConnectionDataSourceProxy", que só pede a conexão no primeiro comando SQL.
+*
+* Se a réplica não entregar uma conexão, a leitura é feita no principal. Durante o "retryInterval", as próximas leituras
+* também vão direto para o principal, para que cada requisição não espere o "connection-timeout" da réplica. */
+public class ReplicaRoutingDataSource extends AbstractDataSource {
+
+    private final DataSource primary;
+
+    private final DataSource replica;
+
+    private final Duration retryInterval;
+
+    private final Counter fallbacks; //Quantas vezes a réplica não estava disponível e a leitura foi feita no principal.
+
+    private volatile long replicaRetryAt; //É o "System.nanoTime()" a partir do qual a réplica será utilizada novamente.
+
+    public ReplicaRoutingDataSource(final DataSource primary,
+                                    final DataSource replica,
+                                    final Duration retryInterval,
+                                    final Counter fallbacks) {
+        this.primary = Objects.requireNonNull(primary);
+        this.replica = Objects.requireNonNull(replica);
+        this.retryInterval = Objects.requireNonNull(retryInterval);
+        this.fallbacks = Objects.requireNonNull(fallbacks);
+        this.replicaRetryAt = System.nanoTime();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!usesReplica()) {
+            return this.primary.getConnection();
+        }
+
+        try {
+            return this.replica.getConnection();
+        } catch (final SQLException ex) {
+            return fallback().getConnection();
+        }
+    }
+
+    @Override
+    public Connection getConnection(final String username, final String password) throws SQLException {
+        if (!usesReplica()) {
+            return this.primary.getConnection(username, password);
+        }
+
+        try {
+            return this.replica.getConnection(username, password);
+        } catch (final SQLException ex) {
+            return fallback().getConnection(username, password);
+        }
+    }
+
+    private boolean usesReplica() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && System.nanoTime() - this.replicaRetryAt >= 0;
+    }
+
+    private DataSource fallback() {
+        this.replicaRetryAt = System.nanoTime() + this.retryInterval.toNanos();
+        this.fallbacks.increment();
+
+        return this.primary;
+    }
+}
@@ -0,0 +1,92 @@
+package com.projetopraticobackend.servicocatalogo.infrastructure.configuration;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.projetopraticobackend.servicocatalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.projetopraticobackend.servicocatalogo.infrastructure.category.persistence.CategoryWindowRepository;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+
+/* Sem essa configuração, toda busca de uma categoria pelo ID, incluindo o "SELECT" que o "merge()" faz antes do "UPDATE",
+* vai para o banco de dados.
+*
+* Com ela habilitada, o Hibernate passa a utilizar o cache de segundo nível, que é compartilhado por todas as sessões,
+* através do JCache, com o Caffeine como implementação, em memória. Temos as seguintes regiões:
+* - "category": as categorias pelo ID ("CategoryJpaEntity").
+* - "category-queries": os resultados das buscas com "Specification" (a página, o "COUNT(*)" e as janelas), ou seja,
+*   os IDs das categorias encontradas, ou as colunas, no caso das janelas do "CategoryPreview". As categorias em si são
+*   lidas da região "category".
+* - "default-update-timestamps-region": o horário da última escrita em cada tabela. Um resultado guardado antes de uma
+*   escrita na tabela "category" é descartado. Essa região não pode expirar, senão uma busca desatualizada seria
+*   considerada válida.
+* - "default-query-results-region": é criada pelo Hibernate, mas nenhuma busca da aplicação a utiliza.
+*
+* As escritas feitas pelo "CategoryMySQLGateway" mantêm o cache correto: o "persist()" e o "merge()" atualizam a
+* categoria no cache após o "commit", e invalidam as buscas da tabela. Um "UPDATE" ou "DELETE" em JPQL esvaziaria a região
+* "category" inteira, então, com esse cache, o "CategoryBulkRepository" faz essas escritas pela entidade gerenciada, e
+* apenas a entrada da categoria alterada ou excluída é atualizada. As escritas feitas por outras instâncias
+* não passam por esse cache, então os TTLs são o tempo máximo que um dado desatualizado pode ser devolvido, a menos que o
+* "CategoryInvalidationPoller" esteja habilitado.
+*
+* As estatísticas ("hibernate.generate_statistics") são publicadas pelo "hibernate-micrometer", como o
+* "hibernate_second_level_cache_requests_total{region="category",result="hit"}". */
+@Configuration
+@ConditionalOnProperty(name = "category.cache.second-level.enabled", havingValue = "true")
+public class SecondLevelCacheConfig {
+
+    private static final String UPDATE_TIMESTAMPS_REGION = RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME;
+
+    private static final String QUERY_RESULTS_REGION = RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME;
+
+    @Bean
+    public HibernatePropertiesCustomizer secondLevelCacheCustomizer(@Value("${category.cache.second-level.entities.max-size:10000}") final long entitiesMaxSize,
+                                                                    @Value("${category.cache.second-level.entities.ttl:10m}") final Duration entitiesTtl,
+                                                                    @Value("${category.cache.second-level.queries.max-size:1000}") final long queriesMaxSize,
+                                                                    @Value("${category.cache.second-level.queries.ttl:30s}") final Duration queriesTtl) {
+        return properties -> {
+            final var cacheManager = newCacheManager();
+
+            cacheManager.createCache(CategoryJpaEntity.CACHE_REGION, region(OptionalLong.of(entitiesMaxSize), OptionalLong.of(entitiesTtl.toNanos())));
+            cacheManager.createCache(CategoryWindowRepository.QUERY_CACHE_REGION, region(OptionalLong.of(queriesMaxSize), OptionalLong.of(queriesTtl.toNanos())));
+            cacheManager.createCache(QUERY_RESULTS_REGION, region(OptionalLong.of(queriesMaxSize), OptionalLong.of(queriesTtl.toNanos())));
+            cacheManager.createCache(UPDATE_TIMESTAMPS_REGION, region(OptionalLong.empty(), OptionalLong.empty())); //Tem apenas uma entrada por tabela.
+
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, JCacheRegionFactory.class.getName());
+            properties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail"); //Uma região que não foi criada acima, sem tamanho e sem TTL, impede a aplicação de subir.
+        };
+    }
+
+    /* O Hibernate fecha o "CacheManager" junto com o "EntityManagerFactory". Cada "EntityManagerFactory" recebe o seu
+    * próprio "CacheManager" (com um URI único), assim, fechar um deles, como nos testes com mais de um contexto do Spring,
+    * não fecha as regiões dos outros. */
+    private static CacheManager newCacheManager() {
+        final var provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+
+        return provider.getCacheManager(URI.create("hibernate:" + UUID.randomUUID()), provider.getDefaultClassLoader());
+    }
+
+    private static CaffeineConfiguration<Object, Object> region(final OptionalLong maxSize, final OptionalLong ttlNanos) {
+        final var configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(maxSize); //Ao atingir esse limite, o Caffeine despeja as entradas menos acessadas.
+        configuration.setExpireAfterWrite(ttlNanos);
+        configuration.setStoreByValue(false); //O Hibernate já guarda uma cópia desmontada ("dehydrated") da entidade, então o JCache não precisa copiá-la novamente.
+        return configuration;
+    }
+}
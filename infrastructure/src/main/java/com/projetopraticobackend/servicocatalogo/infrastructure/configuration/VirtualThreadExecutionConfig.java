@@ -0,0 +1,34 @@
+package com.projetopraticobackend.servicocatalogo.infrastructure.configuration;
+
+import com.projetopraticobackend.servicocatalogo.application.execution.ConcurrencyLimitedExecutor;
+import com.projetopraticobackend.servicocatalogo.application.execution.VirtualThreads;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.embedded.undertow.UndertowServletWebServerFactory;
+import org.springframework.boot.web.server.WebServerFactoryCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/* Por padrão, cada requisição é executada em uma das threads de "worker" do Undertow. Quando o banco de dados fica lento,
+* todas elas ficam bloqueadas esperando uma conexão do Hikari, e as novas requisições ficam na fila do Undertow.
+*
+* Com essa configuração habilitada, as requisições dos "controllers" passam a ser executadas em "virtual threads", e as
+* threads de "worker" deixam de ser utilizadas por eles. Como não adianta ter mais requisições no banco de dados do que
+* conexões no "pool", limitamos quantas executam ao mesmo tempo ao tamanho do "pool" do Hikari. As demais esperam por
+* uma vaga sem ocupar nenhuma thread da JVM, e sem estourarem o "connection-timeout" do Hikari.
+*
+* As "virtual threads" exigem o Java 21. Em uma JVM mais antiga, a aplicação não sobe com essa configuração habilitada. */
+@Configuration
+@ConditionalOnProperty(name = "category.web.virtual-threads.enabled", havingValue = "true")
+public class VirtualThreadExecutionConfig {
+
+    @Bean
+    public WebServerFactoryCustomizer<UndertowServletWebServerFactory> virtualThreadExecutionCustomizer(
+            @Value("${category.web.virtual-threads.max-concurrency:${spring.datasource.hikari.maximum-pool-size:10}}") final int maxConcurrency) {
+
+        final var executor = new ConcurrencyLimitedExecutor(VirtualThreads.newThreadPerTaskExecutor("request-"), maxConcurrency);
+
+        //O "executor" do "DeploymentInfo" é quem executa os servlets, ou seja, o "DispatcherServlet" e os "controllers".
+        return factory -> factory.addDeploymentInfoCustomizers(deploymentInfo -> deploymentInfo.setExecutor(executor));
+    }
+}
@@ -0,0 +1,79 @@
+package com.projetopraticobackend.servicocatalogo.infrastructure.configuration.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tag;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import io.vavr.control.Either;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/* Essa classe mede o tempo de uma execução (um caso de uso, um método do gateway e etc) e registra esse tempo em um
+ * "Timer" do Micrometer, junto com o resultado da execução na "tag" "outcome":
+ *
+ * - "success": a execução terminou normalmente;
+ * - "notification": a execução retornou um "Either.Left", ou seja, uma "Notification" com os erros de validação;
+ * - "exception": a execução lançou uma exceção. O nome da exceção fica na "tag" "exception".
+ *
+ * Como o "Timer" também conta as execuções, o "_count" de cada "outcome" é a quantidade de sucessos, de erros de
+ * validação e de exceções. O histograma de percentis é publicado para que o Prometheus calcule o p95, o p99 e etc
+ * somando as instâncias da aplicação, o que não seria possível com os percentis já calculados por cada instância. */
+public class ExecutionMetrics {
+
+    public static final String SUCCESS = "success";
+    public static final String NOTIFICATION = "notification";
+    public static final String EXCEPTION = "exception";
+
+    private static final String NONE = "none";
+
+    private final MeterRegistry meterRegistry;
+    private final String name;
+    private final String description;
+
+    public ExecutionMetrics(final MeterRegistry meterRegistry, final String name, final String description) {
+        this.meterRegistry = Objects.requireNonNull(meterRegistry);
+        this.name = Objects.requireNonNull(name);
+        this.description = description;
+    }
+
+    public <T> T record(final Tags tags, final Supplier<T> execution) {
+        final var sample = Timer.start(this.meterRegistry);
+        final T result;
+
+        try {
+            result = execution.get();
+        } catch (final RuntimeException ex) {
+            sample.stop(timer(tags, EXCEPTION, ex.getClass().getSimpleName()));
+            throw ex;
+        }
+
+        sample.stop(timer(tags, outcomeOf(result), NONE));
+        return result;
+    }
+
+    public void record(final Tags tags, final Runnable execution) {
+        record(tags, () -> {
+            execution.run();
+            return null;
+        });
+    }
+
+    private static String outcomeOf(final Object result) {
+        return result instanceof Either<?, ?> either && either.isLeft() ? NOTIFICATION : SUCCESS;
+    }
+
+    /* O Micrometer devolve o mesmo "Timer" para o mesmo nome e as mesmas "tags", então o "register()" apenas cria o
+    * "Timer" na primeira execução de cada combinação. As "tags" são sempre as mesmas, mesmo no sucesso
+    * ("exception=none"), pois o Prometheus exige que todas as séries de uma métrica tenham as mesmas "labels". */
+    private Timer timer(final Tags tags, final String outcome, final String exception) {
+        return Timer.builder(this.name)
+                .description(this.description)
+                .tags(tags.and(Tag.of("outcome", outcome), Tag.of(EXCEPTION, exception)))
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1)) //Limitamos os "buckets" do histograma entre 1 milissegundo e 10 segundos.
+                .maximumExpectedValue(Duration.ofSeconds(10))
+                .register(this.meterRegistry);
+    }
+}
@@ -0,0 +1,113 @@
+package com.projetopraticobackend.servicocatalogo.infrastructure.configuration.usecases;
+
+import com.projetopraticobackend.servicocatalogo.application.category.create.AsyncCreateCategoriesUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.create.AsyncCreateCategoryUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.create.CreateCategoriesUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.create.CreateCategoryUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.create.DefaultAsyncCreateCategoriesUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.create.DefaultAsyncCreateCategoryUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.delete.AsyncDeleteCategoriesUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.delete.AsyncDeleteCategoryUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.delete.DefaultAsyncDeleteCategoriesUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.delete.DefaultAsyncDeleteCategoryUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.delete.DeleteCategoriesUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.delete.DeleteCategoryUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.retrieve.get.AsyncGetCategoryByIdUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.retrieve.get.DefaultAsyncGetCategoryByIdUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.retrieve.list.AsyncListCategoriesByCursorUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.retrieve.list.AsyncListCategoriesSliceUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.retrieve.list.AsyncListCategoriesUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.retrieve.list.DefaultAsyncListCategoriesByCursorUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.retrieve.list.DefaultAsyncListCategoriesSliceUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.retrieve.list.DefaultAsyncListCategoriesUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.retrieve.list.ListCategoriesByCursorUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.retrieve.list.ListCategoriesSliceUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.retrieve.list.ListCategoriesUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.update.AsyncUpdateCategoryUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.update.DefaultAsyncUpdateCategoryUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.update.UpdateCategoryUseCase;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import javax.annotation.PreDestroy;
+
+/* Aqui criamos as versões assíncronas dos casos de uso. Cada uma delas recebe o "Bean" do caso de uso síncrono, que
+* foi criado no "CategoryUseCaseConfig", e o executa no "executor" abaixo.
+*
+* O "executor" tem um número fixo de threads, do mesmo tamanho do pool de conexões do Hikari, já que cada caso de uso
+* ocupa uma conexão enquanto executa. A fila também é limitada: quando ela estiver cheia, a requisição será recusada
+* com "503", ao invés de acumularmos requisições que o banco de dados não conseguirá atender.
+*
+* O "executor" não é exposto como um "Bean", pois o Spring Boot apenas cria o "applicationTaskExecutor" (utilizado
+* pela exportação com "StreamingResponseBody") quando não existe nenhum outro "Executor" no contexto. */
+@Configuration
+public class AsyncUseCaseConfig {
+
+    private final ThreadPoolTaskExecutor executor;
+
+    public AsyncUseCaseConfig(@Value("${category.async.pool-size:${spring.datasource.hikari.maximum-pool-size:10}}") final int poolSize,
+                              @Value("${category.async.queue-capacity:1000}") final int queueCapacity) {
+        this.executor = new ThreadPoolTaskExecutor();
+        this.executor.setCorePoolSize(poolSize);
+        this.executor.setMaxPoolSize(poolSize);
+        this.executor.setQueueCapacity(queueCapacity);
+        this.executor.setThreadNamePrefix("category-use-case-");
+        this.executor.setWaitForTasksToCompleteOnShutdown(true);
+        this.executor.setAwaitTerminationSeconds(30);
+        this.executor.initialize();
+    }
+
+    //Ao desligar a aplicação, as tarefas que já estão na fila ainda serão executadas (por até 30 segundos).
+    @PreDestroy
+    public void shutdown() {
+        this.executor.shutdown();
+    }
+
+    @Bean
+    public AsyncCreateCategoryUseCase asyncCreateCategoryUseCase(final CreateCategoryUseCase createCategoryUseCase){
+        return new DefaultAsyncCreateCategoryUseCase(createCategoryUseCase, executor);
+    }
+
+    @Bean
+    public AsyncCreateCategoriesUseCase asyncCreateCategoriesUseCase(final CreateCategoriesUseCase createCategoriesUseCase){
+        return new DefaultAsyncCreateCategoriesUseCase(createCategoriesUseCase, executor);
+    }
+
+    @Bean
+    public AsyncDeleteCategoryUseCase asyncDeleteCategoryUseCase(final DeleteCategoryUseCase deleteCategoryUseCase){
+        return new DefaultAsyncDeleteCategoryUseCase(deleteCategoryUseCase, executor);
+    }
+
+    @Bean
+    public AsyncDeleteCategoriesUseCase asyncDeleteCategoriesUseCase(final DeleteCategoriesUseCase deleteCategoriesUseCase){
+        return new DefaultAsyncDeleteCategoriesUseCase(deleteCategoriesUseCase, executor);
+    }
+
+    @Bean
+    public AsyncGetCategoryByIdUseCase asyncGetCategoryByIdUseCase(final GetCategoryByIdUseCase getCategoryByIdUseCase){
+        return new DefaultAsyncGetCategoryByIdUseCase(getCategoryByIdUseCase, executor);
+    }
+
+    @Bean
+    public AsyncListCategoriesUseCase asyncListCategoriesUseCase(final ListCategoriesUseCase listCategoriesUseCase){
+        return new DefaultAsyncListCategoriesUseCase(listCategoriesUseCase, executor);
+    }
+
+    @Bean
+    public AsyncListCategoriesSliceUseCase asyncListCategoriesSliceUseCase(final ListCategoriesSliceUseCase listCategoriesSliceUseCase){
+        return new DefaultAsyncListCategoriesSliceUseCase(listCategoriesSliceUseCase, executor);
+    }
+
+    @Bean
+    public AsyncListCategoriesByCursorUseCase asyncListCategoriesByCursorUseCase(final ListCategoriesByCursorUseCase listCategoriesByCursorUseCase){
+        return new DefaultAsyncListCategoriesByCursorUseCase(listCategoriesByCursorUseCase, executor);
+    }
+
+    @Bean
+    public AsyncUpdateCategoryUseCase asyncUpdateCategoryUseCase(final UpdateCategoryUseCase updateCategoryUseCase){
+        return new DefaultAsyncUpdateCategoryUseCase(updateCategoryUseCase, executor);
+    }
+}
@@ -1,18 +1,41 @@
 package com.projetopraticobackend.servicocatalogo.infrastructure.configuration.usecases;
 
+import com.projetopraticobackend.servicocatalogo.application.category.create.CreateCategoriesUseCase;
 import com.projetopraticobackend.servicocatalogo.application.category.create.CreateCategoryUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.create.DefaultCreateCategoriesUseCase;
 import com.projetopraticobackend.servicocatalogo.application.category.create.DefaultCreateCategoryUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.delete.DefaultDeleteCategoriesUseCase;
 import com.projetopraticobackend.servicocatalogo.application.category.delete.DefaultDeleteCategoryUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.delete.DeleteCategoriesUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.retrieve.export.DefaultExportCategoriesUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.retrieve.export.ExportCategoriesUseCase;
 import com.projetopraticobackend.servicocatalogo.application.category.retrieve.get.DefaultGetCategoryByIdUseCase;
 import com.projetopraticobackend.servicocatalogo.application.category.delete.DeleteCategoryUseCase;
 import com.projetopraticobackend.servicocatalogo.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.retrieve.list.DefaultListCategoriesByCursorUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.retrieve.list.DefaultListCategoriesSliceUseCase;
 import com.projetopraticobackend.servicocatalogo.application.category.retrieve.list.DefaultListCategoriesUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.retrieve.list.ListCategoriesByCursorUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.retrieve.list.ListCategoriesSliceUseCase;
 import com.projetopraticobackend.servicocatalogo.application.category.retrieve.list.ListCategoriesUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.retrieve.list.ProjectedListCategoriesUseCase;
 import com.projetopraticobackend.servicocatalogo.application.category.update.DefaultUpdateCategoryUseCase;
 import com.projetopraticobackend.servicocatalogo.application.category.update.UpdateCategoryUseCase;
 import com.projetopraticobackend.servicocatalogo.domain.category.CategoryGateway;
+import com.projetopraticobackend.servicocatalogo.infrastructure.category.cache.CategoryCache;
+import com.projetopraticobackend.servicocatalogo.infrastructure.category.cache.CategoryCacheGateway;
+import com.projetopraticobackend.servicocatalogo.infrastructure.category.cache.CategoryPageCache;
+import com.projetopraticobackend.servicocatalogo.infrastructure.category.cache.CategoryPageCacheGateway;
+import com.projetopraticobackend.servicocatalogo.infrastructure.category.metrics.CategoryMetricsGateway;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
 
 /* A camada de application não é reconhecida pelo Spring, pois não estamos utilizando
 * nenhuma anotação como "@Component" e etc, já que o objetivo dessa camada é ficar separada da
@@ -30,8 +53,49 @@ public class CategoryUseCaseConfig {
 
     private final CategoryGateway categoryGateway; //Estamos no módulo de infraestrutura, então o Spring fará a injeção aqui. Esse gateway será necessário em todos os casos de uso.
 
-    public CategoryUseCaseConfig(CategoryGateway categoryGateway) {
-        this.categoryGateway = categoryGateway;
+    private final CategoryGateway updateGateway; //A atualização verifica a versão da categoria, então ela não pode ler uma versão antiga do cache.
+
+    private final CategoryUseCaseMetrics metrics; //Cada caso de uso abaixo é "decorado" com a medição do tempo e do resultado do "execute()".
+
+    private final CategoryUseCaseTransactions transactions; //Os casos de uso que precisam de uma única transação são "decorados" com ela.
+
+    public CategoryUseCaseConfig(CategoryGateway categoryGateway,
+                                 ObjectProvider<CategoryCache> categoryCache,
+                                 ObjectProvider<CategoryPageCache> categoryPageCache,
+                                 MeterRegistry meterRegistry,
+                                 PlatformTransactionManager transactionManager) {
+
+        //O gateway real é medido antes de receber o cache, assim, as métricas do gateway mostram apenas as chamadas ao banco de dados.
+        final var meteredGateway = new CategoryMetricsGateway(categoryGateway, meterRegistry);
+
+        //Se o cache das páginas estiver habilitado, as listagens passarão por ele antes de chegarem ao gateway real.
+        final var pageCache = categoryPageCache.getIfAvailable();
+        final var listGateway = pageCache != null ? new CategoryPageCacheGateway(meteredGateway, pageCache) : meteredGateway;
+
+        //Se o cache estiver habilitado, os casos de uso receberão o gateway "decorado" com o cache. Caso contrário, receberão o gateway original.
+        final var cache = categoryCache.getIfAvailable();
+        this.categoryGateway = cache != null ? new CategoryCacheGateway(listGateway, cache) : listGateway;
+        this.updateGateway = cache != null ? CategoryCacheGateway.withUncachedReads(listGateway, cache) : listGateway;
+        this.metrics = new CategoryUseCaseMetrics(meterRegistry);
+        this.transactions = new CategoryUseCaseTransactions(transactionManager);
+    }
+
+    /* O cache das categorias apenas será criado se a propriedade "category.cache.enabled" for "true". O método é
+    * estático para que o Spring consiga criar esse "Bean" antes de instanciar essa própria classe de configuração,
+    * já que o construtor acima depende dele. */
+    @Bean
+    @ConditionalOnProperty(prefix = "category.cache", name = "enabled", havingValue = "true")
+    public static CategoryCache categoryCache(@Value("${category.cache.max-size:10000}") final long maxSize,
+                                              @Value("${category.cache.ttl:10m}") final Duration ttl){
+        return new CategoryCache(maxSize, ttl);
+    }
+
+    /* O cache das páginas da listagem apenas será criado se a propriedade "category.cache.pages.enabled" for "true". */
+    @Bean
+    @ConditionalOnProperty(prefix = "category.cache.pages", name = "enabled", havingValue = "true")
+    public static CategoryPageCache categoryPageCache(@Value("${category.cache.pages.max-size:1000}") final long maxSize,
+                                                      @Value("${category.cache.pages.ttl:30s}") final Duration ttl){
+        return new CategoryPageCache(maxSize, ttl);
     }
 
     //Abaixo, vamos criar um "Bean" para cada caso de uso, para
@@ -41,26 +105,55 @@ public class CategoryUseCaseConfig {
 
     @Bean
     public CreateCategoryUseCase createCategoryUseCase(){
-        return new DefaultCreateCategoryUseCase(categoryGateway);
+        return metrics.createCategory(new DefaultCreateCategoryUseCase(categoryGateway));
+    }
+
+    @Bean
+    public CreateCategoriesUseCase createCategoriesUseCase(){
+        return metrics.createCategories(new DefaultCreateCategoriesUseCase(categoryGateway));
     }
 
     @Bean
     public DeleteCategoryUseCase deleteCategoryUseCase(){
-        return new DefaultDeleteCategoryUseCase(categoryGateway);
+        return metrics.deleteCategory(new DefaultDeleteCategoryUseCase(categoryGateway));
+    }
+
+    @Bean
+    public DeleteCategoriesUseCase deleteCategoriesUseCase(){
+        return metrics.deleteCategories(new DefaultDeleteCategoriesUseCase(categoryGateway));
     }
 
     @Bean
     public GetCategoryByIdUseCase getCategoryByIdUseCase(){
-        return new DefaultGetCategoryByIdUseCase(categoryGateway);
+        return metrics.getCategoryById(new DefaultGetCategoryByIdUseCase(categoryGateway));
+    }
+
+    /* Se a propriedade "category.list.projection" for "true", a listagem buscará apenas o modelo de leitura, sem as
+    * entidades do JPA. O resultado é o mesmo nas duas implementações. */
+    @Bean
+    public ListCategoriesUseCase listCategoriesUseCase(@Value("${category.list.projection:false}") final boolean projection){
+        return metrics.listCategories(projection
+                ? new ProjectedListCategoriesUseCase(categoryGateway)
+                : new DefaultListCategoriesUseCase(categoryGateway));
+    }
+
+    @Bean
+    public ListCategoriesSliceUseCase listCategoriesSliceUseCase(){
+        return metrics.listCategoriesSlice(new DefaultListCategoriesSliceUseCase(categoryGateway));
+    }
+
+    @Bean
+    public ListCategoriesByCursorUseCase listCategoriesByCursorUseCase(){
+        return metrics.listCategoriesByCursor(new DefaultListCategoriesByCursorUseCase(categoryGateway));
     }
 
     @Bean
-    public ListCategoriesUseCase listCategoriesUseCase(){
-        return new DefaultListCategoriesUseCase(categoryGateway);
+    public ExportCategoriesUseCase exportCategoriesUseCase(){
+        return metrics.exportCategories(new DefaultExportCategoriesUseCase(categoryGateway));
     }
 
     @Bean
     public UpdateCategoryUseCase updateCategoryUseCase(){
-        return new DefaultUpdateCategoryUseCase(categoryGateway);
+        return metrics.updateCategory(transactions.updateCategory(new DefaultUpdateCategoryUseCase(updateGateway)));
     }
 }
\ No newline at end of file
@@ -0,0 +1,161 @@
+package com.projetopraticobackend.servicocatalogo.infrastructure.configuration.usecases;
+
+import com.projetopraticobackend.servicocatalogo.application.category.create.CreateCategoriesCommand;
+import com.projetopraticobackend.servicocatalogo.application.category.create.CreateCategoriesOutput;
+import com.projetopraticobackend.servicocatalogo.application.category.create.CreateCategoriesUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.create.CreateCategoryCommand;
+import com.projetopraticobackend.servicocatalogo.application.category.create.CreateCategoryOutput;
+import com.projetopraticobackend.servicocatalogo.application.category.create.CreateCategoryUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.delete.DeleteCategoriesCommand;
+import com.projetopraticobackend.servicocatalogo.application.category.delete.DeleteCategoriesUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.delete.DeleteCategoryUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.retrieve.export.ExportCategoriesCommand;
+import com.projetopraticobackend.servicocatalogo.application.category.retrieve.export.ExportCategoriesUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.retrieve.get.CategoryOutput;
+import com.projetopraticobackend.servicocatalogo.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.retrieve.list.CategoryListOutput;
+import com.projetopraticobackend.servicocatalogo.application.category.retrieve.list.ListCategoriesByCursorUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.retrieve.list.ListCategoriesSliceUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.retrieve.list.ListCategoriesUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.update.UpdateCategoryCommand;
+import com.projetopraticobackend.servicocatalogo.application.category.update.UpdateCategoryOutput;
+import com.projetopraticobackend.servicocatalogo.application.category.update.UpdateCategoryUseCase;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryCursorQuery;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategorySearchQuery;
+import com.projetopraticobackend.servicocatalogo.domain.pagination.CursorPagination;
+import com.projetopraticobackend.servicocatalogo.domain.pagination.Pagination;
+import com.projetopraticobackend.servicocatalogo.domain.pagination.SlicePagination;
+import com.projetopraticobackend.servicocatalogo.domain.validation.handler.Notification;
+import com.projetopraticobackend.servicocatalogo.infrastructure.configuration.metrics.ExecutionMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.vavr.control.Either;
+
+/* Aqui temos os "decorators" dos casos de uso de "Category". Cada método recebe o caso de uso real e devolve um caso de
+ * uso do mesmo tipo, que apenas mede o tempo e o resultado do "execute()" na métrica "usecase.execution", com a "tag"
+ * "usecase". Assim, o controller e a camada de application não precisam saber que as métricas existem.
+ *
+ * Os casos de uso são classes abstratas, então cada "decorator" é uma subclasse anônima do tipo que está sendo
+ * decorado. */
+public class CategoryUseCaseMetrics {
+
+    private final ExecutionMetrics metrics;
+
+    public CategoryUseCaseMetrics(final MeterRegistry meterRegistry) {
+        this.metrics = new ExecutionMetrics(meterRegistry, "usecase.execution", "Time spent in each use case execution");
+    }
+
+    public CreateCategoryUseCase createCategory(final CreateCategoryUseCase useCase) {
+        final var tags = tags("CreateCategory");
+
+        return new CreateCategoryUseCase() {
+            @Override
+            public Either<Notification, CreateCategoryOutput> execute(final CreateCategoryCommand command) {
+                return metrics.record(tags, () -> useCase.execute(command));
+            }
+        };
+    }
+
+    public CreateCategoriesUseCase createCategories(final CreateCategoriesUseCase useCase) {
+        final var tags = tags("CreateCategories");
+
+        return new CreateCategoriesUseCase() {
+            @Override
+            public Either<Notification, CreateCategoriesOutput> execute(final CreateCategoriesCommand command) {
+                return metrics.record(tags, () -> useCase.execute(command));
+            }
+        };
+    }
+
+    public DeleteCategoryUseCase deleteCategory(final DeleteCategoryUseCase useCase) {
+        final var tags = tags("DeleteCategory");
+
+        return new DeleteCategoryUseCase() {
+            @Override
+            public void execute(final String id) {
+                metrics.record(tags, () -> useCase.execute(id));
+            }
+        };
+    }
+
+    public DeleteCategoriesUseCase deleteCategories(final DeleteCategoriesUseCase useCase) {
+        final var tags = tags("DeleteCategories");
+
+        return new DeleteCategoriesUseCase() {
+            @Override
+            public void execute(final DeleteCategoriesCommand command) {
+                metrics.record(tags, () -> useCase.execute(command));
+            }
+        };
+    }
+
+    public GetCategoryByIdUseCase getCategoryById(final GetCategoryByIdUseCase useCase) {
+        final var tags = tags("GetCategoryById");
+
+        return new GetCategoryByIdUseCase() {
+            @Override
+            public CategoryOutput execute(final String id) {
+                return metrics.record(tags, () -> useCase.execute(id));
+            }
+        };
+    }
+
+    public ListCategoriesUseCase listCategories(final ListCategoriesUseCase useCase) {
+        final var tags = tags("ListCategories");
+
+        return new ListCategoriesUseCase() {
+            @Override
+            public Pagination<CategoryListOutput> execute(final CategorySearchQuery query) {
+                return metrics.record(tags, () -> useCase.execute(query));
+            }
+        };
+    }
+
+    public ListCategoriesSliceUseCase listCategoriesSlice(final ListCategoriesSliceUseCase useCase) {
+        final var tags = tags("ListCategoriesSlice");
+
+        return new ListCategoriesSliceUseCase() {
+            @Override
+            public SlicePagination<CategoryListOutput> execute(final CategorySearchQuery query) {
+                return metrics.record(tags, () -> useCase.execute(query));
+            }
+        };
+    }
+
+    public ListCategoriesByCursorUseCase listCategoriesByCursor(final ListCategoriesByCursorUseCase useCase) {
+        final var tags = tags("ListCategoriesByCursor");
+
+        return new ListCategoriesByCursorUseCase() {
+            @Override
+            public CursorPagination<CategoryListOutput> execute(final CategoryCursorQuery query) {
+                return metrics.record(tags, () -> useCase.execute(query));
+            }
+        };
+    }
+
+    public ExportCategoriesUseCase exportCategories(final ExportCategoriesUseCase useCase) {
+        final var tags = tags("ExportCategories");
+
+        return new ExportCategoriesUseCase() {
+            @Override
+            public void execute(final ExportCategoriesCommand command) {
+                metrics.record(tags, () -> useCase.execute(command));
+            }
+        };
+    }
+
+    public UpdateCategoryUseCase updateCategory(final UpdateCategoryUseCase useCase) {
+        final var tags = tags("UpdateCategory");
+
+        return new UpdateCategoryUseCase() {
+            @Override
+            public Either<Notification, UpdateCategoryOutput> execute(final UpdateCategoryCommand command) {
+                return metrics.record(tags, () -> useCase.execute(command));
+            }
+        };
+    }
+
+    private static Tags tags(final String useCase) {
+        return Tags.of("usecase", useCase);
+    }
+}
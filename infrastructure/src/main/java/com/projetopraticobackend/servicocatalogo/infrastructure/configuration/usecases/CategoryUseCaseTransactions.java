@@ -0,0 +1,42 @@
+package com.projetopraticobackend.servicocatalogo.infrastructure.configuration.usecases;
+
+import com.projetopraticobackend.servicocatalogo.application.category.update.UpdateCategoryCommand;
+import com.projetopraticobackend.servicocatalogo.application.category.update.UpdateCategoryOutput;
+import com.projetopraticobackend.servicocatalogo.application.category.update.UpdateCategoryUseCase;
+import com.projetopraticobackend.servicocatalogo.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/* Aqui temos os "decorators" que executam um caso de uso inteiro em uma única transação. A camada de application não
+ * conhece o Spring, então a transação é aberta aqui, assim como as métricas são medidas no "CategoryUseCaseMetrics".
+ *
+ * Sem a transação, cada chamada ao gateway abre e fecha a sua própria transação e pega uma conexão do "pool". */
+public class CategoryUseCaseTransactions {
+
+    private final TransactionTemplate transactionTemplate;
+
+    public CategoryUseCaseTransactions(final PlatformTransactionManager transactionManager) {
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /* A busca e o "UPDATE" são feitos na mesma transação e na mesma conexão. Se o caso de uso devolver uma "Notification",
+    * a transação é desfeita, ao invés de confirmada. Os caches e o índice do Lucene apenas são atualizados após o fim
+    * dela ("AfterTransaction"), para que nenhuma leitura concorrente guarde o estado anterior ao "commit". */
+    public UpdateCategoryUseCase updateCategory(final UpdateCategoryUseCase useCase) {
+        return new UpdateCategoryUseCase() {
+            @Override
+            public Either<Notification, UpdateCategoryOutput> execute(final UpdateCategoryCommand command) {
+                return transactionTemplate.execute(status -> {
+                    final var result = useCase.execute(command);
+
+                    if (result.isLeft()) {
+                        status.setRollbackOnly();
+                    }
+
+                    return result;
+                });
+            }
+        };
+    }
+}
@@ -1,7 +1,15 @@
 package com.projetopraticobackend.servicocatalogo.infrastructure.utils;
 
+import com.projetopraticobackend.servicocatalogo.infrastructure.configuration.MySQLFunctionsContributor;
 import org.springframework.data.jpa.domain.Specification;
 
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Root;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
 /* Para ser uma classe "util", ela deve ser privada, ou seja, os métodos dela devem
  * ser privados e, além disso, criamos um construtor vazio privado, para que, se alguém
  * force, ele não instancie a classe, e todos os métodos são estáticos. */
@@ -17,4 +25,81 @@ public final class SpecificationUtils {
                 criteriaBuilder.upper(root.get(prop)), //É a propriedade que queremos filtrar. Estamos pegando o caminho até a propriedade com o "root.get()" e convertendo a propriedade para o uppercase, além de também convertermos o termo para "uppercase".
                 "%" + term.toUpperCase() + "%"); //É o termo que queremos filtrar.
     }
-}
\ No newline at end of file
+
+    /* Esse é o predicado da paginação por "seek" (keyset). Ao invés de pularmos as linhas das páginas anteriores, buscamos
+     * apenas as linhas que vêm depois da última linha retornada, considerando a ordenação e, para desempate, o ID:
+     *
+     * "WHERE prop > :value OR (prop = :value AND id > :id)", ou com o "<" na ordenação descendente.
+     *
+     * Assim, o banco de dados consegue ir direto ao ponto da página através do índice, sem ler e descartar as linhas
+     * anteriores, como acontece com o OFFSET. */
+    public static <T, V extends Comparable<? super V>> Specification<T> after(final String prop, //É a propriedade da ordenação.
+                                                                              final V value, //É o valor da propriedade na última linha retornada.
+                                                                              final String idProp, //É a propriedade do identificador, usada para o desempate.
+                                                                              final String id, //É o identificador da última linha retornada.
+                                                                              final boolean ascending) {
+
+        return (root, query, criteriaBuilder) -> {
+            final Path<String> idPath = root.get(idProp);
+
+            final var afterId = ascending ? criteriaBuilder.greaterThan(idPath, id) : criteriaBuilder.lessThan(idPath, id);
+
+            if (prop.equals(idProp)) { //Se a ordenação já for pelo identificador, não precisamos do desempate.
+                return afterId;
+            }
+
+            final Path<V> path = root.get(prop);
+
+            final var afterValue = ascending ? criteriaBuilder.greaterThan(path, value) : criteriaBuilder.lessThan(path, value);
+
+            return criteriaBuilder.or(afterValue, criteriaBuilder.and(criteriaBuilder.equal(path, value), afterId));
+        };
+    }
+
+    /* Essa é a busca pelo índice "FULLTEXT" do MySQL. Diferente do "like()", ela não precisa ler todas as linhas da tabela.
+     * O "terms" já deve estar no formato do "BOOLEAN MODE", que é gerado pelo "booleanModeTerms()". */
+    public static <T> Specification<T> match(final String firstProp, //É a primeira coluna do índice "FULLTEXT".
+                                             final String secondProp, //É a segunda coluna do índice "FULLTEXT".
+                                             final String terms) {
+
+        return (root, query, criteriaBuilder) ->
+                criteriaBuilder.greaterThan(matchAgainst(root, criteriaBuilder, firstProp, secondProp, terms), 0.0);
+    }
+
+    /* Esse "Specification" não filtra nada, ele apenas ordena o resultado pela relevância da busca "FULLTEXT", da mais
+     * relevante para a menos relevante. O Spring Data remove essa ordenação da query de contagem. */
+    public static <T> Specification<T> orderByMatch(final String firstProp,
+                                                    final String secondProp,
+                                                    final String terms,
+                                                    final String tieBreakerProp) { //É a propriedade usada para o desempate entre as linhas com a mesma relevância.
+
+        return (root, query, criteriaBuilder) -> {
+            query.orderBy(
+                    criteriaBuilder.desc(matchAgainst(root, criteriaBuilder, firstProp, secondProp, terms)),
+                    criteriaBuilder.asc(root.get(tieBreakerProp)));
+
+            return null;
+        };
+    }
+
+    /* Converte os termos digitados pelo usuário para o "BOOLEAN MODE" do MySQL. Removemos os operadores desse modo, para
+     * que o usuário não consiga alterar a busca, e adicionamos o "*" em cada palavra, para buscarmos pelo prefixo, assim
+     * como o "like()" permite buscar apenas pelo início de uma palavra. Ex: "da Amazon" -> "da* Amazon*". */
+    public static String booleanModeTerms(final String terms) {
+        return Arrays.stream(terms.trim().split("\\s+"))
+                .map(word -> word.replaceAll("[+\\-<>()~*\"@]", ""))
+                .filter(word -> !word.isBlank())
+                .map(word -> word + "*")
+                .collect(Collectors.joining(" "));
+    }
+
+    private static <T> Expression<Double> matchAgainst(final Root<T> root,
+                                                       final CriteriaBuilder criteriaBuilder,
+                                                       final String firstProp,
+                                                       final String secondProp,
+                                                       final String terms) {
+
+        return criteriaBuilder.function(MySQLFunctionsContributor.MATCH_AGAINST, Double.class,
+                root.get(firstProp), root.get(secondProp), criteriaBuilder.literal(terms));
+    }
+}
@@ -0,0 +1,4 @@
+DROP INDEX idx_category_active_updated_at_id ON category;
+DROP INDEX idx_category_updated_at_id ON category;
+DROP INDEX idx_category_created_at_id ON category;
+DROP INDEX idx_category_name_id ON category;
\ No newline at end of file
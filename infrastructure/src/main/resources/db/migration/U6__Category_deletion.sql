@@ -0,0 +1 @@
+DROP TABLE category_deletion;
\ No newline at end of file
@@ -0,0 +1,3 @@
+-- É a versão utilizada pelo "optimistic locking". Cada "UPDATE" soma 1 a ela e apenas altera a linha se ela ainda estiver
+-- na versão que foi lida. As categorias que já existem começam na versão 0.
+ALTER TABLE category ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,13 @@
+-- Sem esses índices, toda listagem ordenada pelo nome ou pelas datas lia a tabela inteira e a ordenava ("filesort"). Com
+-- eles, o banco de dados percorre o índice já na ordem da listagem e para assim que a página está completa.
+--
+-- Cada índice termina com o ID, que é o desempate da ordenação ("ORDER BY name, id"). Apenas as ordenações aceitas pelo
+-- "CategorySearchQuery" possuem um índice.
+CREATE INDEX idx_category_name_id ON category (name, id);
+CREATE INDEX idx_category_created_at_id ON category (created_at, id);
+CREATE INDEX idx_category_updated_at_id ON category (updated_at, id);
+
+-- É utilizado pela exportação filtrada pelo "active", que é ordenada pelo "updated_at" e pelo ID. Com a igualdade no
+-- "active", o intervalo do "updated_at" e a ordenação são percorridos no próprio índice. Filtrada apenas pelo
+-- "updated_at", a exportação utiliza o "idx_category_updated_at_id".
+CREATE INDEX idx_category_active_updated_at_id ON category (active, updated_at, id);
\ No newline at end of file
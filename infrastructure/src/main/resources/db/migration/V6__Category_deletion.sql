@@ -0,0 +1,9 @@
+-- A exclusão remove a linha da tabela "category", então as outras instâncias não conseguem encontrá-la pelo "updated_at".
+-- Cada exclusão deixa aqui o ID da categoria e o horário da exclusão, e o "CategoryInvalidationPoller" de cada instância
+-- lê as exclusões mais recentes pelo índice do "deleted_at". As exclusões antigas são removidas pelo próprio poller.
+CREATE TABLE category_deletion (
+    id BINARY(16) NOT NULL PRIMARY KEY,
+    deleted_at DATETIME(6) NOT NULL
+);
+
+CREATE INDEX idx_category_deletion_deleted_at_id ON category_deletion (deleted_at, id);
\ No newline at end of file
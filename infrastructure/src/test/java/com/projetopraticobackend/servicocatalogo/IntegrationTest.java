@@ -25,6 +25,7 @@ import java.lang.annotation.*;
 @Inherited
 @ActiveProfiles("test")
 @ExtendWith(CleanUpExtension.class)
+@ExtendWith(SqlStatisticsExtension.class) //Permite que os testes recebam o "SqlStatistics" como parâmetro.
 @SpringBootTest(classes = WebServerConfig.class) //Essa é uma classe global de testes do Spring. O parâmetro "classes" permite que passemos uma classe de configuração com metadados para ele entender como quais configurações do Spring Boot ele precisa habilitar.
 public @interface IntegrationTest {
 }
\ No newline at end of file
@@ -0,0 +1,37 @@
+package com.projetopraticobackend.servicocatalogo;
+
+import org.hibernate.stat.Statistics;
+
+//Essa classe mede quantos comandos SQL uma ação enviou ao banco de dados, a partir das estatísticas do Hibernate, que
+//estão habilitadas no "application.yml" ("hibernate.generate_statistics").
+
+//Nos testes com o "@IntegrationTest", ela é recebida como parâmetro do método de teste ("SqlStatisticsExtension"). Assim,
+//podemos fixar a quantidade de comandos de cada caso de uso, e um "SELECT" a mais, por exemplo, fará o teste falhar.
+public class SqlStatistics {
+
+    private final Statistics statistics;
+
+    public SqlStatistics(final Statistics statistics) {
+        this.statistics = statistics;
+    }
+
+    //As estatísticas são da aplicação inteira, então as zeramos antes da ação, para medirmos apenas o que ela executou.
+    public Counts measure(final Runnable action) {
+        this.statistics.clear();
+
+        action.run();
+
+        return new Counts(
+                this.statistics.getPrepareStatementCount(), //Todos os comandos enviados ("SELECT", "INSERT", "UPDATE", "DELETE").
+                this.statistics.getEntityLoadCount(), //Quantas entidades foram carregadas do banco de dados.
+                this.statistics.getFlushCount()); //Quantas vezes o contexto de persistência foi sincronizado com o banco de dados.
+    }
+
+    //Por ser um "record", o "assertEquals()" compara os três valores e mostra todos eles quando falha.
+    public record Counts(long statements, long entityLoads, long flushes) {
+
+        public static Counts of(final long statements, final long entityLoads, final long flushes) {
+            return new Counts(statements, entityLoads, flushes);
+        }
+    }
+}
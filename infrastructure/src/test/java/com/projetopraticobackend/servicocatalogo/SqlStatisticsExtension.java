@@ -0,0 +1,29 @@
+package com.projetopraticobackend.servicocatalogo;
+
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import javax.persistence.EntityManagerFactory;
+
+//Essa extensão entrega o "SqlStatistics" para os métodos de teste que o recebem como parâmetro, assim como o Spring
+//entrega os "beans" com o "@Autowired".
+public class SqlStatisticsExtension implements ParameterResolver {
+
+    @Override
+    public boolean supportsParameter(final ParameterContext parameterContext, final ExtensionContext extensionContext) {
+        return parameterContext.getParameter().getType() == SqlStatistics.class;
+    }
+
+    @Override
+    public Object resolveParameter(final ParameterContext parameterContext, final ExtensionContext extensionContext) {
+        final var statistics = SpringExtension.getApplicationContext(extensionContext)
+                .getBean(EntityManagerFactory.class)
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+
+        return new SqlStatistics(statistics);
+    }
+}
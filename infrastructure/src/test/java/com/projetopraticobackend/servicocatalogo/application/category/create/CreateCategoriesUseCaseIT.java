@@ -0,0 +1,70 @@
+package com.projetopraticobackend.servicocatalogo.application.category.create;
+
+import com.projetopraticobackend.servicocatalogo.IntegrationTest;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryGateway;
+import com.projetopraticobackend.servicocatalogo.infrastructure.category.persistence.CategoryRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+
+import java.util.List;
+
+@IntegrationTest
+public class CreateCategoriesUseCaseIT {
+
+    @Autowired
+    private CreateCategoriesUseCase createCategoriesUseCase;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @SpyBean
+    private CategoryGateway categoryGatewaySpy;
+
+    @Test
+    public void givenValidAndInvalidCommands_whenCallsCreateCategories_shouldPersistOnlyTheValidOnes() {
+
+        Assertions.assertEquals(0, categoryRepository.count());
+
+        final var command = CreateCategoriesCommand.with(List.of(
+                CreateCategoryCommand.with("Filmes", "A categoria mais assistida", true),
+                CreateCategoryCommand.with(null, null, true),
+                CreateCategoryCommand.with("Séries", null, false)
+        ));
+
+        final var output = createCategoriesUseCase.execute(command).get();
+
+        Assertions.assertTrue(output.hasErrors());
+        Assertions.assertEquals(2, categoryRepository.count());
+
+        final var filmes = categoryRepository.findById(output.items().get(0).id()).get();
+        Assertions.assertEquals("Filmes", filmes.getName());
+        Assertions.assertTrue(filmes.isActive());
+
+        final var series = categoryRepository.findById(output.items().get(2).id()).get();
+        Assertions.assertEquals("Séries", series.getName());
+        Assertions.assertFalse(series.isActive());
+
+        Assertions.assertEquals("'name' should not be null", output.items().get(1).errors().get(0).message());
+
+        Mockito.verify(categoryGatewaySpy, Mockito.times(1)).createAll(Mockito.any());
+    }
+
+    @Test
+    public void givenAGatewayError_whenCallsCreateCategories_shouldReturnNotificationAndPersistNothing() {
+
+        final var expectedErrorMessage = "Gateway error";
+
+        final var command = CreateCategoriesCommand.with(List.of(CreateCategoryCommand.with("Filmes", null, true)));
+
+        Mockito.doThrow(new IllegalStateException(expectedErrorMessage))
+                .when(categoryGatewaySpy).createAll(Mockito.any());
+
+        final var notification = createCategoriesUseCase.execute(command).getLeft();
+
+        Assertions.assertEquals(expectedErrorMessage, notification.firstError().message());
+        Assertions.assertEquals(0, categoryRepository.count());
+    }
+}
@@ -1,6 +1,7 @@
 package com.projetopraticobackend.servicocatalogo.application.category.create;
 
 import com.projetopraticobackend.servicocatalogo.IntegrationTest;
+import com.projetopraticobackend.servicocatalogo.SqlStatistics;
 import com.projetopraticobackend.servicocatalogo.domain.category.CategoryGateway;
 import com.projetopraticobackend.servicocatalogo.infrastructure.category.persistence.CategoryRepository;
 import org.junit.jupiter.api.Assertions;
@@ -164,4 +165,15 @@ public class CreateCategoryUseCaseIT {
         //Não deve ter nenhuma categoria persistida no banco de dados.
         Assertions.assertEquals(0, categoryRepository.count());
     }
-}
\ No newline at end of file
+
+    //A categoria é nova, então apenas o "INSERT" é enviado, sem o "SELECT" que o "merge()" faria antes dele.
+    @Test
+    public void givenAValidCommand_whenCallsCreateCategory_shouldStayWithinTheStatementBudget(final SqlStatistics sqlStatistics){
+
+        final var command = CreateCategoryCommand.with("Filmes", "A categoria mais assistida", true);
+
+        final var counts = sqlStatistics.measure(() -> createCategoryUseCase.execute(command));
+
+        Assertions.assertEquals(SqlStatistics.Counts.of(1, 0, 1), counts);
+    }
+}
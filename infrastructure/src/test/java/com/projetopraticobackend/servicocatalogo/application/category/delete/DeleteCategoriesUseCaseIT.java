@@ -0,0 +1,56 @@
+package com.projetopraticobackend.servicocatalogo.application.category.delete;
+
+import com.projetopraticobackend.servicocatalogo.IntegrationTest;
+import com.projetopraticobackend.servicocatalogo.domain.category.Category;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryGateway;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryID;
+import com.projetopraticobackend.servicocatalogo.infrastructure.category.persistence.CategoryRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.ArrayList;
+import java.util.stream.IntStream;
+
+@IntegrationTest
+public class DeleteCategoriesUseCaseIT {
+
+    @Autowired
+    private DeleteCategoriesUseCase deleteCategoriesUseCase;
+
+    @Autowired
+    private CategoryGateway categoryGateway;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Test
+    public void givenMoreIdsThanOneDeleteAccepts_whenCallsDeleteCategories_shouldDeleteAllOfThem(){
+
+        //Mais IDs do que cabem em um único "IN", assim, o "DELETE" é enviado em mais de um lote.
+        final var categories = IntStream.range(0, 1_501)
+                .mapToObj(i -> Category.newCategory("Categoria " + i, null, true))
+                .toList();
+
+        categoryGateway.createAll(categories);
+
+        Assertions.assertEquals(1_501, categoryRepository.count());
+
+        final var expectedRemaining = categories.get(0).getId();
+
+        final var ids = new ArrayList<String>();
+
+        categories.stream()
+                .skip(1)
+                .forEach(category -> ids.add(category.getId().getValue()));
+
+        //IDs inexistentes e inválidos são ignorados.
+        ids.add(CategoryID.unique().getValue());
+        ids.add("123");
+
+        Assertions.assertDoesNotThrow(() -> deleteCategoriesUseCase.execute(DeleteCategoriesCommand.with(ids)));
+
+        Assertions.assertEquals(1, categoryRepository.count());
+        Assertions.assertTrue(categoryRepository.existsById(expectedRemaining.getValue()));
+    }
+}
@@ -1,6 +1,7 @@
 package com.projetopraticobackend.servicocatalogo.application.category.delete;
 
 import com.projetopraticobackend.servicocatalogo.IntegrationTest;
+import com.projetopraticobackend.servicocatalogo.SqlStatistics;
 import com.projetopraticobackend.servicocatalogo.domain.category.Category;
 import com.projetopraticobackend.servicocatalogo.domain.category.CategoryGateway;
 import com.projetopraticobackend.servicocatalogo.infrastructure.category.persistence.CategoryJpaEntity;
@@ -69,6 +70,19 @@ public class DeleteCategoryUseCaseIT {
         Mockito.verify(categoryGateway, Mockito.times(1)).deleteById(Mockito.eq(expectedId));
     }
 
+    //Apenas o "DELETE", sem a verificação da existência e sem carregar a categoria antes de removê-la.
+    @Test
+    public void givenAValidId_whenCallsDeleteCategory_shouldStayWithinTheStatementBudget(final SqlStatistics sqlStatistics){
+
+        final var category = Category.newCategory("Filmes", "A categoria mais assistida", true);
+
+        save(category);
+
+        final var expectedId = category.getId().getValue();
+
+        Assertions.assertEquals(SqlStatistics.Counts.of(1, 0, 0), sqlStatistics.measure(() -> deleteCategoryUseCase.execute(expectedId)));
+    }
+
     private void save(final Category... categories){
 
         final List<CategoryJpaEntity> categoriesEntities = Arrays.stream(categories)
@@ -1,6 +1,7 @@
 package com.projetopraticobackend.servicocatalogo.application.category.retrieve.get;
 
 import com.projetopraticobackend.servicocatalogo.IntegrationTest;
+import com.projetopraticobackend.servicocatalogo.SqlStatistics;
 import com.projetopraticobackend.servicocatalogo.domain.category.Category;
 import com.projetopraticobackend.servicocatalogo.domain.category.CategoryGateway;
 import com.projetopraticobackend.servicocatalogo.domain.category.CategoryID;
@@ -79,6 +80,20 @@ public class GetCategoryByIdUseCaseIT {
         Assertions.assertEquals(expectedErrorMessage, exception.getMessage());
     }
 
+    //A primeira busca faz um único "SELECT". A segunda é atendida pelo cache e não vai ao banco de dados.
+    @Test
+    public void givenAValidId_whenCallsGetCategory_shouldStayWithinTheStatementBudget(final SqlStatistics sqlStatistics){
+
+        final var category = Category.newCategory("Filmes", "A categoria mais assistida", true);
+
+        save(category);
+
+        final var expectedId = category.getId().getValue();
+
+        Assertions.assertEquals(SqlStatistics.Counts.of(1, 1, 0), sqlStatistics.measure(() -> getCategoryByIdUseCase.execute(expectedId)));
+        Assertions.assertEquals(SqlStatistics.Counts.of(0, 0, 0), sqlStatistics.measure(() -> getCategoryByIdUseCase.execute(expectedId)));
+    }
+
     private void save(final Category... categories){
 
         final List<CategoryJpaEntity> categoriesEntities = Arrays.stream(categories)
@@ -1,6 +1,7 @@
 package com.projetopraticobackend.servicocatalogo.application.category.retrieve.list;
 
 import com.projetopraticobackend.servicocatalogo.IntegrationTest;
+import com.projetopraticobackend.servicocatalogo.SqlStatistics;
 import com.projetopraticobackend.servicocatalogo.domain.category.Category;
 import com.projetopraticobackend.servicocatalogo.domain.category.CategorySearchQuery;
 import com.projetopraticobackend.servicocatalogo.infrastructure.category.persistence.CategoryJpaEntity;
@@ -185,4 +186,16 @@ public class ListCategoriesUseCaseIT {
             index++;
         }
     }
+
+    /* A página é montada diretamente a partir das colunas ("CategoryPreview"), sem carregar as entidades. Se ela vier
+     * incompleta, já sabemos o total e não fazemos o "COUNT(*)". Se vier completa, o "COUNT(*)" é o único comando a mais. */
+    @Test
+    public void givenAValidQuery_whenCallsListCategories_shouldStayWithinTheStatementBudget(final SqlStatistics sqlStatistics) {
+
+        final var incompletePage = new CategorySearchQuery(0, 10, "", "name", "asc");
+        final var fullPage = new CategorySearchQuery(0, 3, "", "name", "asc");
+
+        Assertions.assertEquals(SqlStatistics.Counts.of(1, 0, 0), sqlStatistics.measure(() -> listCategoriesUseCase.execute(incompletePage)));
+        Assertions.assertEquals(SqlStatistics.Counts.of(2, 0, 0), sqlStatistics.measure(() -> listCategoriesUseCase.execute(fullPage)));
+    }
 }
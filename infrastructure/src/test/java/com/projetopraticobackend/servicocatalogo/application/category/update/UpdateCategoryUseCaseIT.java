@@ -1,8 +1,11 @@
 package com.projetopraticobackend.servicocatalogo.application.category.update;
 
 import com.projetopraticobackend.servicocatalogo.IntegrationTest;
+import com.projetopraticobackend.servicocatalogo.SqlStatistics;
+import com.projetopraticobackend.servicocatalogo.application.category.retrieve.get.GetCategoryByIdUseCase;
 import com.projetopraticobackend.servicocatalogo.domain.category.Category;
 import com.projetopraticobackend.servicocatalogo.domain.category.CategoryGateway;
+import com.projetopraticobackend.servicocatalogo.domain.exceptions.ConflictException;
 import com.projetopraticobackend.servicocatalogo.domain.exceptions.DomainException;
 import com.projetopraticobackend.servicocatalogo.infrastructure.category.persistence.CategoryJpaEntity;
 import com.projetopraticobackend.servicocatalogo.infrastructure.category.persistence.CategoryRepository;
@@ -27,6 +30,9 @@ public class UpdateCategoryUseCaseIT {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private GetCategoryByIdUseCase getCategoryByIdUseCase;
+
     @SpyBean
     private CategoryGateway categoryGatewaySpy;
 
@@ -91,7 +97,7 @@ public class UpdateCategoryUseCaseIT {
         Assertions.assertEquals(expectedErrorCount, notification.getErrors().size());
         Assertions.assertEquals(expectedErrorMessage, notification.firstError().message());
 
-        Mockito.verify(categoryGatewaySpy, Mockito.never()).update(Mockito.any());
+        Mockito.verify(categoryGatewaySpy, Mockito.never()).updateById(Mockito.any());
     }
 
     @Test
@@ -144,7 +150,7 @@ public class UpdateCategoryUseCaseIT {
 
         Mockito.doThrow(new IllegalStateException("Gateway error"))
                 .when(categoryGatewaySpy)
-                .update(Mockito.any());
+                .updateById(Mockito.any());
 
         final var notification = updateCategoryUseCase.execute(
                 UpdateCategoryCommand.with(expectedId.getValue(), expectedName, expectedDescription, expectedIsActive))
@@ -183,6 +189,65 @@ public class UpdateCategoryUseCaseIT {
     }
 
 
+    @Test
+    public void givenTwoCommandsWithTheSameVersion_whenCallsUpdateCategory_shouldRejectTheSecondOne(){
+
+        final var category = Category.newCategory("Film", null, true);
+
+        save(category);
+
+        final var expectedId = category.getId().getValue();
+
+        //As duas requisições leram a categoria na versão 0.
+        final var firstCommand = UpdateCategoryCommand.with(expectedId, "Filmes", null, true, 0L);
+        final var secondCommand = UpdateCategoryCommand.with(expectedId, "Séries", null, true, 0L);
+
+        Assertions.assertEquals(1, updateCategoryUseCase.execute(firstCommand).get().version());
+
+        Assertions.assertThrows(ConflictException.class, () -> updateCategoryUseCase.execute(secondCommand));
+
+        //A segunda requisição não sobrescreveu a primeira.
+        final var categoryFound = categoryRepository.findById(expectedId).get();
+
+        Assertions.assertEquals("Filmes", categoryFound.getName());
+        Assertions.assertEquals(1, categoryFound.getVersion());
+    }
+
+    /* Outra instância alterou a categoria, mas essa instância ainda tem a versão 0 no cache do "findById()". A atualização
+    * lê a versão do banco de dados, então ela não devolve um conflito falso, com ou sem a versão esperada. */
+    @Test
+    public void givenAStaleCachedCategory_whenCallsUpdateCategory_shouldUseTheCurrentVersion(){
+
+        final var category = Category.newCategory("Film", null, true);
+
+        save(category);
+
+        final var expectedId = category.getId().getValue();
+
+        Assertions.assertEquals(0, getCategoryByIdUseCase.execute(expectedId).version());
+
+        categoryRepository.updateById(CategoryJpaEntity.from(Category.with(category).update("Filme", null, true)));
+
+        Assertions.assertEquals(2, updateCategoryUseCase.execute(UpdateCategoryCommand.with(expectedId, "Filmes", null, true, 1L)).get().version());
+        Assertions.assertEquals(3, updateCategoryUseCase.execute(UpdateCategoryCommand.with(expectedId, "Séries", null, true)).get().version());
+
+        Assertions.assertEquals("Séries", getCategoryByIdUseCase.execute(expectedId).name());
+    }
+
+    /* A busca da categoria e o "UPDATE", sem o "SELECT" que o "merge()" faria antes dele. O "flush" é o do "commit" da
+     * transação, e ele não envia nenhum comando, pois o "UPDATE" já foi enviado diretamente. */
+    @Test
+    public void givenAValidCommand_whenCallsUpdateCategory_shouldStayWithinTheStatementBudget(final SqlStatistics sqlStatistics){
+
+        final var category = Category.newCategory("Film", null, true);
+
+        save(category);
+
+        final var command = UpdateCategoryCommand.with(category.getId().getValue(), "Filmes", null, true);
+
+        Assertions.assertEquals(SqlStatistics.Counts.of(2, 1, 1), sqlStatistics.measure(() -> updateCategoryUseCase.execute(command)));
+    }
+
     private void save(final Category... categories){
 
         final List<CategoryJpaEntity> categoriesEntities = Arrays.stream(categories)
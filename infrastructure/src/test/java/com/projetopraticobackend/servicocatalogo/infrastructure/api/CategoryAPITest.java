@@ -2,15 +2,47 @@ package com.projetopraticobackend.servicocatalogo.infrastructure.api;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.projetopraticobackend.servicocatalogo.ControllerTest;
+import com.projetopraticobackend.servicocatalogo.application.category.create.AsyncCreateCategoriesUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.create.CreateCategoriesOutput;
+import com.projetopraticobackend.servicocatalogo.application.category.create.CreateCategoriesUseCase;
 import com.projetopraticobackend.servicocatalogo.application.category.create.CreateCategoryOutput;
+import com.projetopraticobackend.servicocatalogo.application.category.create.AsyncCreateCategoryUseCase;
 import com.projetopraticobackend.servicocatalogo.application.category.create.CreateCategoryUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.create.DefaultAsyncCreateCategoriesUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.create.DefaultAsyncCreateCategoryUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.delete.AsyncDeleteCategoriesUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.delete.AsyncDeleteCategoryUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.delete.DefaultAsyncDeleteCategoriesUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.delete.DefaultAsyncDeleteCategoryUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.delete.DeleteCategoriesUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.delete.DeleteCategoryUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.retrieve.export.ExportCategoriesCommand;
+import com.projetopraticobackend.servicocatalogo.application.category.retrieve.export.ExportCategoriesUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.retrieve.get.AsyncGetCategoryByIdUseCase;
 import com.projetopraticobackend.servicocatalogo.application.category.retrieve.get.CategoryOutput;
+import com.projetopraticobackend.servicocatalogo.application.category.retrieve.get.DefaultAsyncGetCategoryByIdUseCase;
 import com.projetopraticobackend.servicocatalogo.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.retrieve.list.AsyncListCategoriesByCursorUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.retrieve.list.AsyncListCategoriesSliceUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.retrieve.list.AsyncListCategoriesUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.retrieve.list.CategoryListOutput;
+import com.projetopraticobackend.servicocatalogo.application.category.retrieve.list.DefaultAsyncListCategoriesByCursorUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.retrieve.list.DefaultAsyncListCategoriesSliceUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.retrieve.list.DefaultAsyncListCategoriesUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.retrieve.list.ListCategoriesByCursorUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.retrieve.list.ListCategoriesSliceUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.retrieve.list.ListCategoriesUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.update.AsyncUpdateCategoryUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.update.DefaultAsyncUpdateCategoryUseCase;
 import com.projetopraticobackend.servicocatalogo.application.category.update.UpdateCategoryOutput;
 import com.projetopraticobackend.servicocatalogo.application.category.update.UpdateCategoryUseCase;
 import com.projetopraticobackend.servicocatalogo.domain.category.Category;
 import com.projetopraticobackend.servicocatalogo.domain.category.CategoryID;
+import com.projetopraticobackend.servicocatalogo.domain.exceptions.ConflictException;
 import com.projetopraticobackend.servicocatalogo.domain.exceptions.DomainException;
+import com.projetopraticobackend.servicocatalogo.domain.pagination.CursorPagination;
+import com.projetopraticobackend.servicocatalogo.domain.pagination.Pagination;
+import com.projetopraticobackend.servicocatalogo.domain.pagination.SlicePagination;
 import com.projetopraticobackend.servicocatalogo.domain.exceptions.NotFoundException;
 import com.projetopraticobackend.servicocatalogo.domain.validation.Error;
 import com.projetopraticobackend.servicocatalogo.domain.validation.handler.Notification;
@@ -18,17 +50,28 @@ import com.projetopraticobackend.servicocatalogo.infrastructure.category.models.
 import com.projetopraticobackend.servicocatalogo.infrastructure.category.models.UpdateCategoryApiInput;
 import io.vavr.API;
 import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.RequestBuilder;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultHandlers;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executor;
 
 /* Nessa classe, teremos os testes integrados dos controllers de criação de categoria. */
 
@@ -38,6 +81,7 @@ import java.util.Objects;
 
 //A anotação acima apenas fará o "scan" do que estiver anotado como "@Controller" ou "@RestController".
 //Não será feito o "scan" dos "components" e dos "services", por isso, deveremos realizar o "mock" desses components.
+@Import(CategoryAPITest.AsyncUseCaseTestConfig.class)
 public class CategoryAPITest {
 
     @Autowired
@@ -49,12 +93,98 @@ public class CategoryAPITest {
     @MockBean //Estamos dizendo para o Spring que temos que criar uma versão desse bean totalmente mockada, porque, por padrão, o "@WebMvcTest" não carrega o contexto de "services" e "components".
     private CreateCategoryUseCase createCategoryUseCase;
 
+    @MockBean
+    private CreateCategoriesUseCase createCategoriesUseCase;
+
     @MockBean
     private GetCategoryByIdUseCase getCategoryByIdUseCase;
 
     @MockBean
     private UpdateCategoryUseCase updateCategoryUseCase;
 
+    @MockBean
+    private ListCategoriesUseCase listCategoriesUseCase;
+
+    @MockBean
+    private ListCategoriesSliceUseCase listCategoriesSliceUseCase;
+
+    @MockBean
+    private ListCategoriesByCursorUseCase listCategoriesByCursorUseCase;
+
+    @MockBean
+    private ExportCategoriesUseCase exportCategoriesUseCase;
+
+    @MockBean
+    private DeleteCategoryUseCase deleteCategoryUseCase;
+
+    @MockBean
+    private DeleteCategoriesUseCase deleteCategoriesUseCase;
+
+    /* O controller chama as versões assíncronas dos casos de uso. Aqui, elas executam os "mocks" acima na própria
+     * thread do teste ("Runnable::run"), assim, os "Mockito.when()" e "Mockito.verify()" continuam funcionando.
+     *
+     * Essa classe é registrada pelo "@Import" acima e não tem o "@TestConfiguration", pois os testes com
+     * "@SpringBootTest" fazem o "scan" do pacote e a carregariam junto com o "AsyncUseCaseConfig". */
+    static class AsyncUseCaseTestConfig {
+
+        private final Executor executor = Runnable::run;
+
+        @Bean
+        AsyncCreateCategoryUseCase asyncCreateCategoryUseCase(final CreateCategoryUseCase createCategoryUseCase) {
+            return new DefaultAsyncCreateCategoryUseCase(createCategoryUseCase, executor);
+        }
+
+        @Bean
+        AsyncGetCategoryByIdUseCase asyncGetCategoryByIdUseCase(final GetCategoryByIdUseCase getCategoryByIdUseCase) {
+            return new DefaultAsyncGetCategoryByIdUseCase(getCategoryByIdUseCase, executor);
+        }
+
+        @Bean
+        AsyncUpdateCategoryUseCase asyncUpdateCategoryUseCase(final UpdateCategoryUseCase updateCategoryUseCase) {
+            return new DefaultAsyncUpdateCategoryUseCase(updateCategoryUseCase, executor);
+        }
+
+        @Bean
+        AsyncListCategoriesUseCase asyncListCategoriesUseCase(final ListCategoriesUseCase listCategoriesUseCase) {
+            return new DefaultAsyncListCategoriesUseCase(listCategoriesUseCase, executor);
+        }
+
+        @Bean
+        AsyncListCategoriesSliceUseCase asyncListCategoriesSliceUseCase(final ListCategoriesSliceUseCase listCategoriesSliceUseCase) {
+            return new DefaultAsyncListCategoriesSliceUseCase(listCategoriesSliceUseCase, executor);
+        }
+
+        @Bean
+        AsyncDeleteCategoryUseCase asyncDeleteCategoryUseCase(final DeleteCategoryUseCase deleteCategoryUseCase) {
+            return new DefaultAsyncDeleteCategoryUseCase(deleteCategoryUseCase, executor);
+        }
+
+        @Bean
+        AsyncCreateCategoriesUseCase asyncCreateCategoriesUseCase(final CreateCategoriesUseCase createCategoriesUseCase) {
+            return new DefaultAsyncCreateCategoriesUseCase(createCategoriesUseCase, executor);
+        }
+
+        @Bean
+        AsyncDeleteCategoriesUseCase asyncDeleteCategoriesUseCase(final DeleteCategoriesUseCase deleteCategoriesUseCase) {
+            return new DefaultAsyncDeleteCategoriesUseCase(deleteCategoriesUseCase, executor);
+        }
+
+        @Bean
+        AsyncListCategoriesByCursorUseCase asyncListCategoriesByCursorUseCase(final ListCategoriesByCursorUseCase listCategoriesByCursorUseCase) {
+            return new DefaultAsyncListCategoriesByCursorUseCase(listCategoriesByCursorUseCase, executor);
+        }
+    }
+
+    /* Os endpoints que devolvem um "CompletableFuture" iniciam o processamento assíncrono da requisição. Mesmo que o
+     * "CompletableFuture" já esteja completo, precisamos fazer o "asyncDispatch()" para obtermos a resposta final. */
+    private ResultActions performAsync(final RequestBuilder request) throws Exception {
+        final var asyncResult = mockMvc.perform(request)
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        return mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(asyncResult));
+    }
+
     /* Esse será um teste de integração pois estamos fazendo a chamada HTTP real para o endpoint. Mesmo que estejamos
      * mockando o usecase, o controller está realmente sendo chamado, por isso temos um teste de integração. */
     @Test
@@ -80,7 +210,7 @@ public class CategoryAPITest {
                 .accept("application/json");
 
         //Estamos realizando uma requisição HTTP real para o controller e validando o status retornado e o header "Location".
-        mockMvc.perform(request)
+        performAsync(request)
                 .andDo(MockMvcResultHandlers.print()) //Aqui temos vários predicados para validarmos as respostas.
                 .andExpect(MockMvcResultMatchers.status().isCreated())
                 .andExpect(MockMvcResultMatchers.header().string("Location", "/categories/123"))
@@ -97,6 +227,66 @@ public class CategoryAPITest {
         ));
     }
 
+    @Test
+    public void givenValidInputs_whenCallsCreateCategories_shouldReturnCreatedWithTheIds() throws Exception {
+
+        final var input = List.of(
+                new CreateCategoryApiInput("Filmes", "A categoria mais assistida", true),
+                new CreateCategoryApiInput("Séries", null, null));
+
+        Mockito.when(createCategoriesUseCase.execute(Mockito.any()))
+                .thenReturn(API.Right(new CreateCategoriesOutput(List.of(
+                        CreateCategoriesOutput.Item.created(0, "123"),
+                        CreateCategoriesOutput.Item.created(1, "456")))));
+
+        final var request = MockMvcRequestBuilders.post("/categories/batch")
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(objectMapper.writeValueAsString(input))
+                .accept("application/json");
+
+        performAsync(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isCreated())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items", Matchers.hasSize(2)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[0].id", Matchers.equalTo("123")))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[1].id", Matchers.equalTo("456")));
+
+        //O "is_active" que não foi enviado deve ser "true", assim como na criação de uma única categoria.
+        Mockito.verify(createCategoriesUseCase, Mockito.times(1)).execute(Mockito.argThat(command ->
+                command.items().size() == 2
+                        && Objects.equals(command.items().get(0).name(), "Filmes")
+                        && Objects.equals(command.items().get(1).name(), "Séries")
+                        && command.items().get(1).isActive()));
+    }
+
+    @Test
+    public void givenSomeInvalidInputs_whenCallsCreateCategories_shouldReturnMultiStatusWithTheErrorsByItem() throws Exception {
+
+        final var expectedErrorMessage = "'name' should not be null";
+
+        final var input = List.of(
+                new CreateCategoryApiInput(null, null, true),
+                new CreateCategoryApiInput("Filmes", null, true));
+
+        Mockito.when(createCategoriesUseCase.execute(Mockito.any()))
+                .thenReturn(API.Right(new CreateCategoriesOutput(List.of(
+                        CreateCategoriesOutput.Item.failed(0, List.of(new Error(expectedErrorMessage))),
+                        CreateCategoriesOutput.Item.created(1, "456")))));
+
+        final var request = MockMvcRequestBuilders.post("/categories/batch")
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(objectMapper.writeValueAsString(input))
+                .accept("application/json");
+
+        performAsync(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isMultiStatus())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[0].id", Matchers.nullValue()))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[0].errors[0].message", Matchers.equalTo(expectedErrorMessage)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[1].id", Matchers.equalTo("456")))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.items[1].errors", Matchers.hasSize(0)));
+    }
+
     //Abaixo, temos o cenário triste.
     @Test
     public void givenAInvalidName_whenCallsCreateCategory_thenShouldReturnNotification() throws Exception {
@@ -123,7 +313,7 @@ public class CategoryAPITest {
                 .accept("application/json");
 
         //Estamos realizando uma requisição HTTP real para o controller e validando o status retornado e o header "Location".
-        mockMvc.perform(request)
+        performAsync(request)
                 .andDo(MockMvcResultHandlers.print()) //Aqui temos vários predicados para validarmos as respostas.
                 .andExpect(MockMvcResultMatchers.status().isUnprocessableEntity())
                 .andExpect(MockMvcResultMatchers.header().string("Location", Matchers.nullValue()))
@@ -161,7 +351,7 @@ public class CategoryAPITest {
                 .contentType(MediaType.APPLICATION_JSON_VALUE)
                 .content(objectMapper.writeValueAsString(input));
 
-        final var response = mockMvc.perform(request)
+        final var response = performAsync(request)
                 .andDo(MockMvcResultHandlers.print());
 
         //Then - São todas as verificações.
@@ -201,7 +391,7 @@ public class CategoryAPITest {
         final var request = MockMvcRequestBuilders.get("/categories/{id}", expectedId.getValue())
                 .contentType(MediaType.APPLICATION_JSON_VALUE);
 
-        final var response = mockMvc.perform(request)
+        final var response = performAsync(request)
                 .andDo(MockMvcResultHandlers.print());
 
 
@@ -214,11 +404,73 @@ public class CategoryAPITest {
                 .andExpect(MockMvcResultMatchers.jsonPath("$.is_active", Matchers.equalTo(expectedIsActive)))
                 .andExpect(MockMvcResultMatchers.jsonPath("$.created_at", Matchers.equalTo(category.getCreatedAt().toString())))
                 .andExpect(MockMvcResultMatchers.jsonPath("$.updated_at", Matchers.equalTo(category.getUpdatedAt().toString())))
-                .andExpect(MockMvcResultMatchers.jsonPath("$.deleted_at", Matchers.nullValue()));
+                .andExpect(MockMvcResultMatchers.jsonPath("$.deleted_at", Matchers.nullValue()))
+                .andExpect(MockMvcResultMatchers.header().string("ETag", Matchers.startsWith("\"" + expectedId.getValue() + "-")))
+                .andExpect(MockMvcResultMatchers.header().exists("Last-Modified"));
 
         Mockito.verify(getCategoryByIdUseCase, Mockito.times(1)).execute(Mockito.eq(expectedId.getValue()));
     }
 
+    @Test
+    public void givenTheCurrentETag_whenCallsGetCategory_shouldReturnNotModifiedWithoutBody() throws Exception {
+
+        final var category = Category.newCategory("Filmes", null, true);
+        final var expectedId = category.getId().getValue();
+
+        Mockito.when(getCategoryByIdUseCase.execute(Mockito.any())).thenReturn(CategoryOutput.from(category));
+
+        //A primeira requisição nos entrega o "ETag" da categoria.
+        final var etag = performAsync(MockMvcRequestBuilders.get("/categories/{id}", expectedId).contentType(MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        final var request = MockMvcRequestBuilders.get("/categories/{id}", expectedId)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .header("If-None-Match", etag);
+
+        performAsync(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isNotModified())
+                .andExpect(MockMvcResultMatchers.header().string("ETag", etag))
+                .andExpect(MockMvcResultMatchers.content().string(""));
+    }
+
+    @Test
+    public void givenAnOutdatedETag_whenCallsGetCategory_shouldReturnTheCategory() throws Exception {
+
+        //A categoria foi alterada depois que o cliente a leu, ou seja, ela está na versão seguinte à do "ETag" enviado.
+        final var category = Category.nextVersion(Category.newCategory("Filmes", null, true));
+        final var expectedId = category.getId().getValue();
+
+        Mockito.when(getCategoryByIdUseCase.execute(Mockito.any())).thenReturn(CategoryOutput.from(category));
+
+        final var request = MockMvcRequestBuilders.get("/categories/{id}", expectedId)
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .header("If-None-Match", "\"" + expectedId + "-0\"");
+
+        performAsync(request)
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.id", Matchers.equalTo(expectedId)));
+    }
+
+    @Test
+    public void givenAnIfModifiedSinceAfterTheUpdate_whenCallsGetCategory_shouldReturnNotModified() throws Exception {
+
+        final var category = Category.newCategory("Filmes", null, true);
+
+        Mockito.when(getCategoryByIdUseCase.execute(Mockito.any())).thenReturn(CategoryOutput.from(category));
+
+        final var request = MockMvcRequestBuilders.get("/categories/{id}", category.getId().getValue())
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .header("If-Modified-Since", "Wed, 01 Jan 2098 00:00:00 GMT");
+
+        performAsync(request)
+                .andExpect(MockMvcResultMatchers.status().isNotModified())
+                .andExpect(MockMvcResultMatchers.content().string(""));
+    }
+
     @Test
     public void givenAInvalidId_whenCallsGetCategory_shouldReturnNotFound() throws Exception {
         //Given
@@ -233,7 +485,7 @@ public class CategoryAPITest {
                 .accept(MediaType.APPLICATION_JSON_VALUE)
                 .contentType(MediaType.APPLICATION_JSON_VALUE);
 
-        final var response = mockMvc.perform(request)
+        final var response = performAsync(request)
                 .andDo(MockMvcResultHandlers.print());
 
         //Then
@@ -253,7 +505,7 @@ public class CategoryAPITest {
         final var expectedIsActive = true;
 
         Mockito.when(updateCategoryUseCase.execute(Mockito.any()))
-                .thenReturn(API.Right(UpdateCategoryOutput.from(expectedId)));
+                .thenReturn(API.Right(UpdateCategoryOutput.from(expectedId, 1)));
 
         //when
         final var request = MockMvcRequestBuilders.put("/categories/{id}", expectedId)
@@ -261,20 +513,363 @@ public class CategoryAPITest {
                 .content(objectMapper.writeValueAsString(new UpdateCategoryApiInput(expectedName, expectedDescription, expectedIsActive)))
                 .accept(MediaType.APPLICATION_JSON_VALUE);
 
-        final var response = mockMvc.perform(request)
+        final var response = performAsync(request)
                 .andDo(MockMvcResultHandlers.print());
 
         //then
         response.andExpect(MockMvcResultMatchers.status().isOk())
                 .andExpect(MockMvcResultMatchers.header().string("Content-Type", MediaType.APPLICATION_JSON_VALUE))
-                .andExpect(MockMvcResultMatchers.jsonPath("$.id", Matchers.equalTo(expectedId)));
+                .andExpect(MockMvcResultMatchers.header().string("ETag", "\"123-1\""))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.id", Matchers.equalTo(expectedId)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.version", Matchers.equalTo(1)));
 
         //Estamos nos certificando que os argumentos passados para o "UpdateCategoryUseCase" estão corretos.
         Mockito.verify(updateCategoryUseCase, Mockito.times(1)).execute(Mockito.argThat(
                 command -> command.id().equals(expectedId) &&
                            command.name().equals(expectedName) &&
                            command.description().equals(expectedDescription) &&
-                           command.isActive() == expectedIsActive
+                           command.isActive() == expectedIsActive &&
+                           command.expectedVersions() == null
+        ));
+    }
+
+    @Test
+    public void givenAnIfMatchHeader_whenCallsUpdateCategory_shouldSendTheExpectedVersion() throws Exception {
+
+        //given
+        final var expectedId = "123";
+
+        Mockito.when(updateCategoryUseCase.execute(Mockito.any()))
+                .thenReturn(API.Right(UpdateCategoryOutput.from(expectedId, 5)));
+
+        //when
+        final var request = MockMvcRequestBuilders.put("/categories/{id}", expectedId)
+                .header(HttpHeaders.IF_MATCH, "\"123-4\"")
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(objectMapper.writeValueAsString(new UpdateCategoryApiInput("Filmes", null, true)))
+                .accept(MediaType.APPLICATION_JSON_VALUE);
+
+        //then
+        performAsync(request)
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string("ETag", "\"123-5\""));
+
+        Mockito.verify(updateCategoryUseCase, Mockito.times(1)).execute(Mockito.argThat(
+                command -> Set.of(4L).equals(command.expectedVersions())
+        ));
+    }
+
+    //O "If-Match" pode ter vários "ETags", inclusive fracos. Os que são de outra categoria são ignorados.
+    @Test
+    public void givenAnIfMatchHeaderWithAListOfETags_whenCallsUpdateCategory_shouldSendAllTheExpectedVersions() throws Exception {
+
+        //given
+        final var expectedId = "123";
+
+        Mockito.when(updateCategoryUseCase.execute(Mockito.any()))
+                .thenReturn(API.Right(UpdateCategoryOutput.from(expectedId, 5)));
+
+        //when
+        final var request = MockMvcRequestBuilders.put("/categories/{id}", expectedId)
+                .header(HttpHeaders.IF_MATCH, "\"456-4\", W/\"123-3\" , \"123-4\"")
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(objectMapper.writeValueAsString(new UpdateCategoryApiInput("Filmes", null, true)))
+                .accept(MediaType.APPLICATION_JSON_VALUE);
+
+        //then
+        performAsync(request)
+                .andExpect(MockMvcResultMatchers.status().isOk());
+
+        Mockito.verify(updateCategoryUseCase, Mockito.times(1)).execute(Mockito.argThat(
+                command -> Set.of(3L, 4L).equals(command.expectedVersions())
+        ));
+    }
+
+    @Test
+    public void givenAConcurrentUpdate_whenCallsUpdateCategory_shouldReturnConflict() throws Exception {
+
+        //given
+        final var expectedId = CategoryID.from("123");
+        final var expectedErrorMessage = "Category with ID 123 was modified by another request";
+
+        Mockito.when(updateCategoryUseCase.execute(Mockito.any()))
+                .thenThrow(ConflictException.with(Category.class, expectedId));
+
+        //when
+        final var request = MockMvcRequestBuilders.put("/categories/{id}", expectedId.getValue())
+                .header(HttpHeaders.IF_MATCH, "\"123-4\"")
+                .contentType(MediaType.APPLICATION_JSON_VALUE)
+                .content(objectMapper.writeValueAsString(new UpdateCategoryApiInput("Filmes", null, true)))
+                .accept(MediaType.APPLICATION_JSON_VALUE);
+
+        final var response = performAsync(request)
+                .andDo(MockMvcResultHandlers.print());
+
+        //then
+        response.andExpect(MockMvcResultMatchers.status().isConflict())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message", Matchers.equalTo(expectedErrorMessage)));
+    }
+
+    @Test
+    public void givenValidParams_whenCallsListCategories_shouldReturnCategories() throws Exception {
+
+        //Given
+        final var category = Category.newCategory("Filmes", null, true);
+
+        final var expectedPage = 0;
+        final var expectedPerPage = 10;
+        final var expectedTerms = "fil";
+        final var expectedSort = "name";
+        final var expectedDirection = "asc";
+
+        final var expectedItems = List.of(CategoryListOutput.from(category));
+
+        Mockito.when(listCategoriesUseCase.execute(Mockito.any()))
+                .thenReturn(new Pagination<>(expectedPage, expectedPerPage, expectedItems.size(), expectedItems));
+
+        //When
+        final var request = MockMvcRequestBuilders.get("/categories")
+                .queryParam("page", String.valueOf(expectedPage))
+                .queryParam("perPage", String.valueOf(expectedPerPage))
+                .queryParam("search", expectedTerms)
+                .accept(MediaType.APPLICATION_JSON_VALUE);
+
+        final var response = performAsync(request)
+                .andDo(MockMvcResultHandlers.print());
+
+        //Then
+        response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.currentPage", Matchers.equalTo(expectedPage)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.perPage", Matchers.equalTo(expectedPerPage)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.totalElements", Matchers.equalTo(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.elements", Matchers.hasSize(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.elements[0].id", Matchers.equalTo(category.getId().getValue())))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.elements[0].name", Matchers.equalTo("Filmes")));
+
+        Mockito.verify(listCategoriesSliceUseCase, Mockito.never()).execute(Mockito.any());
+        Mockito.verify(listCategoriesUseCase, Mockito.times(1)).execute(Mockito.argThat(
+                query -> query.page() == expectedPage &&
+                         query.perPage() == expectedPerPage &&
+                         query.terms().equals(expectedTerms) &&
+                         query.sort().equals(expectedSort) &&
+                         query.direction().equals(expectedDirection)
         ));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void givenCountFalse_whenCallsListCategories_shouldReturnHasNextWithoutTotal() throws Exception {
+
+        //Given
+        final var category = Category.newCategory("Filmes", null, true);
+
+        final var expectedItems = List.of(CategoryListOutput.from(category));
+
+        Mockito.when(listCategoriesSliceUseCase.execute(Mockito.any()))
+                .thenReturn(new SlicePagination<>(0, 1, true, expectedItems));
+
+        //When
+        final var request = MockMvcRequestBuilders.get("/categories")
+                .queryParam("perPage", "1")
+                .queryParam("count", "false")
+                .accept(MediaType.APPLICATION_JSON_VALUE);
+
+        final var response = performAsync(request)
+                .andDo(MockMvcResultHandlers.print());
+
+        //Then
+        response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.currentPage", Matchers.equalTo(0)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.perPage", Matchers.equalTo(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.hasNext", Matchers.equalTo(true)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.totalElements").doesNotExist())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.elements[0].id", Matchers.equalTo(category.getId().getValue())));
+
+        //A listagem com a contagem não pode ser chamada.
+        Mockito.verify(listCategoriesUseCase, Mockito.never()).execute(Mockito.any());
+    }
+
+    @Test
+    public void givenTheCurrentPageETag_whenCallsListCategories_shouldReturnNotModified() throws Exception {
+
+        final var category = Category.newCategory("Filmes", null, true);
+        final var expectedItems = List.of(CategoryListOutput.from(category));
+
+        Mockito.when(listCategoriesUseCase.execute(Mockito.any()))
+                .thenReturn(new Pagination<>(0, 10, 1, expectedItems));
+
+        final var etag = performAsync(MockMvcRequestBuilders.get("/categories").accept(MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().exists("ETag"))
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        performAsync(MockMvcRequestBuilders.get("/categories").accept(MediaType.APPLICATION_JSON_VALUE).header("If-None-Match", etag))
+                .andExpect(MockMvcResultMatchers.status().isNotModified())
+                .andExpect(MockMvcResultMatchers.content().string(""));
+
+        //Se a categoria for alterada, o "ETag" da página também muda.
+        Mockito.when(listCategoriesUseCase.execute(Mockito.any()))
+                .thenReturn(new Pagination<>(0, 10, 1, List.of(CategoryListOutput.from(Category.nextVersion(category.clone().update("Séries", null, true))))));
+
+        performAsync(MockMvcRequestBuilders.get("/categories").accept(MediaType.APPLICATION_JSON_VALUE).header("If-None-Match", etag))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.elements[0].name", Matchers.equalTo("Séries")));
+    }
+
+    @Test
+    public void givenACursor_whenCallsListCategoriesByCursor_shouldReturnCategoriesAndNextCursor() throws Exception {
+
+        //Given
+        final var category = Category.newCategory("Filmes", null, true);
+
+        final var expectedAfter = "cHJldmlvdXM";
+        final var expectedNext = "bmV4dA";
+        final var expectedPerPage = 1;
+
+        Mockito.when(listCategoriesByCursorUseCase.execute(Mockito.any()))
+                .thenReturn(new CursorPagination<>(expectedPerPage, expectedNext, List.of(CategoryListOutput.from(category))));
+
+        //When
+        final var request = MockMvcRequestBuilders.get("/categories/cursor")
+                .queryParam("after", expectedAfter)
+                .queryParam("perPage", String.valueOf(expectedPerPage))
+                .accept(MediaType.APPLICATION_JSON_VALUE);
+
+        final var response = performAsync(request)
+                .andDo(MockMvcResultHandlers.print());
+
+        //Then
+        response.andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.perPage", Matchers.equalTo(expectedPerPage)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.next", Matchers.equalTo(expectedNext)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.elements", Matchers.hasSize(1)))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.elements[0].id", Matchers.equalTo(category.getId().getValue())));
+
+        Mockito.verify(listCategoriesByCursorUseCase, Mockito.times(1)).execute(Mockito.argThat(
+                query -> query.after().equals(expectedAfter) &&
+                         query.perPage() == expectedPerPage &&
+                         query.sort().equals("name") &&
+                         query.direction().equals("asc")
+        ));
+    }
+
+    @Test
+    public void givenAnInvalidCursor_whenCallsListCategoriesByCursor_shouldReturnUnprocessableEntity() throws Exception {
+
+        //Given
+        final var expectedErrorMessage = "'after' is not a valid cursor";
+
+        Mockito.when(listCategoriesByCursorUseCase.execute(Mockito.any()))
+                .thenThrow(DomainException.with(new Error(expectedErrorMessage)));
+
+        //When
+        final var request = MockMvcRequestBuilders.get("/categories/cursor")
+                .queryParam("after", "invalid")
+                .accept(MediaType.APPLICATION_JSON_VALUE);
+
+        final var response = performAsync(request)
+                .andDo(MockMvcResultHandlers.print());
+
+        //Then
+        response.andExpect(MockMvcResultMatchers.status().isUnprocessableEntity())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message", Matchers.equalTo(expectedErrorMessage)));
+    }
+
+    //A ordenação é validada antes de chegar ao caso de uso, ao invés de falhar dentro do Hibernate com um erro "500".
+    @Test
+    public void givenANotIndexedSortField_whenCallsListCategories_shouldReturnUnprocessableEntity() throws Exception {
+
+        final var expectedErrorMessage = "'description' is not a supported sort field";
+
+        final var request = MockMvcRequestBuilders.get("/categories")
+                .queryParam("sort", "description")
+                .accept(MediaType.APPLICATION_JSON_VALUE);
+
+        mockMvc.perform(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isUnprocessableEntity())
+                .andExpect(MockMvcResultMatchers.jsonPath("$.message", Matchers.equalTo(expectedErrorMessage)));
+
+        Mockito.verifyNoInteractions(listCategoriesUseCase, listCategoriesSliceUseCase);
+    }
+
+    @Test
+    public void givenFilters_whenCallsExportCategories_shouldStreamOneJsonPerLine() throws Exception {
+
+        final var filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var series = Category.newCategory("Séries", null, true);
+
+        final var expectedUpdatedSince = Instant.parse("2022-06-01T00:00:00Z");
+
+        Mockito.doAnswer(invocation -> {
+            final ExportCategoriesCommand command = invocation.getArgument(0);
+            command.consumer().accept(CategoryListOutput.from(filmes));
+            command.consumer().accept(CategoryListOutput.from(series));
+            return null;
+        }).when(exportCategoriesUseCase).execute(Mockito.any());
+
+        final var request = MockMvcRequestBuilders.get("/categories/export")
+                .queryParam("active", "true")
+                .queryParam("updatedSince", "2022-06-01T00:00:00Z")
+                .accept("application/x-ndjson");
+
+        //A resposta é escrita de forma assíncrona, então precisamos esperar o "StreamingResponseBody" terminar.
+        final var asyncResult = mockMvc.perform(request)
+                .andExpect(MockMvcResultMatchers.request().asyncStarted())
+                .andReturn();
+
+        final var content = mockMvc.perform(MockMvcRequestBuilders.asyncDispatch(asyncResult))
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andExpect(MockMvcResultMatchers.header().string("Content-Type", "application/x-ndjson"))
+                .andReturn()
+                .getResponse()
+                .getContentAsString(StandardCharsets.UTF_8);
+
+        final var lines = content.split("\n");
+
+        Assertions.assertEquals(2, lines.length);
+        Assertions.assertEquals(filmes.getId().getValue(), objectMapper.readTree(lines[0]).get("id").asText());
+        Assertions.assertEquals("Séries", objectMapper.readTree(lines[1]).get("name").asText());
+        Assertions.assertTrue(objectMapper.readTree(lines[1]).get("is_active").asBoolean());
+
+        Mockito.verify(exportCategoriesUseCase, Mockito.times(1)).execute(Mockito.argThat(command ->
+                Boolean.TRUE.equals(command.active()) && expectedUpdatedSince.equals(command.updatedSince())));
+    }
+
+    @Test
+    public void givenAValidId_whenCallsDeleteCategory_shouldReturnNoContent() throws Exception {
+
+        final var expectedId = "123";
+
+        Mockito.doNothing().when(deleteCategoryUseCase).execute(Mockito.any());
+
+        final var request = MockMvcRequestBuilders.delete("/categories/{id}", expectedId);
+
+        performAsync(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isNoContent());
+
+        Mockito.verify(deleteCategoryUseCase, Mockito.times(1)).execute(Mockito.eq(expectedId));
+    }
+
+    @Test
+    public void givenAListOfIds_whenCallsDeleteCategories_shouldReturnNoContent() throws Exception {
+
+        final var expectedIds = List.of("123", "456", "789");
+
+        Mockito.doNothing().when(deleteCategoriesUseCase).execute(Mockito.any());
+
+        final var request = MockMvcRequestBuilders.delete("/categories/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(expectedIds));
+
+        performAsync(request)
+                .andDo(MockMvcResultHandlers.print())
+                .andExpect(MockMvcResultMatchers.status().isNoContent());
+
+        //Todos os IDs são enviados em um único comando, e não em uma chamada por ID.
+        Mockito.verify(deleteCategoriesUseCase, Mockito.times(1)).execute(Mockito.argThat(command ->
+                expectedIds.equals(command.ids())));
+    }
+}
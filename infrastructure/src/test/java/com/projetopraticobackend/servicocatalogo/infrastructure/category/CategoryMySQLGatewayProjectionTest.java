@@ -0,0 +1,83 @@
+package com.projetopraticobackend.servicocatalogo.infrastructure.category;
+
+import com.projetopraticobackend.servicocatalogo.MySQLGatewayTest;
+import com.projetopraticobackend.servicocatalogo.domain.category.Category;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryPreview;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategorySearchQuery;
+import com.projetopraticobackend.servicocatalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.projetopraticobackend.servicocatalogo.infrastructure.category.persistence.CategoryRepository;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+
+/* Nesses testes, comparamos a listagem que monta o "CategoryPreview" direto da consulta com a listagem que busca os
+* agregados. A diferença de alocação entre as duas é medida no "CategoryPreviewBenchmark", do módulo de "benchmarks".
+*
+* Desabilitamos a transação do "@DataJpaTest" para que cada busca tenha o seu próprio contexto de persistência, assim
+* como acontece em uma requisição. Com uma única transação, as entidades da primeira busca seriam reaproveitadas. */
+@MySQLGatewayTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CategoryMySQLGatewayProjectionTest {
+
+    @Autowired private CategoryMySQLGateway categoryMySQLGateway;
+
+    @Autowired private CategoryRepository categoryRepository;
+
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    public void givenPrePersistedCategories_whenCallsFindAllPreviews_shouldReturnTheSameAsFindAll(){
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(Category.newCategory("Filmes", "A categoria mais assistida", true)),
+                CategoryJpaEntity.from(Category.newCategory("Séries", null, false)),
+                CategoryJpaEntity.from(Category.newCategory("Documentários", "Histórias reais", true)),
+                CategoryJpaEntity.from(Category.newCategory("Kids", "Filmes para crianças", true))
+        ));
+
+        final var queries = List.of(
+                new CategorySearchQuery(0, 10, "", "name", "asc"),
+                new CategorySearchQuery(1, 3, "", "name", "asc"), //É a última página, com apenas uma categoria.
+                new CategorySearchQuery(5, 3, "", "name", "asc"), //Essa página não existe.
+                new CategorySearchQuery(0, 2, "filmes", "createdAt", "desc"),
+                new CategorySearchQuery(0, 10, "filmes", "relevance", "asc")
+        );
+
+        for (final var query : queries) {
+            final var expected = categoryMySQLGateway.findAll(query).map(CategoryPreview::from);
+            final var actual = categoryMySQLGateway.findAllPreviews(query);
+
+            Assertions.assertEquals(expected, actual, query.toString());
+        }
+    }
+
+    @Test
+    public void givenPrePersistedCategories_whenCallsFindAllPreviews_shouldNotLoadEntities(){
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(Category.newCategory("Filmes", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Séries", null, true))
+        ));
+
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        final var previews = categoryMySQLGateway.findAllPreviews(new CategorySearchQuery(0, 10, "", "name", "asc"));
+
+        Assertions.assertEquals(2, previews.totalElements());
+        Assertions.assertEquals(0, statistics.getEntityLoadCount());
+
+        //Como a página veio incompleta, o total já é conhecido e o "COUNT(*)" não é executado.
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+
+        categoryMySQLGateway.findAll(new CategorySearchQuery(0, 10, "", "name", "asc"));
+
+        Assertions.assertEquals(2, statistics.getEntityLoadCount());
+    }
+}
@@ -0,0 +1,147 @@
+package com.projetopraticobackend.servicocatalogo.infrastructure.category;
+
+import com.projetopraticobackend.servicocatalogo.MySQLGatewayTest;
+import com.projetopraticobackend.servicocatalogo.domain.category.Category;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategorySearchQuery;
+import com.projetopraticobackend.servicocatalogo.infrastructure.category.persistence.CategoryJpaEntity;
+import com.projetopraticobackend.servicocatalogo.infrastructure.category.persistence.CategoryRepository;
+import com.projetopraticobackend.servicocatalogo.infrastructure.category.search.CategorySearchIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+
+/* Nesses testes, a busca por termos é feita pelo índice do Lucene.
+*
+* O "@DataJpaTest" abre uma transação por teste e faz o "rollback" no final. Como o índice apenas é atualizado após o
+* "commit", desabilitamos essa transação, e cada operação do repositório faz o seu próprio "commit". */
+@MySQLGatewayTest
+@TestPropertySource(properties = {
+        "category.search.lucene.enabled=true",
+        "category.cache.invalidation.enabled=true",
+        "category.cache.invalidation.delay=1h" //O poller nunca executa durante os testes, então o índice apenas recebe as escritas feitas por eles.
+})
+@Import(SimpleMeterRegistry.class) //O "@DataJpaTest" não sobe as métricas, e o "CategoryInvalidationPoller" registra os seus contadores.
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CategoryMySQLGatewaySearchIndexTest {
+
+    @Autowired private CategoryMySQLGateway categoryMySQLGateway;
+
+    @Autowired private CategoryRepository categoryRepository;
+
+    @Autowired private CategorySearchIndex categorySearchIndex;
+
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void cleanUp(){
+        //A "CleanUpExtension" limpa a tabela diretamente pelo repositório, então reconstruímos o índice a partir da tabela vazia.
+        categorySearchIndex.rebuild();
+    }
+
+    @Test
+    public void givenPrePersistedCategories_whenRebuildsTheIndex_shouldFindThemByPrefix(){
+
+        final var filmes = Category.newCategory("Filmes", null, true);
+
+        //Salvando direto pelo repositório, o índice não fica sabendo da categoria, assim como acontece com os dados que já existem ao subir a aplicação.
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(Category.newCategory("Séries", null, true))
+        ));
+
+        Assertions.assertEquals(0, categoryMySQLGateway.findAll(new CategorySearchQuery(0, 10, "fil", "relevance", "asc")).totalElements());
+
+        categorySearchIndex.rebuild();
+
+        final var categories = categoryMySQLGateway.findAll(new CategorySearchQuery(0, 10, "fil", "relevance", "asc"));
+
+        Assertions.assertEquals(1, categories.totalElements());
+        Assertions.assertEquals(filmes.getId(), categories.elements().get(0).getId());
+    }
+
+    @Test
+    public void givenATypoAndNoAccents_whenCallsFindAll_shouldFindTheCategory(){
+
+        final var documentarios = categoryMySQLGateway.create(Category.newCategory("Documentários", "Histórias reais", true));
+        categoryMySQLGateway.create(Category.newCategory("Filmes", null, true));
+
+        //"documentarois" tem duas letras trocadas e não tem o acento.
+        final var categories = categoryMySQLGateway.findAll(new CategorySearchQuery(0, 10, "documentarois", "relevance", "asc"));
+
+        Assertions.assertEquals(1, categories.totalElements());
+        Assertions.assertEquals(documentarios.getId(), categories.elements().get(0).getId());
+    }
+
+    @Test
+    public void givenTermsInNameAndDescription_whenSortsByRelevance_shouldRankNameMatchesFirst(){
+
+        final var kids = categoryMySQLGateway.create(Category.newCategory("Kids", "Desenhos e animações", true));
+        final var animes = categoryMySQLGateway.create(Category.newCategory("Animes", "Animações japonesas para kids", true));
+        categoryMySQLGateway.create(Category.newCategory("Filmes", null, true));
+
+        final var categories = categoryMySQLGateway.findAll(new CategorySearchQuery(0, 10, "kids", "relevance", "asc"));
+
+        Assertions.assertEquals(2, categories.totalElements());
+        Assertions.assertEquals(kids.getId(), categories.elements().get(0).getId());
+        Assertions.assertEquals(animes.getId(), categories.elements().get(1).getId());
+    }
+
+    @Test
+    public void givenManyMatches_whenCallsFindAllSortedByName_shouldReturnPagesHydratedWithASingleQuery(){
+
+        categoryMySQLGateway.create(Category.newCategory("Filmes de ação", null, true));
+        categoryMySQLGateway.create(Category.newCategory("Filmes de terror", null, true));
+        categoryMySQLGateway.create(Category.newCategory("Filmes antigos", null, true));
+        categoryMySQLGateway.create(Category.newCategory("Séries", null, true));
+
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        final var firstPage = categoryMySQLGateway.findAll(new CategorySearchQuery(0, 2, "filmes", "name", "asc"));
+
+        //A busca e a contagem são feitas pelo Lucene. No banco de dados, temos apenas o "WHERE id IN (...)".
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+
+        Assertions.assertEquals(3, firstPage.totalElements());
+        Assertions.assertEquals(List.of("Filmes antigos", "Filmes de ação"), firstPage.elements().stream().map(Category::getName).toList());
+
+        final var lastPage = categoryMySQLGateway.findSlice(new CategorySearchQuery(1, 2, "filmes", "name", "asc"));
+
+        Assertions.assertFalse(lastPage.hasNext());
+        Assertions.assertEquals(List.of("Filmes de terror"), lastPage.elements().stream().map(Category::getName).toList());
+    }
+
+    @Test
+    public void givenUpdatedAndDeletedCategories_whenCallsFindAll_shouldReflectTheChanges(){
+
+        final var filmes = categoryMySQLGateway.create(Category.newCategory("Film", null, true));
+        final var series = categoryMySQLGateway.create(Category.newCategory("Séries", null, true));
+
+        categoryMySQLGateway.update(filmes.clone().update("Documentários", null, true));
+        categoryMySQLGateway.deleteById(series.getId());
+
+        Assertions.assertEquals(0, categoryMySQLGateway.findAll(new CategorySearchQuery(0, 10, "film", "relevance", "asc")).totalElements());
+        Assertions.assertEquals(0, categoryMySQLGateway.findAll(new CategorySearchQuery(0, 10, "series", "relevance", "asc")).totalElements());
+
+        final var categories = categoryMySQLGateway.findAll(new CategorySearchQuery(0, 10, "documentarios", "relevance", "asc"));
+
+        Assertions.assertEquals(1, categories.totalElements());
+        Assertions.assertEquals(filmes.getId(), categories.elements().get(0).getId());
+    }
+
+    //Sem a invalidação entre instâncias, o índice não veria as escritas das outras instâncias, então a aplicação não sobe.
+    @Test
+    public void givenTheInvalidationDisabled_whenCreatesTheIndex_shouldFailFast(){
+        Assertions.assertThrows(IllegalStateException.class, () -> new CategorySearchIndex(categoryRepository, false));
+    }
+}
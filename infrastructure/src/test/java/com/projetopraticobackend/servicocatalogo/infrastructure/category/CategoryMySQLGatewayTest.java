@@ -1,16 +1,29 @@
 package com.projetopraticobackend.servicocatalogo.infrastructure.category;
 
 import com.projetopraticobackend.servicocatalogo.domain.category.Category;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryCursorQuery;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryExportQuery;
 import com.projetopraticobackend.servicocatalogo.domain.category.CategoryID;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryPreview;
 import com.projetopraticobackend.servicocatalogo.domain.category.CategorySearchQuery;
 import com.projetopraticobackend.servicocatalogo.MySQLGatewayTest;
+import com.projetopraticobackend.servicocatalogo.domain.exceptions.DomainException;
+import com.projetopraticobackend.servicocatalogo.infrastructure.category.persistence.CategoryIdType;
 import com.projetopraticobackend.servicocatalogo.infrastructure.category.persistence.CategoryJpaEntity;
 import com.projetopraticobackend.servicocatalogo.infrastructure.category.persistence.CategoryRepository;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
-
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -32,6 +45,12 @@ class CategoryMySQLGatewayTest {
 
     @Autowired private CategoryRepository categoryRepository;
 
+    @Autowired private EntityManagerFactory entityManagerFactory;
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @Autowired private EntityManager entityManager;
+
 // Sempre queremos deletar todas as informações que foram manipuladas pelo teste anterior ao utilizarmos um teste integrado.
 // Para isso, podemos utilizar o método abaixo ou criarmos uma "extension".
     @BeforeEach
@@ -91,6 +110,60 @@ class CategoryMySQLGatewayTest {
         Assertions.assertNull(categoryFromRepository.getDeletedAt());
     }
 
+    @Test
+    public void givenAValidCategory_whenCallsCreate_shouldSendOnlyTheInsert(){
+
+        final var category = Category.newCategory("Filmes", null, true);
+
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        categoryMySQLGateway.create(category);
+
+        //O teste é executado em uma transação, então o "INSERT" apenas é enviado no "flush()".
+        entityManager.flush();
+
+        //Apenas o "INSERT" foi enviado. Não existe o "SELECT" pelo ID que o "merge()" faria antes dele.
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+        Assertions.assertEquals(1, statistics.getEntityInsertCount());
+        Assertions.assertEquals(0, statistics.getEntityLoadCount());
+
+        Assertions.assertEquals(1, categoryRepository.count());
+    }
+
+    @Test
+    public void givenManyValidCategories_whenCallsCreateAll_shouldInsertThemInJdbcBatches(){
+
+        final var categories = new ArrayList<Category>();
+
+        for (int i = 0; i < 120; i++) {
+            categories.add(Category.newCategory("Categoria " + i, null, true));
+        }
+
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        final var createdCategories = categoryMySQLGateway.createAll(categories);
+
+        //Com lotes de 50, as 120 categorias são enviadas em 3 lotes, e não existe nenhum "SELECT" antes dos "INSERTs".
+        Assertions.assertEquals(120, statistics.getEntityInsertCount());
+        Assertions.assertEquals(3, statistics.getPrepareStatementCount());
+
+        Assertions.assertEquals(120, categoryRepository.count());
+        Assertions.assertEquals(categories.stream().map(Category::getId).toList(), createdCategories.stream().map(Category::getId).toList());
+
+        final var categoryFromRepository = categoryRepository.findById(categories.get(7).getId().getValue()).get();
+
+        Assertions.assertEquals("Categoria 7", categoryFromRepository.getName());
+        Assertions.assertTrue(categoryFromRepository.isActive());
+    }
+
+    @Test
+    public void givenAnEmptyList_whenCallsCreateAll_shouldNotTouchTheDatabase(){
+        Assertions.assertTrue(categoryMySQLGateway.createAll(List.of()).isEmpty());
+        Assertions.assertEquals(0, categoryRepository.count());
+    }
+
     @Test
     public void givenAValidCategory_whenCallsUpdate_shouldReturnCategoryUpdated(){
 
@@ -157,6 +230,74 @@ class CategoryMySQLGatewayTest {
         Assertions.assertNull(categoryFromRepository.getDeletedAt());
     }
 
+    @Test
+    public void givenAValidCategory_whenCallsUpdateById_shouldSendOnlyTheUpdate(){
+
+        final var category = Category.newCategory("Film", null, true);
+
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(category));
+
+        final var updatedCategory = category.clone().update("Filmes", "Filmes de todos os gêneros.", false);
+
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        final var savedUpdatedCategory = categoryMySQLGateway.updateById(updatedCategory);
+
+        //Apenas o "UPDATE" foi enviado. Não existe o "SELECT" que o "merge()" faria antes dele.
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+        Assertions.assertEquals(0, statistics.getEntityLoadCount());
+
+        Assertions.assertTrue(savedUpdatedCategory.isPresent());
+        Assertions.assertEquals(updatedCategory.getId(), savedUpdatedCategory.get().getId());
+        Assertions.assertEquals(1, savedUpdatedCategory.get().getVersion());
+
+        //O "UPDATE" em JPQL não passa pelo contexto de persistência, então o esvaziamos para buscarmos a linha do banco de dados.
+        entityManager.clear();
+
+        final var categoryFromRepository = categoryRepository.findById(category.getId().getValue()).get();
+
+        Assertions.assertEquals("Filmes", categoryFromRepository.getName());
+        Assertions.assertEquals("Filmes de todos os gêneros.", categoryFromRepository.getDescription());
+        Assertions.assertFalse(categoryFromRepository.isActive());
+        Assertions.assertTrue(category.getUpdatedAt().isBefore(categoryFromRepository.getUpdatedAt()));
+        Assertions.assertNotNull(categoryFromRepository.getDeletedAt());
+        Assertions.assertEquals(1, categoryFromRepository.getVersion());
+    }
+
+    @Test
+    public void givenAnOutdatedVersion_whenCallsUpdateById_shouldReturnEmptyAndKeepTheCategory(){
+
+        final var category = Category.newCategory("Film", null, true);
+
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(category));
+
+        //As duas requisições leram a categoria na versão 0. A primeira a atualiza para a versão 1.
+        final var firstUpdate = category.clone().update("Filmes", null, true);
+        final var secondUpdate = category.clone().update("Séries", null, true);
+
+        Assertions.assertTrue(categoryMySQLGateway.updateById(firstUpdate).isPresent());
+
+        //A segunda ainda está na versão 0, então o "UPDATE" não altera nenhuma linha.
+        Assertions.assertTrue(categoryMySQLGateway.updateById(secondUpdate).isEmpty());
+
+        entityManager.clear();
+
+        final var categoryFromRepository = categoryRepository.findById(category.getId().getValue()).get();
+
+        Assertions.assertEquals("Filmes", categoryFromRepository.getName());
+        Assertions.assertEquals(1, categoryFromRepository.getVersion());
+    }
+
+    @Test
+    public void givenACategoryNotStored_whenCallsUpdateById_shouldReturnEmpty(){
+
+        final var category = Category.newCategory("Filmes", null, true);
+
+        Assertions.assertTrue(categoryMySQLGateway.updateById(category).isEmpty());
+        Assertions.assertEquals(0, categoryRepository.count());
+    }
+
     @Test
     public void givenAPrePersistedCategoryAndValidCategoryId_whenTryToDeleteIt_shouldDeleteCategory(){
 
@@ -190,6 +331,63 @@ class CategoryMySQLGatewayTest {
         Assertions.assertEquals(0, categoryRepository.count());
     }
 
+    @Test
+    public void givenAPrePersistedCategory_whenCallsDeleteById_shouldSendOnlyTheDelete(){
+
+        final var category = Category.newCategory("Filmes", null, true);
+
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(category));
+
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        categoryMySQLGateway.deleteById(category.getId());
+
+        //Apenas o "DELETE" foi enviado. Não existem o "SELECT" da existência e o "SELECT" da entidade que o Spring Data faria.
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+        Assertions.assertEquals(0, statistics.getEntityLoadCount());
+
+        //O "DELETE" em JPQL não passa pelo contexto de persistência, então o esvaziamos para consultarmos o banco de dados.
+        entityManager.clear();
+
+        Assertions.assertEquals(0, categoryRepository.count());
+    }
+
+    @Test
+    public void givenPrePersistedCategories_whenCallsDeleteAllById_shouldDeleteOnlyTheInformedCategories(){
+
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+        final var documentarios = Category.newCategory("Documentários", null, true);
+
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentarios)
+        ));
+
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        //IDs repetidos, inexistentes ou inválidos são ignorados, assim como no "deleteById()".
+        categoryMySQLGateway.deleteAllById(List.of(
+                filmes.getId(),
+                series.getId(),
+                filmes.getId(),
+                CategoryID.unique(),
+                CategoryID.from("123")
+        ));
+
+        //Todas as categorias foram removidas com um único "DELETE".
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+        Assertions.assertEquals(0, statistics.getEntityLoadCount());
+
+        entityManager.clear();
+
+        Assertions.assertEquals(1, categoryRepository.count());
+        Assertions.assertTrue(categoryRepository.existsById(documentarios.getId().getValue()));
+    }
+
     @Test
     public void givenAValidPrePersistedCategoryAndValidCategoryId_whenCallsFindById_shouldReturnCategory(){
 
@@ -239,6 +437,53 @@ class CategoryMySQLGatewayTest {
         Assertions.assertTrue(category.isEmpty());
     }
 
+    @Test
+    public void givenAValidCategory_whenCallsCreate_shouldStoreTheIdAsSixteenBytes(){
+
+        final var category = categoryMySQLGateway.create(Category.newCategory("Filmes", null, true));
+        categoryRepository.flush(); //O JDBC não enxerga o que ainda está apenas no contexto de persistência.
+
+        //Lendo a coluna sem o Hibernate, temos apenas os bytes do UUID, e não o texto.
+        final var storedId = jdbcTemplate.queryForObject("SELECT id FROM category", byte[].class);
+
+        Assertions.assertEquals(16, storedId.length);
+        Assertions.assertArrayEquals(CategoryIdType.toBinary(category.getId().getValue()), storedId);
+
+        //Para a aplicação, o ID continua sendo o texto do UUID.
+        Assertions.assertEquals(category.getId(), categoryMySQLGateway.findById(category.getId()).get().getId());
+    }
+
+    //O ID é convertido para o formato canônico do UUID, então o mesmo UUID em letras maiúsculas encontra a mesma categoria.
+    @Test
+    public void givenAnUppercaseId_whenCallsFindByIdAndDeleteById_shouldUseTheSameCategory(){
+
+        final var category = categoryMySQLGateway.create(Category.newCategory("Filmes", null, true));
+        final var uppercaseId = CategoryID.from(category.getId().getValue().toUpperCase());
+
+        Assertions.assertEquals(category.getId(), categoryMySQLGateway.findById(uppercaseId).orElseThrow().getId());
+
+        categoryMySQLGateway.deleteById(uppercaseId);
+
+        Assertions.assertEquals(0, categoryRepository.count());
+    }
+
+    //O "UUID.fromString()" converteria o "1-1-1-1-1" para esse UUID. Como ele não está no formato canônico, nada é encontrado.
+    @Test
+    public void givenAnIdThatIsNotACanonicalUuid_whenCallsFindByIdAndDeleteById_shouldIgnoreIt(){
+
+        final var category = Category.with(CategoryID.from("00000001-0001-0001-0001-000000000001"), "Filmes", null, true, Instant.now(), Instant.now(), null);
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(category));
+
+        final var lenientId = CategoryID.from("1-1-1-1-1");
+
+        Assertions.assertTrue(categoryMySQLGateway.findById(lenientId).isEmpty());
+
+        categoryMySQLGateway.deleteById(lenientId);
+        categoryMySQLGateway.deleteAllById(List.of(lenientId));
+
+        Assertions.assertEquals(1, categoryRepository.count());
+    }
+
     @Test
     public void givenPrePersistedCategories_whenCallsFindAll_shouldReturnPaginated(){
 
@@ -296,6 +541,42 @@ class CategoryMySQLGatewayTest {
         Assertions.assertEquals(0, categories.elements().size());
     }
 
+    //O ID é o desempate da ordenação, então as categorias com o mesmo nome aparecem sempre na mesma ordem entre as páginas.
+    @Test
+    public void givenCategoriesWithTheSameName_whenCallsFindAllSortedByName_shouldOrderThemById(){
+
+        final var categories = List.of(
+                Category.newCategory("Filmes", null, true),
+                Category.newCategory("Filmes", null, true),
+                Category.newCategory("Filmes", null, true));
+
+        categoryRepository.saveAllAndFlush(categories.stream().map(CategoryJpaEntity::from).toList());
+
+        //O "BINARY(16)" é comparado byte a byte, que é a mesma ordem do UUID em hexadecimal.
+        final var expectedIds = categories.stream()
+                .map(category -> category.getId().getValue())
+                .sorted()
+                .toList();
+
+        final var actualIds = new ArrayList<String>();
+
+        for (int page = 0; page < 3; page++) {
+            categoryMySQLGateway.findAll(new CategorySearchQuery(page, 1, "", "name", "asc")).elements()
+                    .forEach(category -> actualIds.add(category.getId().getValue()));
+        }
+
+        Assertions.assertEquals(expectedIds, actualIds);
+    }
+
+    //A ordenação da listagem é a mesma do índice, então o banco de dados não precisa ordenar a tabela.
+    @Test
+    public void givenTheSortIndexes_whenExplainsTheListingByName_shouldUseTheIndex(){
+
+        final var plan = jdbcTemplate.queryForObject("EXPLAIN SELECT id FROM category ORDER BY name, id LIMIT 10", String.class);
+
+        Assertions.assertTrue(plan.toUpperCase().contains("IDX_CATEGORY_NAME_ID"), plan);
+    }
+
     @Test
     public void givenFollowPagination_whenCallsFindAllWithPage1_shouldReturnPaginated(){
 
@@ -437,4 +718,293 @@ class CategoryMySQLGatewayTest {
         //Como os parâmetros de busca estão com a ordenação por descrição, deverá retornar a categoria "filmes".
         Assertions.assertEquals(filmes.getId(), categories.elements().get(0).getId());
     }
-}
\ No newline at end of file
+
+    /* Nos testes, a busca "FULLTEXT" está desabilitada, pois o H2 não possui o "MATCH ... AGAINST". Nesse caso, a ordenação
+     * por relevância não existe, e as categorias devem ser ordenadas pelo nome. */
+    @Test
+    public void givenRelevanceSortAndLikeSearch_whenCallsFindAll_shouldFallbackToNameOrder(){
+
+        final var filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var animes = Category.newCategory("Animes", "Uma categoria mais assistida", true);
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(animes),
+                CategoryJpaEntity.from(Category.newCategory("Documentários", "A categoria menos assistida", true))
+        ));
+
+        final var categories = categoryMySQLGateway.findAll(new CategorySearchQuery(0, 10, "mais assistida", "relevance", "desc"));
+
+        Assertions.assertEquals(2, categories.totalElements());
+        Assertions.assertEquals(animes.getId(), categories.elements().get(0).getId());
+        Assertions.assertEquals(filmes.getId(), categories.elements().get(1).getId());
+    }
+
+    /* Abaixo, temos os testes da listagem sem contagem. Ela deve devolver as mesmas categorias da listagem paginada, mas
+     * apenas com o "hasNext" ao invés do total. */
+    @Test
+    public void givenPrePersistedCategories_whenCallsFindSlice_shouldReturnPagesWithHasNext(){
+
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+        final var documentarios = Category.newCategory("Documentários", null, true);
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentarios)
+        ));
+
+        //Página 0 - Documentários, e ainda existem mais categorias.
+        var slice = categoryMySQLGateway.findSlice(new CategorySearchQuery(0, 1, "", "name", "asc"));
+
+        Assertions.assertEquals(0, slice.currentPage());
+        Assertions.assertEquals(1, slice.perPage());
+        Assertions.assertEquals(1, slice.elements().size());
+        Assertions.assertTrue(slice.hasNext());
+        Assertions.assertEquals(documentarios.getId(), slice.elements().get(0).getId());
+
+        //Página 1 - Filmes.
+        slice = categoryMySQLGateway.findSlice(new CategorySearchQuery(1, 1, "", "name", "asc"));
+
+        Assertions.assertTrue(slice.hasNext());
+        Assertions.assertEquals(filmes.getId(), slice.elements().get(0).getId());
+
+        //Página 2 - Séries, e essa é a última página.
+        slice = categoryMySQLGateway.findSlice(new CategorySearchQuery(2, 1, "", "name", "asc"));
+
+        Assertions.assertFalse(slice.hasNext());
+        Assertions.assertEquals(series.getId(), slice.elements().get(0).getId());
+    }
+
+    @Test
+    public void givenPrePersistedCategoriesAndTerms_whenCallsFindSlice_shouldReturnFilteredWithoutNext(){
+
+        final var filmes = Category.newCategory("Filmes", "A categoria mais assistida", true);
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(Category.newCategory("Séries", "Uma categoria assistida", true))
+        ));
+
+        final var slice = categoryMySQLGateway.findSlice(new CategorySearchQuery(0, 1, "mais assistida", "name", "asc"));
+
+        Assertions.assertEquals(1, slice.elements().size());
+        Assertions.assertFalse(slice.hasNext());
+        Assertions.assertEquals(filmes.getId(), slice.elements().get(0).getId());
+    }
+
+    /* Abaixo, temos os testes da paginação por cursor. Seguiremos os cursores até a última página, verificando que
+     * nenhuma categoria foi repetida ou pulada. */
+    @Test
+    public void givenPrePersistedCategories_whenFollowsCursorsSortedByName_shouldReturnAllCategoriesInOrder(){
+
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+        final var documentarios = Category.newCategory("Documentários", null, true);
+        final var kids = Category.newCategory("Kids", null, true);
+        final var animes = Category.newCategory("Animes", null, true);
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(filmes),
+                CategoryJpaEntity.from(series),
+                CategoryJpaEntity.from(documentarios),
+                CategoryJpaEntity.from(kids),
+                CategoryJpaEntity.from(animes)
+        ));
+
+        final var expectedIds = List.of(animes.getId(), documentarios.getId(), filmes.getId(), kids.getId(), series.getId());
+
+        var page = categoryMySQLGateway.findAllByCursor(new CategoryCursorQuery(null, 2, "", "name", "asc"));
+
+        final var actualIds = new ArrayList<CategoryID>();
+        var pages = 1;
+
+        page.elements().forEach(category -> actualIds.add(category.getId()));
+
+        while (page.hasNext()) {
+            page = categoryMySQLGateway.findAllByCursor(new CategoryCursorQuery(page.next(), 2, "", "name", "asc"));
+            page.elements().forEach(category -> actualIds.add(category.getId()));
+            pages++;
+        }
+
+        Assertions.assertEquals(3, pages);
+        Assertions.assertEquals(1, page.elements().size());
+        Assertions.assertNull(page.next());
+        Assertions.assertEquals(expectedIds, actualIds);
+    }
+
+    @Test
+    public void givenCategoriesWithSameCreatedAt_whenFollowsCursorsSortedByCreatedAtDesc_shouldUseIdAsTieBreaker(){
+
+        //Todas as categorias terão a mesma data de criação, assim, apenas o ID decidirá a ordem entre elas.
+        final var now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+
+        final var categories = List.of(
+                Category.with(CategoryID.unique(), "Filmes", null, true, now, now, null),
+                Category.with(CategoryID.unique(), "Séries", null, true, now, now, null),
+                Category.with(CategoryID.unique(), "Documentários", null, true, now, now, null),
+                Category.with(CategoryID.unique(), "Kids", null, true, now.minusSeconds(60), now, null)
+        );
+
+        categoryRepository.saveAllAndFlush(categories.stream().map(CategoryJpaEntity::from).toList());
+
+        final var actualIds = new ArrayList<String>();
+        String after = null;
+
+        do {
+            final var page = categoryMySQLGateway.findAllByCursor(new CategoryCursorQuery(after, 1, "", "createdAt", "desc"));
+            page.elements().forEach(category -> actualIds.add(category.getId().getValue()));
+            after = page.next();
+        } while (after != null);
+
+        final var expectedIds = new ArrayList<>(categories.subList(0, 3).stream().map(category -> category.getId().getValue()).sorted().toList());
+        Collections.reverse(expectedIds); //Na ordem descendente, o desempate também é descendente.
+        expectedIds.add(categories.get(3).getId().getValue()); //A categoria "Kids" é a mais antiga, então será a última.
+
+        Assertions.assertEquals(expectedIds, actualIds);
+    }
+
+    @Test
+    public void givenPrePersistedCategoriesAndTerms_whenFollowsCursors_shouldKeepTheFilter(){
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(Category.newCategory("Filmes", "A categoria mais assistida", true)),
+                CategoryJpaEntity.from(Category.newCategory("Séries", "Uma categoria mais assistida", true)),
+                CategoryJpaEntity.from(Category.newCategory("Documentários", "A categoria menos assistida", true))
+        ));
+
+        final var firstPage = categoryMySQLGateway.findAllByCursor(new CategoryCursorQuery(null, 1, "mais assistida", "name", "asc"));
+
+        Assertions.assertEquals("Filmes", firstPage.elements().get(0).getName());
+        Assertions.assertTrue(firstPage.hasNext());
+
+        final var secondPage = categoryMySQLGateway.findAllByCursor(new CategoryCursorQuery(firstPage.next(), 1, "mais assistida", "name", "asc"));
+
+        Assertions.assertEquals("Séries", secondPage.elements().get(0).getName());
+        Assertions.assertFalse(secondPage.hasNext());
+    }
+
+    @Test
+    public void givenAnInvalidCursor_whenCallsFindAllByCursor_shouldThrowDomainException(){
+
+        final var expectedErrorMessage = "'after' is not a valid cursor";
+
+        final var actualException = Assertions.assertThrows(DomainException.class,
+                () -> categoryMySQLGateway.findAllByCursor(new CategoryCursorQuery("%%invalid%%", 1, "", "name", "asc")));
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    }
+
+    @Test
+    public void givenACursorFromAnotherSort_whenCallsFindAllByCursor_shouldThrowDomainException(){
+
+        categoryRepository.saveAll(List.of(
+                CategoryJpaEntity.from(Category.newCategory("Filmes", null, true)),
+                CategoryJpaEntity.from(Category.newCategory("Séries", null, true))
+        ));
+
+        final var expectedErrorMessage = "'after' was created for another sort or direction";
+
+        final var page = categoryMySQLGateway.findAllByCursor(new CategoryCursorQuery(null, 1, "", "name", "asc"));
+
+        final var actualException = Assertions.assertThrows(DomainException.class,
+                () -> categoryMySQLGateway.findAllByCursor(new CategoryCursorQuery(page.next(), 1, "", "createdAt", "asc")));
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    }
+
+    @Test
+    public void givenANullableSort_whenCallsFindAllByCursor_shouldThrowDomainException(){
+
+        final var expectedErrorMessage = "'description' is not supported by cursor pagination";
+
+        final var actualException = Assertions.assertThrows(DomainException.class,
+                () -> categoryMySQLGateway.findAllByCursor(new CategoryCursorQuery(null, 1, "", "description", "asc")));
+
+        Assertions.assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    }
+
+    @Test
+    public void givenPrePersistedCategories_whenCallsExportAllWithoutFilters_shouldStreamAllOrderedById(){
+
+        //O banco guarda apenas os microssegundos ("DATETIME(6)"), então criamos as categorias já com essa precisão.
+        final var now = Instant.now().truncatedTo(ChronoUnit.MICROS);
+
+        final var categories = List.of(
+                Category.with(CategoryID.unique(), "Filmes", "A categoria mais assistida", true, now, now, null),
+                Category.with(CategoryID.unique(), "Séries", null, false, now, now.plusSeconds(1), now.plusSeconds(1)),
+                Category.with(CategoryID.unique(), "Documentários", null, true, now, now, null)
+        );
+
+        //O JDBC não enxerga o que ainda está apenas no contexto de persistência, por isso o "flush".
+        categoryRepository.saveAllAndFlush(categories.stream().map(CategoryJpaEntity::from).toList());
+
+        final var exported = new ArrayList<CategoryPreview>();
+
+        categoryMySQLGateway.exportAll(new CategoryExportQuery(null, null), exported::add);
+
+        final var expected = categories.stream()
+                .map(CategoryPreview::from)
+                .sorted((first, second) -> first.id().getValue().compareTo(second.id().getValue()))
+                .toList();
+
+        Assertions.assertEquals(expected, exported);
+    }
+
+    @Test
+    public void givenActiveAndUpdatedSinceFilters_whenCallsExportAll_shouldStreamOnlyTheMatchingCategories(){
+
+        final var updatedSince = Instant.parse("2022-06-01T00:00:00Z");
+
+        final var oldActive = Category.with(CategoryID.unique(), "Filmes", null, true, updatedSince.minusSeconds(60), updatedSince.minusSeconds(60), null);
+        final var newActive = Category.with(CategoryID.unique(), "Séries", null, true, updatedSince.minusSeconds(60), updatedSince, null);
+        final var newInactive = Category.with(CategoryID.unique(), "Kids", null, false, updatedSince, updatedSince.plusSeconds(60), updatedSince.plusSeconds(60));
+
+        categoryRepository.saveAllAndFlush(List.of(
+                CategoryJpaEntity.from(oldActive),
+                CategoryJpaEntity.from(newActive),
+                CategoryJpaEntity.from(newInactive)));
+
+        final var active = new ArrayList<CategoryPreview>();
+        categoryMySQLGateway.exportAll(new CategoryExportQuery(true, updatedSince), active::add);
+
+        Assertions.assertEquals(List.of(CategoryPreview.from(newActive)), active);
+
+        final var inactive = new ArrayList<CategoryPreview>();
+        categoryMySQLGateway.exportAll(new CategoryExportQuery(false, null), inactive::add);
+
+        //O "deleted_at" também deve ser lido corretamente.
+        Assertions.assertEquals(List.of(CategoryPreview.from(newInactive)), inactive);
+
+        final var updated = new ArrayList<CategoryPreview>();
+        categoryMySQLGateway.exportAll(new CategoryExportQuery(null, updatedSince), updated::add);
+
+        Assertions.assertEquals(2, updated.size());
+    }
+
+    //Com os filtros, a exportação segue o índice do "updated_at", e não a chave primária.
+    @Test
+    public void givenAnUpdatedSinceFilter_whenCallsExportAll_shouldStreamInUpdatedAtOrder(){
+
+        final var updatedSince = Instant.parse("2022-06-01T00:00:00Z");
+
+        //Os IDs estão na ordem inversa das datas de atualização.
+        final var updatedFirst = Category.with(CategoryID.from("ffffffff-ffff-ffff-ffff-ffffffffffff"), "Filmes", null, true, updatedSince, updatedSince, null);
+        final var updatedLast = Category.with(CategoryID.from("00000000-0000-0000-0000-000000000001"), "Séries", null, true, updatedSince, updatedSince.plusSeconds(60), null);
+
+        categoryRepository.saveAllAndFlush(List.of(CategoryJpaEntity.from(updatedFirst), CategoryJpaEntity.from(updatedLast)));
+
+        final var expected = List.of(CategoryPreview.from(updatedFirst), CategoryPreview.from(updatedLast));
+
+        final var updated = new ArrayList<CategoryPreview>();
+        categoryMySQLGateway.exportAll(new CategoryExportQuery(null, updatedSince), updated::add);
+
+        Assertions.assertEquals(expected, updated);
+
+        final var active = new ArrayList<CategoryPreview>();
+        categoryMySQLGateway.exportAll(new CategoryExportQuery(true, null), active::add);
+
+        Assertions.assertEquals(expected, active);
+    }
+}
@@ -0,0 +1,235 @@
+package com.projetopraticobackend.servicocatalogo.infrastructure.category.cache;
+
+import com.projetopraticobackend.servicocatalogo.domain.category.Category;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryGateway;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryID;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.AdditionalAnswers;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/* Nesses testes, o gateway real é um "mock", assim, conseguimos verificar quantas vezes o cache precisou ir até
+* o "banco de dados". */
+@ExtendWith(MockitoExtension.class)
+public class CategoryCacheGatewayTest {
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    private CategoryCache categoryCache;
+
+    private CategoryCacheGateway categoryCacheGateway;
+
+    @BeforeEach
+    void setUp() {
+        this.categoryCache = new CategoryCache(100, Duration.ofMinutes(10));
+        this.categoryCacheGateway = new CategoryCacheGateway(categoryGateway, categoryCache);
+    }
+
+    @Test
+    public void givenACachedCategory_whenCallsFindByIdTwice_shouldHitTheDatabaseOnce() {
+
+        final var category = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var expectedId = category.getId();
+
+        Mockito.when(categoryGateway.findById(Mockito.eq(expectedId))).thenReturn(Optional.of(category.clone()));
+
+        final var firstResult = categoryCacheGateway.findById(expectedId).get();
+        final var secondResult = categoryCacheGateway.findById(expectedId).get();
+
+        Assertions.assertEquals(expectedId, firstResult.getId());
+        Assertions.assertEquals(expectedId, secondResult.getId());
+
+        //Como são cópias, alterar o retorno não altera o que está no cache.
+        Assertions.assertNotSame(firstResult, secondResult);
+
+        Mockito.verify(categoryGateway, Mockito.times(1)).findById(Mockito.eq(expectedId));
+
+        Assertions.assertEquals(1, categoryCache.stats().hitCount());
+        Assertions.assertEquals(1, categoryCache.stats().missCount());
+    }
+
+    @Test
+    public void givenANotStoredCategory_whenCallsFindById_shouldNotCacheTheMiss() {
+
+        final var expectedId = CategoryID.from("123");
+
+        Mockito.when(categoryGateway.findById(Mockito.eq(expectedId))).thenReturn(Optional.empty());
+
+        Assertions.assertTrue(categoryCacheGateway.findById(expectedId).isEmpty());
+        Assertions.assertTrue(categoryCacheGateway.findById(expectedId).isEmpty());
+
+        Mockito.verify(categoryGateway, Mockito.times(2)).findById(Mockito.eq(expectedId));
+        Assertions.assertEquals(0, categoryCache.size());
+    }
+
+    @Test
+    public void givenAMutatedResult_whenCallsFindByIdAgain_shouldReturnTheOriginalState() {
+
+        final var category = Category.newCategory("Filmes", "A categoria mais assistida", true);
+        final var expectedId = category.getId();
+
+        Mockito.when(categoryGateway.findById(Mockito.eq(expectedId))).thenReturn(Optional.of(category.clone()));
+
+        //Os casos de uso alteram o agregado que recebem, como acontece no "update()". Isso não pode vazar para o cache.
+        categoryCacheGateway.findById(expectedId).get().update("Séries", null, false);
+
+        final var actualCategory = categoryCacheGateway.findById(expectedId).get();
+
+        Assertions.assertEquals("Filmes", actualCategory.getName());
+        Assertions.assertTrue(actualCategory.isActive());
+    }
+
+    @Test
+    public void givenACreatedCategory_whenCallsFindById_shouldNotHitTheDatabase() {
+
+        final var category = Category.newCategory("Filmes", "A categoria mais assistida", true);
+
+        Mockito.when(categoryGateway.create(Mockito.any())).thenAnswer(AdditionalAnswers.returnsFirstArg());
+
+        categoryCacheGateway.create(category);
+
+        Assertions.assertEquals(category.getId(), categoryCacheGateway.findById(category.getId()).get().getId());
+
+        Mockito.verify(categoryGateway, Mockito.never()).findById(Mockito.any());
+    }
+
+    @Test
+    public void givenAnUpdatedCategory_whenCallsFindById_shouldReturnTheUpdatedState() {
+
+        final var category = Category.newCategory("Film", null, true);
+        final var expectedId = category.getId();
+
+        Mockito.when(categoryGateway.findById(Mockito.eq(expectedId))).thenReturn(Optional.of(category.clone()));
+        Mockito.when(categoryGateway.update(Mockito.any())).thenAnswer(AdditionalAnswers.returnsFirstArg());
+
+        final var cachedCategory = categoryCacheGateway.findById(expectedId).get();
+
+        categoryCacheGateway.update(cachedCategory.update("Filmes", "A categoria mais assistida", false));
+
+        final var actualCategory = categoryCacheGateway.findById(expectedId).get();
+
+        Assertions.assertEquals("Filmes", actualCategory.getName());
+        Assertions.assertFalse(actualCategory.isActive());
+
+        Mockito.verify(categoryGateway, Mockito.times(1)).findById(Mockito.eq(expectedId));
+    }
+
+    @Test
+    public void givenAFailingUpdate_whenCallsFindById_shouldReloadFromTheDatabase() {
+
+        final var category = Category.newCategory("Film", null, true);
+        final var expectedId = category.getId();
+
+        Mockito.when(categoryGateway.findById(Mockito.eq(expectedId))).thenReturn(Optional.of(category.clone()));
+        Mockito.when(categoryGateway.update(Mockito.any())).thenThrow(new IllegalStateException("Gateway error"));
+
+        final var cachedCategory = categoryCacheGateway.findById(expectedId).get();
+
+        Assertions.assertThrows(IllegalStateException.class,
+                () -> categoryCacheGateway.update(cachedCategory.update("Filmes", null, true)));
+
+        Assertions.assertEquals("Film", categoryCacheGateway.findById(expectedId).get().getName());
+
+        Mockito.verify(categoryGateway, Mockito.times(2)).findById(Mockito.eq(expectedId));
+    }
+
+    @Test
+    public void givenADeletedCategory_whenCallsFindById_shouldGoToTheDatabase() {
+
+        final var category = Category.newCategory("Filmes", null, true);
+        final var expectedId = category.getId();
+
+        Mockito.when(categoryGateway.create(Mockito.any())).thenAnswer(AdditionalAnswers.returnsFirstArg());
+        Mockito.when(categoryGateway.findById(Mockito.eq(expectedId))).thenReturn(Optional.empty());
+
+        categoryCacheGateway.create(category);
+        categoryCacheGateway.deleteById(expectedId);
+
+        Assertions.assertTrue(categoryCacheGateway.findById(expectedId).isEmpty());
+
+        Mockito.verify(categoryGateway, Mockito.times(1)).deleteById(Mockito.eq(expectedId));
+        Mockito.verify(categoryGateway, Mockito.times(1)).findById(Mockito.eq(expectedId));
+    }
+
+    //A entrada lida pelo ID em letras maiúsculas é a mesma que a exclusão, pelo ID em letras minúsculas, remove.
+    @Test
+    public void givenAnUppercaseIdInTheCache_whenDeletesByTheCanonicalId_shouldEvictTheSameEntry() {
+
+        final var category = Category.newCategory("Filmes", null, true);
+        final var expectedId = category.getId();
+        final var uppercaseId = CategoryID.from(expectedId.getValue().toUpperCase());
+
+        Mockito.when(categoryGateway.findById(Mockito.eq(expectedId)))
+                .thenReturn(Optional.of(category.clone()))
+                .thenReturn(Optional.empty());
+
+        Assertions.assertTrue(categoryCacheGateway.findById(uppercaseId).isPresent());
+        Assertions.assertTrue(categoryCacheGateway.findById(expectedId).isPresent());
+
+        categoryCacheGateway.deleteById(expectedId);
+
+        Assertions.assertTrue(categoryCacheGateway.findById(uppercaseId).isEmpty());
+        Mockito.verify(categoryGateway, Mockito.times(2)).findById(Mockito.eq(expectedId));
+    }
+
+    //Uma leitura feita entre a exclusão e o "commit" ainda encontra a categoria no banco, mas não pode mantê-la no cache.
+    @Test
+    public void givenAReadBetweenTheDeleteAndTheCommit_whenCallsFindByIdAfterTheCommit_shouldNotReturnTheDeletedCategory() {
+
+        final var category = Category.newCategory("Filmes", null, true);
+        final var expectedId = category.getId();
+        final var committed = new AtomicBoolean(false);
+
+        Mockito.when(categoryGateway.findById(Mockito.eq(expectedId)))
+                .thenAnswer(invocation -> committed.get() ? Optional.empty() : Optional.of(category.clone()));
+
+        categoryCacheGateway.findById(expectedId);
+
+        TransactionSynchronizationManager.initSynchronization();
+
+        categoryCacheGateway.deleteById(expectedId);
+
+        Assertions.assertTrue(categoryCacheGateway.findById(expectedId).isPresent());
+
+        committed.set(true);
+        commit();
+
+        Assertions.assertTrue(categoryCacheGateway.findById(expectedId).isEmpty());
+    }
+
+    @Test
+    public void givenAFullCache_whenAddsMoreCategories_shouldEvictAndCountEvictions() {
+
+        final var smallCache = new CategoryCache(2, Duration.ofMinutes(10), Runnable::run);
+
+        for (int i = 0; i < 10; i++) {
+            smallCache.put(Category.newCategory("Categoria " + i, null, true));
+        }
+
+        smallCache.cleanUp();
+
+        Assertions.assertTrue(smallCache.size() <= 2);
+        Assertions.assertTrue(smallCache.stats().evictionCount() >= 8);
+    }
+
+    //Simula o "commit" da transação aberta pelo "initSynchronization()", executando as ações registradas nela.
+    private static void commit() {
+        try {
+            TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.projetopraticobackend.servicocatalogo.infrastructure.category.cache;
+
+import com.projetopraticobackend.servicocatalogo.IntegrationTest;
+import com.projetopraticobackend.servicocatalogo.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.retrieve.list.ListCategoriesUseCase;
+import com.projetopraticobackend.servicocatalogo.domain.category.Category;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategorySearchQuery;
+import com.projetopraticobackend.servicocatalogo.domain.exceptions.NotFoundException;
+import com.projetopraticobackend.servicocatalogo.infrastructure.category.CategoryMySQLGateway;
+import com.projetopraticobackend.servicocatalogo.infrastructure.category.persistence.CategoryChangeRepository;
+import com.projetopraticobackend.servicocatalogo.infrastructure.configuration.WebServerConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.Instant;
+import java.util.List;
+
+/* Aqui, simulamos duas instâncias da aplicação atrás de um "load balancer": o contexto do teste, que faz as escritas, e
+* um segundo contexto do Spring ("otherNode"), com os seus próprios caches, que lê as categorias. Os dois utilizam o
+* mesmo banco de dados H2 em memória.
+*
+* Nos dois contextos, o "delay" é longo o suficiente para que o poller nunca execute sozinho. Assim, chamamos o "poll()"
+* diretamente e conseguimos verificar o que a outra instância devolve antes e depois dele. */
+@IntegrationTest
+@TestPropertySource(properties = {
+        "category.cache.invalidation.enabled=true",
+        "category.cache.invalidation.delay=1h"
+})
+public class CategoryInvalidationPollerIT {
+
+    private static final CategorySearchQuery FIRST_PAGE = new CategorySearchQuery(0, 10, "", "name", "asc");
+
+    private static ConfigurableApplicationContext otherNode;
+
+    @Autowired
+    private CategoryMySQLGateway categoryMySQLGateway;
+
+    @Autowired
+    private CategoryChangeRepository categoryChangeRepository;
+
+    @BeforeAll
+    static void startOtherNode() {
+        otherNode = new SpringApplicationBuilder(WebServerConfig.class)
+                .profiles("test")
+                .web(WebApplicationType.NONE)
+                .run("--category.cache.invalidation.enabled=true", //As "properties()" do builder têm menos prioridade que o "application.yml", então usamos os argumentos.
+                        "--category.cache.invalidation.delay=1h",
+                        "--category.cache.pages.enabled=true");
+    }
+
+    @AfterAll
+    static void stopOtherNode() {
+        otherNode.close();
+    }
+
+    @Test
+    public void givenACategoryCachedByTheOtherNode_whenItIsUpdated_shouldReturnTheNewStateAfterThePoll() {
+
+        final var category = categoryMySQLGateway.create(Category.newCategory("Filme", null, true));
+        final var expectedId = category.getId().getValue();
+
+        Assertions.assertEquals("Filme", otherNode.getBean(GetCategoryByIdUseCase.class).execute(expectedId).name());
+        Assertions.assertEquals("Filme", otherNode.getBean(ListCategoriesUseCase.class).execute(FIRST_PAGE).elements().get(0).name());
+
+        categoryMySQLGateway.update(Category.with(category).update("Filmes", "A categoria mais assistida", true));
+
+        //Antes da consulta, a outra instância ainda devolve o que está nos seus caches.
+        Assertions.assertEquals("Filme", otherNode.getBean(GetCategoryByIdUseCase.class).execute(expectedId).name());
+
+        otherNode.getBean(CategoryInvalidationPoller.class).poll();
+
+        Assertions.assertEquals("Filmes", otherNode.getBean(GetCategoryByIdUseCase.class).execute(expectedId).name());
+        Assertions.assertEquals("Filmes", otherNode.getBean(ListCategoriesUseCase.class).execute(FIRST_PAGE).elements().get(0).name());
+    }
+
+    @Test
+    public void givenACategoryCachedByTheOtherNode_whenItIsDeleted_shouldNotReturnItAfterThePoll() {
+
+        final var category = categoryMySQLGateway.create(Category.newCategory("Filmes", null, true));
+        final var expectedId = category.getId().getValue();
+
+        otherNode.getBean(GetCategoryByIdUseCase.class).execute(expectedId);
+        Assertions.assertEquals(1, otherNode.getBean(ListCategoriesUseCase.class).execute(FIRST_PAGE).totalElements());
+
+        categoryMySQLGateway.deleteById(category.getId());
+
+        otherNode.getBean(CategoryInvalidationPoller.class).poll();
+
+        Assertions.assertThrows(NotFoundException.class, () -> otherNode.getBean(GetCategoryByIdUseCase.class).execute(expectedId));
+        Assertions.assertEquals(0, otherNode.getBean(ListCategoriesUseCase.class).execute(FIRST_PAGE).totalElements());
+    }
+
+    //A exclusão é registrada na mesma transação do "DELETE", pois a linha da categoria não existe mais para ser consultada.
+    @Test
+    public void givenDeletedCategories_whenCallsDeleteAllById_shouldRecordTheDeletions() {
+
+        final var since = Instant.now().minusSeconds(1);
+        final var categories = categoryMySQLGateway.createAll(List.of(
+                Category.newCategory("Filmes", null, true),
+                Category.newCategory("Séries", null, true)));
+
+        categoryMySQLGateway.deleteAllById(categories.stream().map(Category::getId).toList());
+
+        final var deletedIds = categoryChangeRepository.findDeletedSince(since, null, 10).stream()
+                .map(CategoryChangeRepository.CategoryDeletion::id)
+                .toList();
+
+        Assertions.assertTrue(deletedIds.containsAll(categories.stream().map(Category::getId).toList()));
+    }
+
+    //Cada alteração é despejada apenas uma vez, mesmo que seja lida novamente dentro do "overlap".
+    @Test
+    public void givenAnAppliedChange_whenPollsAgain_shouldNotInvalidateItAgain() {
+
+        final var poller = otherNode.getBean(CategoryInvalidationPoller.class);
+        final var invalidations = otherNode.getBean(MeterRegistry.class).get("category.cache.invalidations").counter();
+
+        poller.poll();
+
+        categoryMySQLGateway.create(Category.newCategory("Filmes", null, true));
+
+        final var before = invalidations.count();
+
+        poller.poll();
+        poller.poll();
+
+        Assertions.assertEquals(before + 1, invalidations.count());
+    }
+}
@@ -0,0 +1,164 @@
+package com.projetopraticobackend.servicocatalogo.infrastructure.category.cache;
+
+import com.projetopraticobackend.servicocatalogo.domain.category.Category;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryGateway;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryPreview;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategorySearchQuery;
+import com.projetopraticobackend.servicocatalogo.domain.pagination.Pagination;
+import com.projetopraticobackend.servicocatalogo.domain.pagination.SlicePagination;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.AdditionalAnswers;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/* Assim como no "CategoryCacheGatewayTest", o gateway real é um "mock", e contamos quantas vezes a página precisou ser
+* buscada no "banco de dados". */
+@ExtendWith(MockitoExtension.class)
+public class CategoryPageCacheGatewayTest {
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    private CategoryPageCache pageCache;
+
+    private CategoryPageCacheGateway pageCacheGateway;
+
+    @BeforeEach
+    void setUp() {
+        this.pageCache = new CategoryPageCache(100, Duration.ofMinutes(1), Runnable::run);
+        this.pageCacheGateway = new CategoryPageCacheGateway(categoryGateway, pageCache);
+    }
+
+    @Test
+    public void givenEquivalentQueries_whenCallsFindAllTwice_shouldQueryTheDatabaseOnce() {
+
+        final var filmes = Category.newCategory("Filmes", null, true);
+
+        Mockito.when(categoryGateway.findAll(Mockito.any())).thenReturn(new Pagination<>(0, 10, 1, List.of(filmes.clone())));
+
+        final var firstPage = pageCacheGateway.findAll(new CategorySearchQuery(0, 10, "Fil ", "name", "ASC"));
+        final var secondPage = pageCacheGateway.findAll(new CategorySearchQuery(0, 10, "fil", "name", "asc"));
+
+        Assertions.assertEquals(1, secondPage.totalElements());
+        Assertions.assertEquals(filmes.getId(), secondPage.elements().get(0).getId());
+
+        //Cada chamada recebe a sua própria cópia, então alterar uma página não altera o cache.
+        Assertions.assertNotSame(firstPage.elements().get(0), secondPage.elements().get(0));
+
+        Mockito.verify(categoryGateway, Mockito.times(1)).findAll(Mockito.any());
+        Assertions.assertEquals(1, pageCache.stats().hitCount());
+        Assertions.assertEquals(1, pageCache.stats().missCount());
+    }
+
+    @Test
+    public void givenAWrite_whenCallsFindAllPreviewsAgain_shouldNotServeTheStalePage() {
+
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+        final var query = new CategorySearchQuery(0, 10, "", "name", "asc");
+
+        Mockito.when(categoryGateway.findAllPreviews(Mockito.any()))
+                .thenReturn(new Pagination<>(0, 10, 1, List.of(CategoryPreview.from(filmes))))
+                .thenReturn(new Pagination<>(0, 10, 2, List.of(CategoryPreview.from(filmes), CategoryPreview.from(series))));
+
+        Mockito.when(categoryGateway.create(Mockito.any())).thenAnswer(AdditionalAnswers.returnsFirstArg());
+
+        Assertions.assertEquals(1, pageCacheGateway.findAllPreviews(query).totalElements());
+        Assertions.assertEquals(1, pageCacheGateway.findAllPreviews(query).totalElements());
+
+        final var generation = pageCache.generation();
+
+        pageCacheGateway.create(series);
+
+        Assertions.assertEquals(generation + 1, pageCache.generation());
+        Assertions.assertEquals(2, pageCacheGateway.findAllPreviews(query).totalElements());
+
+        Mockito.verify(categoryGateway, Mockito.times(2)).findAllPreviews(Mockito.any());
+    }
+
+    @Test
+    public void givenAFailingDelete_whenCallsFindSlice_shouldStillInvalidateThePages() {
+
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var query = new CategorySearchQuery(0, 10, "", "name", "asc");
+
+        Mockito.when(categoryGateway.findSlice(Mockito.any()))
+                .thenReturn(new SlicePagination<>(0, 10, false, List.of(filmes.clone())));
+        Mockito.doThrow(new IllegalStateException("Gateway error")).when(categoryGateway).deleteById(filmes.getId());
+
+        pageCacheGateway.findSlice(query);
+
+        //Não sabemos o que chegou ao banco de dados, então a página é buscada novamente.
+        Assertions.assertThrows(IllegalStateException.class, () -> pageCacheGateway.deleteById(filmes.getId()));
+
+        pageCacheGateway.findSlice(query);
+
+        Mockito.verify(categoryGateway, Mockito.times(2)).findSlice(Mockito.any());
+    }
+
+    /* Dentro de uma transação, a busca feita entre a escrita e o "commit" ainda vê a página antiga no banco de dados. Ela não
+    * pode ser guardada na geração seguinte, senão continuaria sendo devolvida após o "commit". */
+    @Test
+    public void givenAReadBetweenTheWriteAndTheCommit_whenCallsFindAllAfterTheCommit_shouldNotServeTheOldPage() {
+
+        final var filmes = Category.newCategory("Filmes", null, true);
+        final var series = Category.newCategory("Séries", null, true);
+        final var query = new CategorySearchQuery(0, 10, "", "name", "asc");
+        final var committed = new AtomicBoolean(false);
+
+        Mockito.when(categoryGateway.findAll(Mockito.any())).thenAnswer(invocation -> committed.get()
+                ? new Pagination<>(0, 10, 2, List.of(filmes.clone(), series.clone()))
+                : new Pagination<>(0, 10, 1, List.of(filmes.clone())));
+        Mockito.when(categoryGateway.create(Mockito.any())).thenAnswer(AdditionalAnswers.returnsFirstArg());
+
+        TransactionSynchronizationManager.initSynchronization();
+
+        pageCacheGateway.create(series);
+
+        Assertions.assertEquals(1, pageCacheGateway.findAll(query).totalElements());
+
+        committed.set(true);
+        commit();
+
+        Assertions.assertEquals(2, pageCacheGateway.findAll(query).totalElements());
+    }
+
+    @Test
+    public void givenAMeterRegistry_whenBindsTheCache_shouldExposeHitsAndMisses() {
+
+        final var meterRegistry = new SimpleMeterRegistry();
+        pageCache.bindTo(meterRegistry);
+
+        Mockito.when(categoryGateway.findAll(Mockito.any())).thenReturn(new Pagination<>(0, 10, 0, List.of()));
+
+        final var query = new CategorySearchQuery(0, 10, "", "name", "asc");
+
+        pageCacheGateway.findAll(query);
+        pageCacheGateway.findAll(query);
+        pageCacheGateway.findAll(query);
+
+        Assertions.assertEquals(2, meterRegistry.get("cache.gets").tags("cache", "categoryPages", "result", "hit").functionCounter().count());
+        Assertions.assertEquals(1, meterRegistry.get("cache.gets").tags("cache", "categoryPages", "result", "miss").functionCounter().count());
+    }
+
+    //Simula o "commit" da transação aberta pelo "initSynchronization()", executando as ações registradas nela.
+    private static void commit() {
+        try {
+            TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
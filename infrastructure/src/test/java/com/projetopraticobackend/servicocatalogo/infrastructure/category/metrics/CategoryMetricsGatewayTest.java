@@ -0,0 +1,73 @@
+package com.projetopraticobackend.servicocatalogo.infrastructure.category.metrics;
+
+import com.projetopraticobackend.servicocatalogo.domain.category.Category;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryGateway;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryID;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+/* Nesses testes, o gateway real é um "mock", e as métricas são registradas em um "SimpleMeterRegistry", que guarda
+* tudo em memória. */
+@ExtendWith(MockitoExtension.class)
+public class CategoryMetricsGatewayTest {
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    private CategoryMetricsGateway categoryMetricsGateway;
+
+    @BeforeEach
+    void setUp() {
+        this.meterRegistry = new SimpleMeterRegistry();
+        this.categoryMetricsGateway = new CategoryMetricsGateway(categoryGateway, meterRegistry);
+    }
+
+    @Test
+    public void givenAStoredCategory_whenCallsFindById_shouldRecordEachCallAsASuccess() {
+
+        final var category = Category.newCategory("Filmes", null, true);
+
+        Mockito.when(categoryGateway.findById(category.getId())).thenReturn(Optional.of(category));
+
+        Assertions.assertEquals(category, categoryMetricsGateway.findById(category.getId()).get());
+        Assertions.assertEquals(category, categoryMetricsGateway.findById(category.getId()).get());
+
+        final var timer = meterRegistry.get("gateway.execution")
+                .tags("gateway", "category", "method", "findById", "outcome", "success", "exception", "none")
+                .timer();
+
+        Assertions.assertEquals(2, timer.count());
+    }
+
+    @Test
+    public void givenAGatewayError_whenCallsDeleteById_shouldRecordTheExceptionAndRethrowIt() {
+
+        final var expectedId = CategoryID.unique();
+
+        Mockito.doThrow(new IllegalStateException("Gateway error")).when(categoryGateway).deleteById(expectedId);
+
+        final var actualException = Assertions.assertThrows(IllegalStateException.class,
+                () -> categoryMetricsGateway.deleteById(expectedId));
+
+        Assertions.assertEquals("Gateway error", actualException.getMessage());
+
+        final var timer = meterRegistry.get("gateway.execution")
+                .tags("method", "deleteById", "outcome", "exception", "exception", "IllegalStateException")
+                .timer();
+
+        Assertions.assertEquals(1, timer.count());
+
+        //Nenhum sucesso foi registrado para esse método.
+        Assertions.assertNull(meterRegistry.find("gateway.execution").tags("method", "deleteById", "outcome", "success").timer());
+    }
+}
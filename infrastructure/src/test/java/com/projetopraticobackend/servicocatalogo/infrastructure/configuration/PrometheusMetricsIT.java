@@ -0,0 +1,37 @@
+package com.projetopraticobackend.servicocatalogo.infrastructure.configuration;
+
+import com.projetopraticobackend.servicocatalogo.IntegrationTest;
+import com.projetopraticobackend.servicocatalogo.application.category.create.CreateCategoryCommand;
+import com.projetopraticobackend.servicocatalogo.application.category.create.CreateCategoryUseCase;
+import io.micrometer.prometheus.PrometheusMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.metrics.AutoConfigureMetrics;
+
+/* Por padrão, o Spring Boot não publica as métricas no Prometheus durante os testes. O "@AutoConfigureMetrics" cria o
+* "PrometheusMeterRegistry", que é o mesmo que responde o "/actuator/prometheus". */
+@IntegrationTest
+@AutoConfigureMetrics
+public class PrometheusMetricsIT {
+
+    @Autowired
+    private CreateCategoryUseCase createCategoryUseCase;
+
+    @Autowired
+    private PrometheusMeterRegistry prometheusMeterRegistry;
+
+    @Test
+    public void givenACreatedCategory_whenScrapesPrometheus_shouldExposeUseCaseGatewayAndPoolMetrics() {
+
+        Assertions.assertTrue(createCategoryUseCase.execute(CreateCategoryCommand.with("Filmes", null, true)).isRight());
+
+        final var scrape = prometheusMeterRegistry.scrape();
+
+        Assertions.assertTrue(scrape.contains("usecase_execution_seconds_bucket{"));
+        Assertions.assertTrue(scrape.contains("usecase=\"CreateCategory\""));
+        Assertions.assertTrue(scrape.contains("gateway_execution_seconds_count{"));
+        Assertions.assertTrue(scrape.contains("method=\"create\""));
+        Assertions.assertTrue(scrape.contains("hikaricp_connections_active"));
+    }
+}
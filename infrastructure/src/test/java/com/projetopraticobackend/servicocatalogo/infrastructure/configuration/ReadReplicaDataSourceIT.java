@@ -0,0 +1,131 @@
+package com.projetopraticobackend.servicocatalogo.infrastructure.configuration;
+
+import com.projetopraticobackend.servicocatalogo.IntegrationTest;
+import com.projetopraticobackend.servicocatalogo.application.category.create.CreateCategoryCommand;
+import com.projetopraticobackend.servicocatalogo.application.category.create.CreateCategoryUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.retrieve.get.GetCategoryByIdUseCase;
+import com.projetopraticobackend.servicocatalogo.application.category.retrieve.list.ListCategoriesUseCase;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategoryID;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategorySearchQuery;
+import com.projetopraticobackend.servicocatalogo.infrastructure.category.persistence.CategoryIdType;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Instant;
+
+/* Aqui, a réplica é um segundo banco H2 em memória, que não recebe nada do principal. Assim, sabemos exatamente de qual
+* banco de dados cada caso de uso leu ou em qual ele escreveu. */
+@IntegrationTest
+@TestPropertySource(properties = {
+        "spring.datasource.replica.enabled=true",
+        "spring.datasource.replica.jdbc-url=jdbc:h2:mem:adm_videos_replica;MODE=MYSQL;DATABASE_TO_LOWER=true",
+        "spring.datasource.replica.driver-class-name=org.h2.Driver"
+})
+public class ReadReplicaDataSourceIT {
+
+    @Autowired
+    private GetCategoryByIdUseCase getCategoryByIdUseCase;
+
+    @Autowired
+    private ListCategoriesUseCase listCategoriesUseCase;
+
+    @Autowired
+    private CreateCategoryUseCase createCategoryUseCase;
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    private DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    private DataSource replicaDataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    //Em produção, a réplica recebe as tabelas e os dados do principal. Aqui, criamos as tabelas com as mesmas migrações.
+    @BeforeEach
+    void migrateReplica() {
+        Flyway.configure()
+                .dataSource(replicaDataSource)
+                .locations("classpath:db/migration", "classpath:db/vendor/h2")
+                .load()
+                .migrate();
+
+        inReplicaTransaction("DELETE FROM category");
+    }
+
+    @Test
+    public void givenACategoryOnlyInTheReplica_whenCallsGetAndListCategories_shouldReadFromTheReplica() {
+
+        final var expectedId = CategoryID.unique().getValue();
+
+        insertIntoReplica(expectedId, "Filmes");
+
+        Assertions.assertEquals("Filmes", getCategoryByIdUseCase.execute(expectedId).name());
+
+        final var page = listCategoriesUseCase.execute(new CategorySearchQuery(0, 10, "", "name", "asc"));
+
+        Assertions.assertEquals(1, page.totalElements());
+        Assertions.assertEquals(expectedId, page.elements().get(0).id().getValue());
+
+        Assertions.assertEquals(0, count(primary()));
+    }
+
+    @Test
+    public void givenAValidCommand_whenCallsCreateCategory_shouldWriteToThePrimary() {
+
+        Assertions.assertTrue(createCategoryUseCase.execute(CreateCategoryCommand.with("Filmes", null, true)).isRight());
+
+        Assertions.assertEquals(1, count(primary()));
+        Assertions.assertEquals(0, count(replica()));
+    }
+
+    //Cada "pool" tem as suas próprias métricas, diferenciadas pela "tag" "pool".
+    @Test
+    public void givenBothPools_whenReadsAndWrites_shouldPublishMetricsPerPool() {
+
+        createCategoryUseCase.execute(CreateCategoryCommand.with("Filmes", null, true));
+        listCategoriesUseCase.execute(new CategorySearchQuery(0, 10, "", "name", "asc"));
+
+        Assertions.assertNotNull(meterRegistry.find("hikaricp.connections.active").tag("pool", "master").gauge());
+        Assertions.assertNotNull(meterRegistry.find("hikaricp.connections.active").tag("pool", "replica").gauge());
+        Assertions.assertEquals(0, meterRegistry.get("datasource.replica.fallbacks").counter().count());
+    }
+
+    private void insertIntoReplica(final String id, final String name) {
+        final var now = Timestamp.from(Instant.now());
+
+        inReplicaTransaction("INSERT INTO category (id, name, description, active, created_at, updated_at, deleted_at, version) VALUES (?, ?, NULL, TRUE, ?, ?, NULL, 0)",
+                CategoryIdType.toBinary(id), name, now, now);
+    }
+
+    //As conexões do Hikari não têm o "auto-commit", então as escritas feitas diretamente na réplica precisam de uma transação.
+    private void inReplicaTransaction(final String sql, final Object... args) {
+        new TransactionTemplate(new DataSourceTransactionManager(replicaDataSource))
+                .executeWithoutResult(status -> replica().update(sql, args));
+    }
+
+    private JdbcTemplate primary() {
+        return new JdbcTemplate(primaryDataSource);
+    }
+
+    private JdbcTemplate replica() {
+        return new JdbcTemplate(replicaDataSource);
+    }
+
+    private static long count(final JdbcTemplate jdbcTemplate) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM category", Long.class);
+    }
+}
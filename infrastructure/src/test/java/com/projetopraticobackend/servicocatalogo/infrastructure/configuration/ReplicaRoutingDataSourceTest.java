@@ -0,0 +1,90 @@
+package com.projetopraticobackend.servicocatalogo.infrastructure.configuration;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/* Aqui, o principal e a réplica são dois bancos H2 em memória, e cada consulta devolve o nome do banco de dados em que
+* ela foi executada. */
+public class ReplicaRoutingDataSourceTest {
+
+    private static final String SELECT_DATABASE = "SELECT LOWER(DATABASE())";
+
+    private final DataSource primary = new DriverManagerDataSource("jdbc:h2:mem:routing_primary;DB_CLOSE_DELAY=-1");
+
+    private final DataSource replica = new DriverManagerDataSource("jdbc:h2:mem:routing_replica;DB_CLOSE_DELAY=-1");
+
+    //Não existe nenhum driver para essa URL, então toda conexão falha, como uma réplica fora do ar.
+    private final DataSource unavailableReplica = new DriverManagerDataSource("jdbc:unavailable:replica");
+
+    private final Counter fallbacks = new SimpleMeterRegistry().counter("datasource.replica.fallbacks");
+
+    @Test
+    public void givenAReadOnlyTransaction_whenQueries_shouldUseTheReplica() {
+
+        final var routing = routing(replica, Duration.ofSeconds(5));
+
+        Assertions.assertEquals("routing_replica", query(routing, true));
+        Assertions.assertEquals(0, fallbacks.count());
+    }
+
+    @Test
+    public void givenAReadWriteTransaction_whenQueries_shouldUseThePrimary() {
+
+        final var routing = routing(replica, Duration.ofSeconds(5));
+
+        Assertions.assertEquals("routing_primary", query(routing, false));
+    }
+
+    @Test
+    public void givenNoTransaction_whenQueries_shouldUseThePrimary() {
+
+        final var routing = routing(replica, Duration.ofSeconds(5));
+
+        Assertions.assertEquals("routing_primary", new JdbcTemplate(routing).queryForObject(SELECT_DATABASE, String.class));
+    }
+
+    @Test
+    public void givenAnUnavailableReplica_whenQueriesInAReadOnlyTransaction_shouldFallBackToThePrimary() {
+
+        final var routing = routing(unavailableReplica, Duration.ofSeconds(5));
+
+        Assertions.assertEquals("routing_primary", query(routing, true));
+        Assertions.assertEquals(1, fallbacks.count());
+
+        //Durante o "retryInterval", a réplica nem é tentada, então a falha não é contada novamente.
+        Assertions.assertEquals("routing_primary", query(routing, true));
+        Assertions.assertEquals(1, fallbacks.count());
+    }
+
+    @Test
+    public void givenAnUnavailableReplicaAndNoRetryInterval_whenQueriesInAReadOnlyTransaction_shouldTryTheReplicaEveryTime() {
+
+        final var routing = routing(unavailableReplica, Duration.ZERO);
+
+        Assertions.assertEquals("routing_primary", query(routing, true));
+        Assertions.assertEquals("routing_primary", query(routing, true));
+        Assertions.assertEquals(2, fallbacks.count());
+    }
+
+    //É a mesma montagem do "ReadReplicaDataSourceConfig".
+    private DataSource routing(final DataSource replica, final Duration retryInterval) {
+        return new LazyConnectionDataSourceProxy(new ReplicaRoutingDataSource(primary, replica, retryInterval, fallbacks));
+    }
+
+    private static String query(final DataSource dataSource, final boolean readOnly) {
+        final var transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        transactionTemplate.setReadOnly(readOnly);
+
+        return transactionTemplate.execute(status -> new JdbcTemplate(dataSource).queryForObject(SELECT_DATABASE, String.class));
+    }
+}
@@ -0,0 +1,175 @@
+package com.projetopraticobackend.servicocatalogo.infrastructure.configuration;
+
+import com.projetopraticobackend.servicocatalogo.IntegrationTest;
+import com.projetopraticobackend.servicocatalogo.SqlStatistics;
+import com.projetopraticobackend.servicocatalogo.domain.category.Category;
+import com.projetopraticobackend.servicocatalogo.domain.category.CategorySearchQuery;
+import com.projetopraticobackend.servicocatalogo.infrastructure.category.CategoryMySQLGateway;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+
+/* Aqui, chamamos o "CategoryMySQLGateway" diretamente, sem o cache da aplicação ("CategoryCacheGateway"), para medirmos
+* apenas o cache de segundo nível do Hibernate. Com o cache, uma leitura repetida não envia nenhum comando SQL, e toda
+* escrita feita pelo gateway deve aparecer na leitura seguinte. */
+@IntegrationTest
+@TestPropertySource(properties = "category.cache.second-level.enabled=true")
+public class SecondLevelCacheIT {
+
+    private static final CategorySearchQuery FIRST_PAGE = new CategorySearchQuery(0, 1, "", "name", "asc");
+
+    @Autowired
+    private CategoryMySQLGateway categoryMySQLGateway;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    public void givenACreatedCategory_whenCallsFindById_shouldReadFromTheCache(final SqlStatistics sqlStatistics) {
+
+        final var category = categoryMySQLGateway.create(Category.newCategory("Filmes", null, true));
+
+        final var counts = sqlStatistics.measure(() ->
+                Assertions.assertEquals("Filmes", categoryMySQLGateway.findById(category.getId()).orElseThrow().getName()));
+
+        Assertions.assertEquals(SqlStatistics.Counts.of(0, 0, 0), counts);
+    }
+
+    //O "merge()" do "update" encontra a categoria no cache, então apenas o "UPDATE" é enviado.
+    @Test
+    public void givenACachedCategory_whenCallsUpdate_shouldSendOnlyTheUpdateAndCacheTheNewState(final SqlStatistics sqlStatistics) {
+
+        final var category = categoryMySQLGateway.create(Category.newCategory("Filme", null, true));
+
+        final var updateCounts = sqlStatistics.measure(() ->
+                categoryMySQLGateway.update(Category.with(category).update("Filmes", "A categoria mais assistida", true)));
+
+        Assertions.assertEquals(1, updateCounts.statements());
+
+        final var findCounts = sqlStatistics.measure(() ->
+                Assertions.assertEquals("Filmes", categoryMySQLGateway.findById(category.getId()).orElseThrow().getName()));
+
+        Assertions.assertEquals(SqlStatistics.Counts.of(0, 0, 0), findCounts);
+    }
+
+    @Test
+    public void givenACachedCategory_whenCallsUpdateById_shouldNotReturnTheOldState() {
+
+        final var category = categoryMySQLGateway.create(Category.newCategory("Filme", null, true));
+        categoryMySQLGateway.findById(category.getId());
+
+        categoryMySQLGateway.updateById(Category.with(category).update("Filmes", null, true)).orElseThrow();
+
+        final var actualCategory = categoryMySQLGateway.findById(category.getId()).orElseThrow();
+
+        Assertions.assertEquals("Filmes", actualCategory.getName());
+        Assertions.assertEquals(category.getVersion() + 1, actualCategory.getVersion());
+    }
+
+    //Apenas a entrada da categoria alterada ou excluída deixa o cache. As demais continuam sendo lidas sem nenhum comando.
+    @Test
+    public void givenCachedCategories_whenCallsUpdateByIdAndDeleteById_shouldKeepTheOthersCached(final SqlStatistics sqlStatistics) {
+
+        final var categories = categoryMySQLGateway.createAll(List.of(
+                Category.newCategory("Filme", null, true),
+                Category.newCategory("Série", null, true),
+                Category.newCategory("Documentários", null, true)));
+
+        final var untouched = categories.get(2);
+        categories.forEach(category -> categoryMySQLGateway.findById(category.getId()));
+
+        categoryMySQLGateway.updateById(Category.with(categories.get(0)).update("Filmes", null, true)).orElseThrow();
+        categoryMySQLGateway.deleteById(categories.get(1).getId());
+
+        final var counts = sqlStatistics.measure(() ->
+                Assertions.assertEquals("Documentários", categoryMySQLGateway.findById(untouched.getId()).orElseThrow().getName()));
+
+        Assertions.assertEquals(SqlStatistics.Counts.of(0, 0, 0), counts);
+        Assertions.assertEquals("Filmes", categoryMySQLGateway.findById(categories.get(0).getId()).orElseThrow().getName());
+        Assertions.assertTrue(categoryMySQLGateway.findById(categories.get(1).getId()).isEmpty());
+    }
+
+    //A versão é comparada com a linha atual, e não com a do cache, então uma versão antiga continua sendo rejeitada.
+    @Test
+    public void givenAnOldVersion_whenCallsUpdateById_shouldNotUpdate() {
+
+        final var category = categoryMySQLGateway.create(Category.newCategory("Filme", null, true));
+
+        categoryMySQLGateway.updateById(Category.with(category).update("Filmes", null, true)).orElseThrow();
+
+        Assertions.assertTrue(categoryMySQLGateway.updateById(Category.with(category).update("Séries", null, true)).isEmpty());
+        Assertions.assertEquals("Filmes", categoryMySQLGateway.findById(category.getId()).orElseThrow().getName());
+    }
+
+    @Test
+    public void givenACachedPage_whenCallsFindAllAgain_shouldNotQueryTheDatabase(final SqlStatistics sqlStatistics) {
+
+        categoryMySQLGateway.createAll(List.of(
+                Category.newCategory("Filmes", null, true),
+                Category.newCategory("Séries", null, true)));
+
+        categoryMySQLGateway.findAll(FIRST_PAGE);
+        categoryMySQLGateway.findAllPreviews(FIRST_PAGE);
+
+        final var counts = sqlStatistics.measure(() -> {
+            Assertions.assertEquals(2, categoryMySQLGateway.findAll(FIRST_PAGE).totalElements());
+            Assertions.assertEquals(2, categoryMySQLGateway.findAllPreviews(FIRST_PAGE).totalElements());
+        });
+
+        Assertions.assertEquals(SqlStatistics.Counts.of(0, 0, 0), counts);
+    }
+
+    //Qualquer escrita na tabela "category" invalida as buscas guardadas antes dela.
+    @Test
+    public void givenACachedPage_whenCategoriesAreCreatedAndDeleted_shouldNotReturnTheOldPage() {
+
+        final var category = categoryMySQLGateway.create(Category.newCategory("Filmes", null, true));
+
+        Assertions.assertEquals(1, categoryMySQLGateway.findAll(FIRST_PAGE).totalElements());
+
+        categoryMySQLGateway.createAll(List.of(Category.newCategory("Séries", null, true)));
+
+        Assertions.assertEquals(2, categoryMySQLGateway.findAll(FIRST_PAGE).totalElements());
+        Assertions.assertEquals(2, categoryMySQLGateway.findAllPreviews(FIRST_PAGE).totalElements());
+
+        categoryMySQLGateway.deleteById(category.getId());
+
+        Assertions.assertTrue(categoryMySQLGateway.findById(category.getId()).isEmpty());
+        Assertions.assertEquals("Séries", categoryMySQLGateway.findAll(FIRST_PAGE).elements().get(0).getName());
+        Assertions.assertEquals(1, categoryMySQLGateway.findAllPreviews(FIRST_PAGE).totalElements());
+    }
+
+    @Test
+    public void givenCachedCategories_whenCallsDeleteAllById_shouldNotReturnThem() {
+
+        final var categories = categoryMySQLGateway.createAll(List.of(
+                Category.newCategory("Filmes", null, true),
+                Category.newCategory("Séries", null, true)));
+
+        categories.forEach(category -> categoryMySQLGateway.findById(category.getId()));
+
+        categoryMySQLGateway.deleteAllById(categories.stream().map(Category::getId).toList());
+
+        categories.forEach(category -> Assertions.assertTrue(categoryMySQLGateway.findById(category.getId()).isEmpty()));
+        Assertions.assertEquals(0, categoryMySQLGateway.findAll(FIRST_PAGE).totalElements());
+    }
+
+    @Test
+    public void givenACacheHit_whenReadsTheMetrics_shouldExposeTheRegionStatistics() {
+
+        final var category = categoryMySQLGateway.create(Category.newCategory("Filmes", null, true));
+        categoryMySQLGateway.findById(category.getId());
+
+        final var hits = meterRegistry.get("hibernate.second.level.cache.requests")
+                .tag("region", "category")
+                .tag("result", "hit")
+                .functionCounter();
+
+        Assertions.assertTrue(hits.count() >= 1);
+        Assertions.assertNotNull(meterRegistry.get("hibernate.cache.query.requests").tag("result", "hit").functionCounter());
+    }
+}
@@ -0,0 +1,62 @@
+package com.projetopraticobackend.servicocatalogo.infrastructure.configuration.usecases;
+
+import com.projetopraticobackend.servicocatalogo.application.category.create.CreateCategoryCommand;
+import com.projetopraticobackend.servicocatalogo.application.category.create.CreateCategoryOutput;
+import com.projetopraticobackend.servicocatalogo.application.category.create.CreateCategoryUseCase;
+import com.projetopraticobackend.servicocatalogo.domain.validation.Error;
+import com.projetopraticobackend.servicocatalogo.domain.validation.handler.Notification;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.vavr.API;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class CategoryUseCaseMetricsTest {
+
+    @Mock
+    private CreateCategoryUseCase createCategoryUseCase;
+
+    @Test
+    public void givenSuccessesAndNotifications_whenCallsCreateCategory_shouldCountEachOutcome() {
+
+        final var meterRegistry = new SimpleMeterRegistry();
+        final var useCase = new CategoryUseCaseMetrics(meterRegistry).createCategory(createCategoryUseCase);
+
+        final var validCommand = CreateCategoryCommand.with("Filmes", null, true);
+        final var invalidCommand = CreateCategoryCommand.with(null, null, true);
+
+        Mockito.when(createCategoryUseCase.execute(validCommand)).thenReturn(API.Right(CreateCategoryOutput.from("123")));
+        Mockito.when(createCategoryUseCase.execute(invalidCommand))
+                .thenReturn(API.Left(Notification.create(new Error("'name' should not be null"))));
+
+        Assertions.assertTrue(useCase.execute(validCommand).isRight());
+        Assertions.assertTrue(useCase.execute(validCommand).isRight());
+        Assertions.assertTrue(useCase.execute(invalidCommand).isLeft()); //O resultado do caso de uso real é devolvido sem alterações.
+
+        Assertions.assertEquals(2, meterRegistry.get("usecase.execution").tags("usecase", "CreateCategory", "outcome", "success").timer().count());
+        Assertions.assertEquals(1, meterRegistry.get("usecase.execution").tags("usecase", "CreateCategory", "outcome", "notification").timer().count());
+    }
+
+    @Test
+    public void givenAnException_whenCallsCreateCategory_shouldRecordTheExceptionOutcome() {
+
+        final var meterRegistry = new SimpleMeterRegistry();
+        final var useCase = new CategoryUseCaseMetrics(meterRegistry).createCategory(createCategoryUseCase);
+
+        final var command = CreateCategoryCommand.with("Filmes", null, true);
+
+        Mockito.when(createCategoryUseCase.execute(command)).thenThrow(new IllegalStateException("Gateway error"));
+
+        Assertions.assertThrows(IllegalStateException.class, () -> useCase.execute(command));
+
+        final var timer = meterRegistry.get("usecase.execution")
+                .tags("usecase", "CreateCategory", "outcome", "exception", "exception", "IllegalStateException")
+                .timer();
+
+        Assertions.assertEquals(1, timer.count());
+    }
+}
@@ -0,0 +1,24 @@
+package com.projetopraticobackend.servicocatalogo.infrastructure.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+public class SpecificationUtilsTest {
+
+    /* Os operadores do "BOOLEAN MODE" digitados pelo usuário devem ser removidos, e cada palavra deve ser buscada pelo prefixo. */
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+            "fil|fil*",
+            "da Amazon|da* Amazon*",
+            "  netflix   originals |netflix* originals*",
+            "+filmes -séries|filmes* séries*",
+            "\"kids\" (crianças)~|kids* crianças*",
+            "@*<>|''"
+    })
+    public void givenUserTerms_whenCallsBooleanModeTerms_shouldReturnPrefixTermsWithoutOperators(final String terms,
+                                                                                                 final String expectedBooleanModeTerms) {
+
+        Assertions.assertEquals(expectedBooleanModeTerms, SpecificationUtils.booleanModeTerms(terms));
+    }
+}